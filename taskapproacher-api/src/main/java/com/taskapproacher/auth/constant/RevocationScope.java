@@ -0,0 +1,8 @@
+package com.taskapproacher.auth.constant;
+
+public enum RevocationScope {
+    // One access token, by its jti claim.
+    TOKEN,
+    // Every access token of a user issued before the revocation.
+    USER;
+}
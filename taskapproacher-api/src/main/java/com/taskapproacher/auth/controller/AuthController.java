@@ -1,6 +1,7 @@
 package com.taskapproacher.auth.controller;
 
 import com.taskapproacher.auth.model.AuthRequest;
+import com.taskapproacher.auth.model.RefreshRequest;
 import com.taskapproacher.auth.model.RegisterRequest;
 import com.taskapproacher.auth.model.AuthResponse;
 import com.taskapproacher.auth.service.AuthService;
@@ -8,9 +9,11 @@ import com.taskapproacher.auth.service.AuthService;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,4 +36,17 @@ public class AuthController {
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
         return ResponseEntity.ok(authService.authenticate(request));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorizationHeader,
+            @RequestBody(required = false) RefreshRequest request) {
+        authService.logout(authorizationHeader, request);
+        return ResponseEntity.noContent().build();
+    }
 }
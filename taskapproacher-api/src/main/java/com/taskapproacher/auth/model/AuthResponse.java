@@ -5,8 +5,5 @@ import lombok.Value;
 @Value
 public class AuthResponse {
     String token;
-
-    public AuthResponse(String token) {
-        this.token = token;
-    }
+    String refreshToken;
 }
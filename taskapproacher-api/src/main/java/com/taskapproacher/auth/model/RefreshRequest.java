@@ -0,0 +1,8 @@
+package com.taskapproacher.auth.model;
+
+import lombok.Value;
+
+@Value
+public class RefreshRequest {
+    String refreshToken;
+}
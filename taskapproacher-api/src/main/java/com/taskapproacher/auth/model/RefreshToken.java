@@ -0,0 +1,61 @@
+package com.taskapproacher.auth.model;
+
+import com.taskapproacher.user.model.User;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+Refresh token of a user, only the SHA-256 of the opaque token is stored. The tokens rotated from one login form a
+family: each token is used once, a used token presented again revokes the family. The token version of the user is
+copied, so a credentials change makes the tokens issued before it unusable.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "refresh_tokens",
+       indexes = {@Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+                  @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID ID;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userID;
+
+    // Read-only side of user_id, tokens are issued from a principal without loading the user.
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyID;
+
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
+    @Column(name = "used", nullable = false)
+    private boolean used;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public RefreshToken(String tokenHash, UUID userID, int tokenVersion, UUID familyID, Instant expiresAt) {
+        this(null, tokenHash, userID, null, familyID, tokenVersion, false, expiresAt);
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskapproacher.auth.model;
+
+import com.taskapproacher.auth.constant.RevocationScope;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+Persisted entry of the token denylist, so revocations survive a restart and reach the other instances. The ID is
+the jti of a revoked token or the ID of a user whose earlier tokens are revoked. An entry is only needed until the
+tokens it covers would have expired anyway.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_tokens",
+       indexes = {@Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+                  @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")})
+public class RevokedToken {
+    @Id
+    private UUID ID;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 10)
+    private RevocationScope scope;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
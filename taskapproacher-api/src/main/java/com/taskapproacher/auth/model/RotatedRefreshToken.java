@@ -0,0 +1,10 @@
+package com.taskapproacher.auth.model;
+
+import lombok.Value;
+
+// The owner of a presented refresh token and the token replacing it.
+@Value
+public class RotatedRefreshToken {
+    UserPrincipal principal;
+    String refreshToken;
+}
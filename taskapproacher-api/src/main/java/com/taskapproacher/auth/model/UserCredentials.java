@@ -0,0 +1,33 @@
+package com.taskapproacher.auth.model;
+
+import com.taskapproacher.user.constant.Role;
+
+import lombok.Value;
+import lombok.With;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/*
+The columns of a user needed to check a password and mint its tokens, read as one projection instead of the entity.
+Returned by UserDetailsServiceImpl and kept as the principal of the login, see AuthService.authenticate.
+ */
+@Value
+public class UserCredentials implements UserDetails {
+    UUID ID;
+    String username;
+    @With
+    String password;
+    Role role;
+    int tokenVersion;
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
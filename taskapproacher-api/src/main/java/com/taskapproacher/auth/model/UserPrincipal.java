@@ -0,0 +1,45 @@
+package com.taskapproacher.auth.model;
+
+import com.taskapproacher.user.constant.Role;
+import com.taskapproacher.user.model.User;
+
+import lombok.Value;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/*
+Lightweight authenticated principal, built from verified token claims without loading the user entity.
+Holds no password, so it can't be used to authenticate credentials.
+ */
+@Value
+public class UserPrincipal implements UserDetails {
+    UUID ID;
+    String username;
+    Role role;
+    int tokenVersion;
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getID(), user.getUsername(), user.getRole(), user.getTokenVersion());
+    }
+
+    public static UserPrincipal from(UserCredentials credentials) {
+        return new UserPrincipal(credentials.getID(), credentials.getUsername(), credentials.getRole(),
+                                 credentials.getTokenVersion());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskapproacher.auth.repository;
+
+import com.taskapproacher.auth.model.RefreshToken;
+import com.taskapproacher.config.persistence.UnitOfWork;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class RefreshTokenRepository {
+    private final UnitOfWork unitOfWork;
+
+    @Autowired
+    public RefreshTokenRepository(UnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
+    }
+
+    // The token with its user, looked up by the unique index of the hash.
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            RefreshToken refreshToken = session.createQuery(
+                                                       """
+                                                               FROM RefreshToken r
+                                                               JOIN FETCH r.user
+                                                               WHERE r.tokenHash = :tokenHash
+                                                               """,
+                                                       RefreshToken.class)
+                                               .setParameter("tokenHash", tokenHash)
+                                               .uniqueResult();
+
+            transaction.commit();
+
+            return Optional.ofNullable(refreshToken);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find refresh token", exception);
+        }
+    }
+
+    public RefreshToken save(RefreshToken refreshToken) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            session.persist(refreshToken);
+            session.flush();
+
+            transaction.commit();
+
+            return refreshToken;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to save refresh token of family: "
+                                         + refreshToken.getFamilyID(), exception);
+        }
+    }
+
+    /*
+    Marks the token used and saves its successor in one transaction. The mark is conditional, of two concurrent
+    rotations of the same token only one succeeds, the other gets false and is treated as a reuse.
+     */
+    public boolean rotate(RefreshToken usedToken, RefreshToken successor) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            int marked = session.createMutationQuery(
+                                        """
+                                                UPDATE RefreshToken
+                                                SET used = true
+                                                WHERE ID = :id AND used = false
+                                                """)
+                                .setParameter("id", usedToken.getID())
+                                .executeUpdate();
+            if (marked > 0) {
+                session.persist(successor);
+                session.flush();
+            }
+
+            transaction.commit();
+
+            return marked > 0;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to rotate refresh token of family: "
+                                         + usedToken.getFamilyID(), exception);
+        }
+    }
+
+    public int deleteFamily(UUID familyID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            int deleted = session.createMutationQuery("DELETE FROM RefreshToken WHERE familyID = :familyID")
+                                 .setParameter("familyID", familyID)
+                                 .executeUpdate();
+
+            transaction.commit();
+
+            return deleted;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to delete refresh token family: " + familyID, exception);
+        }
+    }
+
+    // Served by idx_refresh_tokens_expires_at.
+    public int deleteExpired(Instant now) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            int deleted = session.createMutationQuery("DELETE FROM RefreshToken WHERE expiresAt < :now")
+                                 .setParameter("now", now)
+                                 .executeUpdate();
+
+            transaction.commit();
+
+            return deleted;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to delete refresh tokens expired before: " + now, exception);
+        }
+    }
+}
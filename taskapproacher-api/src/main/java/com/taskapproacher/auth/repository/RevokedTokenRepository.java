@@ -0,0 +1,95 @@
+package com.taskapproacher.auth.repository;
+
+import com.taskapproacher.auth.model.RevokedToken;
+import com.taskapproacher.config.persistence.UnitOfWork;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class RevokedTokenRepository {
+    private final UnitOfWork unitOfWork;
+
+    @Autowired
+    public RevokedTokenRepository(UnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
+    }
+
+    // Merged, a user revoked again keeps one entry with the latest revocation time.
+    public RevokedToken save(RevokedToken revokedToken) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            RevokedToken savedToken = session.merge(revokedToken);
+            session.flush();
+
+            transaction.commit();
+
+            return savedToken;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to save revoked token: " + revokedToken.getID(), exception);
+        }
+    }
+
+    // Entries revoked after the given time that haven't expired yet, served by idx_revoked_tokens_revoked_at.
+    public List<RevokedToken> findRevokedSince(Instant since, Instant now) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openReadOnlySession()) {
+            transaction = session.beginTransaction();
+
+            List<RevokedToken> revokedTokens = session.createQuery(
+                                                              """
+                                                                      FROM RevokedToken
+                                                                      WHERE revokedAt > :since AND expiresAt > :now
+                                                                      """,
+                                                              RevokedToken.class)
+                                                      .setParameter("since", since)
+                                                      .setParameter("now", now)
+                                                      .list();
+
+            transaction.commit();
+
+            return revokedTokens;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find tokens revoked since: " + since, exception);
+        }
+    }
+
+    // Served by idx_revoked_tokens_expires_at.
+    public int deleteExpired(Instant now) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            int deleted = session.createMutationQuery("DELETE FROM RevokedToken WHERE expiresAt < :now")
+                                 .setParameter("now", now)
+                                 .executeUpdate();
+
+            transaction.commit();
+
+            return deleted;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to delete revoked tokens expired before: " + now, exception);
+        }
+    }
+}
@@ -1,49 +1,59 @@
 package com.taskapproacher.auth.service;
 
 import com.taskapproacher.common.constant.ExceptionMessage;
-import com.taskapproacher.task.model.Task;
-import com.taskapproacher.task.model.TaskBoard;
 
-import com.taskapproacher.task.service.TaskBoardService;
-import com.taskapproacher.task.service.TaskService;
+import jakarta.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class AccessCheckService {
-    private final TaskBoardService taskBoardService;
-    private final TaskService taskService;
+    private final OwnershipIndex ownershipIndex;
 
     @Autowired
-    public AccessCheckService(TaskBoardService taskBoardService, TaskService taskService) {
-        this.taskBoardService = taskBoardService;
-        this.taskService = taskService;
+    public AccessCheckService(OwnershipIndex ownershipIndex) {
+        this.ownershipIndex = ownershipIndex;
     }
 
-    public boolean hasAccessToBoard(UUID boardID, UUID principalID) throws IllegalArgumentException {
+    public boolean hasAccessToBoard(UUID boardID, UUID principalID)
+            throws IllegalArgumentException, EntityNotFoundException {
         if (boardID == null || principalID == null) {
             String wrongValue = (boardID == null) ? "Task board id " : "Principal id ";
 
             throw new IllegalArgumentException(wrongValue + ExceptionMessage.NULL);
         }
 
-        TaskBoard foundBoard = taskBoardService.findByID(boardID);
+        UUID ownerID = ownershipIndex.findUserID(boardID).orElseThrow(
+                () -> new EntityNotFoundException("Task board " + ExceptionMessage.NOT_FOUND)
+        );
 
-        return foundBoard.getUser().getID().equals(principalID);
+        return ownerID.equals(principalID);
     }
 
-    public boolean hasAccessToTask(UUID taskID, UUID principalID) {
+    public boolean hasAccessToTask(UUID taskID, UUID principalID)
+            throws IllegalArgumentException, EntityNotFoundException {
         if (taskID == null || principalID == null) {
             String wrongValue = (taskID == null) ? "Task id " : "Principal id ";
 
             throw new IllegalArgumentException(wrongValue + ExceptionMessage.NULL);
         }
 
-        Task task = taskService.findByID(taskID);
+        UUID boardID = ownershipIndex.findTaskBoardID(taskID).orElseThrow(
+                () -> new EntityNotFoundException("Task " + ExceptionMessage.NOT_FOUND)
+        );
 
-        return task.getTaskBoard().getUser().getID().equals(principalID);
+        Optional<UUID> ownerID = ownershipIndex.findUserID(boardID);
+        if (ownerID.isEmpty()) {
+            // The board was removed together with the task, the cached task entry is stale.
+            ownershipIndex.invalidateTask(taskID);
+
+            throw new EntityNotFoundException("Task " + ExceptionMessage.NOT_FOUND);
+        }
+
+        return ownerID.get().equals(principalID);
     }
 }
@@ -1,27 +1,44 @@
 package com.taskapproacher.auth.service;
 
 import com.taskapproacher.auth.model.AuthRequest;
+import com.taskapproacher.auth.model.RefreshRequest;
 import com.taskapproacher.auth.model.RegisterRequest;
 import com.taskapproacher.auth.model.AuthResponse;
+import com.taskapproacher.auth.model.RotatedRefreshToken;
+import com.taskapproacher.auth.model.UserCredentials;
+import com.taskapproacher.auth.model.UserPrincipal;
 import com.taskapproacher.user.model.User;
 import com.taskapproacher.user.service.UserService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 public class AuthService {
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final UserService userService;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenDenylist tokenDenylist;
 
     @Autowired
-    public AuthService(UserService userService, JwtService jwtService, AuthenticationManager authenticationManager) {
+    public AuthService(UserService userService, JwtService jwtService, AuthenticationManager authenticationManager,
+                       RefreshTokenService refreshTokenService, TokenDenylist tokenDenylist) {
         this.userService = userService;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenDenylist = tokenDenylist;
     }
 
     public AuthResponse register(RegisterRequest request) {
@@ -29,18 +46,59 @@ public class AuthService {
 
         User createdUser = userService.createUser(user);
 
-        String jwtToken = jwtService.generateToken(createdUser);
-        return new AuthResponse(jwtToken);
+        UserPrincipal principal = UserPrincipal.from(createdUser);
+
+        String jwtToken = jwtService.generateToken(principal);
+        return new AuthResponse(jwtToken, refreshTokenService.issue(principal));
     }
 
     public AuthResponse authenticate(AuthRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
         );
 
-        User user = userService.findByUsername(request.getUsername());
+        // The credentials projection loaded for the password check, the user isn't read a second time.
+        UserPrincipal principal = UserPrincipal.from((UserCredentials) authentication.getPrincipal());
+
+        String jwtToken = jwtService.generateToken(principal);
+        return new AuthResponse(jwtToken, refreshTokenService.issue(principal));
+    }
+
+    // No password check, the rotated refresh token stands for the login it was issued on.
+    public AuthResponse refresh(RefreshRequest request) {
+        RotatedRefreshToken rotated = refreshTokenService.rotate(request.getRefreshToken());
+
+        String jwtToken = jwtService.generateToken(rotated.getPrincipal());
+        return new AuthResponse(jwtToken, rotated.getRefreshToken());
+    }
+
+    /*
+    Revokes the presented access token until its expiration and the family of the refresh token, both are optional.
+    Tokens without an ID, issued before tokens had one, and expired or invalid tokens aren't revoked, the refresh
+    token is revoked first so a bad access token can't keep the client from logging out.
+     */
+    public void logout(String authorizationHeader, RefreshRequest request) {
+        if (request != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+            revokeAccessToken(authorizationHeader.substring(BEARER_PREFIX.length()));
+        }
+    }
+
+    private void revokeAccessToken(String token) {
+        Claims claims;
+        try {
+            claims = jwtService.verify(token);
+        } catch (JwtException | IllegalArgumentException exception) {
+            // Rejected by the authentication filter anyway, there's nothing to revoke.
+            return;
+        }
 
-        String jwtToken = jwtService.generateToken(user);
-        return new AuthResponse(jwtToken);
+        UUID tokenID = jwtService.extractTokenID(claims);
+        if (tokenID != null) {
+            tokenDenylist.revokeToken(tokenID, claims.getExpiration().toInstant());
+        }
     }
 }
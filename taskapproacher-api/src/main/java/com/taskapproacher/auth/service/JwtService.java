@@ -1,74 +1,134 @@
 package com.taskapproacher.auth.service;
 
+import com.taskapproacher.auth.model.UserPrincipal;
+import com.taskapproacher.user.constant.Role;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import jakarta.annotation.PostConstruct;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtService {
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
 
     @Value("${jwt.secret}")
     private String SECRET_KEY;
     private final int EXPIRATION_IN_MS = 1000 * 30 * 60;
 
+    @Value("${jwt.verified-token-cache.max-entries:10000}")
+    private int verifiedTokenCacheMaxEntries;
+
+    // Built once, both are immutable and safe to share between requests.
+    private Key signInKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheMaxEntries);
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verify(token);
         return claimsResolver.apply(claims);
     }
 
+    /*
+    Verifies the signature and expiration of the token and returns its claims. A token seen before is served from
+    the cache until it expires, so the signature is checked once per token instead of once per request.
+     */
+    public Claims verify(String token) {
+        Claims claims = verifiedTokenCache.get(token);
+
+        if (claims == null) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+        }
+
+        return claims;
+    }
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    // Embeds everything the authentication filter needs to build the principal without a user lookup.
+    public String generateToken(UserPrincipal principal) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, principal.getID().toString());
+        claims.put(ROLE_CLAIM, principal.getRole().name());
+        claims.put(TOKEN_VERSION_CLAIM, principal.getTokenVersion());
+
+        return generateToken(claims, principal);
+    }
+
+    // The jti claim, null for tokens issued before tokens had IDs.
+    public UUID extractTokenID(Claims claims) {
+        return (claims.getId() == null) ? null : UUID.fromString(claims.getId());
+    }
+
+    public Duration getTokenLifetime() {
+        return Duration.ofMillis(EXPIRATION_IN_MS);
+    }
+
+    public boolean hasPrincipalClaims(Claims claims) {
+        return claims.get(USER_ID_CLAIM) != null && claims.get(ROLE_CLAIM) != null
+               && claims.get(TOKEN_VERSION_CLAIM) != null;
+    }
+
+    public UserPrincipal extractPrincipal(Claims claims) {
+        return new UserPrincipal(UUID.fromString(claims.get(USER_ID_CLAIM, String.class)),
+                                 claims.getSubject(),
+                                 Role.valueOf(claims.get(ROLE_CLAIM, String.class)),
+                                 claims.get(TOKEN_VERSION_CLAIM, Integer.class));
+    }
+
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return Jwts
                 .builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_IN_MS))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build().parseClaimsJws(token)
-                .getBody();
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 }
@@ -0,0 +1,102 @@
+package com.taskapproacher.auth.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.taskapproacher.task.repository.TaskBoardRepository;
+import com.taskapproacher.task.repository.TaskRepository;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+Bounded taskID -> boardID -> userID index for ownership checks, both maps are Caffeine caches with size eviction.
+Misses are loaded with single-column projections and missing entities are not cached. Loads run outside of any map
+lock, a JDBC call inside computeIfAbsent would hold the bin monitor and pin a virtual thread to its carrier. Instead
+every invalidation bumps a counter before removing entries, and a loaded value is taken back out if the counter
+moved while it was read, so an invalidation issued after a commit can't be overwritten by a value read before it.
+ */
+@Component
+public class OwnershipIndex {
+    private final TaskRepository taskRepository;
+    private final TaskBoardRepository taskBoardRepository;
+    private final AtomicLong invalidations = new AtomicLong();
+    private Map<UUID, UUID> taskBoards;
+    private Map<UUID, UUID> boardOwners;
+
+    @Value("${access-check.ownership-index.max-entries:10000}")
+    private int maxEntries;
+
+    @Autowired
+    public OwnershipIndex(TaskRepository taskRepository, TaskBoardRepository taskBoardRepository) {
+        this.taskRepository = taskRepository;
+        this.taskBoardRepository = taskBoardRepository;
+    }
+
+    @PostConstruct
+    void init() {
+        taskBoards = Caffeine.newBuilder().maximumSize(maxEntries).<UUID, UUID>build().asMap();
+        boardOwners = Caffeine.newBuilder().maximumSize(maxEntries).<UUID, UUID>build().asMap();
+    }
+
+    public Optional<UUID> findTaskBoardID(UUID taskID) {
+        return find(taskBoards, taskID, id -> taskRepository.findTaskBoardID(id).orElse(null));
+    }
+
+    public Optional<UUID> findUserID(UUID taskBoardID) {
+        return find(boardOwners, taskBoardID, id -> taskBoardRepository.findUserID(id).orElse(null));
+    }
+
+    // Called after a task is moved to another board or deleted.
+    public void invalidateTask(UUID taskID) {
+        invalidations.incrementAndGet();
+        taskBoards.remove(taskID);
+    }
+
+    // Called after a board is deleted, its tasks are removed with it.
+    public void invalidateTaskBoard(UUID taskBoardID) {
+        invalidations.incrementAndGet();
+        boardOwners.remove(taskBoardID);
+        taskBoards.values().removeIf(taskBoardID::equals);
+    }
+
+    // Called after a user is deleted, together with their boards and tasks.
+    public void invalidateUser(UUID userID) {
+        invalidations.incrementAndGet();
+        Set<UUID> taskBoardIDs = boardOwners.entrySet().stream()
+                                            .filter(entry -> entry.getValue().equals(userID))
+                                            .map(Map.Entry::getKey)
+                                            .collect(Collectors.toSet());
+
+        boardOwners.keySet().removeAll(taskBoardIDs);
+        taskBoards.values().removeIf(taskBoardIDs::contains);
+    }
+
+    private Optional<UUID> find(Map<UUID, UUID> index, UUID key, Function<UUID, UUID> loader) {
+        UUID value = index.get(key);
+        if (value != null) {
+            return Optional.of(value);
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        value = loader.apply(key);
+        if (value != null) {
+            index.putIfAbsent(key, value);
+            if (invalidations.get() != invalidationsBeforeLoad) {
+                index.remove(key, value);
+            }
+        }
+
+        return Optional.ofNullable(value);
+    }
+}
@@ -0,0 +1,125 @@
+package com.taskapproacher.auth.service;
+
+import com.taskapproacher.auth.model.RefreshToken;
+import com.taskapproacher.auth.model.RotatedRefreshToken;
+import com.taskapproacher.auth.model.UserPrincipal;
+import com.taskapproacher.auth.repository.RefreshTokenRepository;
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.exception.custom.InvalidRefreshTokenException;
+import com.taskapproacher.user.model.User;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/*
+Opaque refresh tokens, exchanged for access tokens without a password check. A token is 256 random bits, so a
+single SHA-256 is enough to store it, unlike a password it can't be guessed from a dictionary. Every exchange
+rotates the token, a token presented after it was rotated means it was copied, and the whole family is revoked.
+ */
+@Service
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${refresh-token.ttl-ms:1209600000}")
+    private long ttlMs;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    // Starts a new family, called on login and registration.
+    public String issue(UserPrincipal principal) {
+        String token = generateToken();
+        refreshTokenRepository.save(new RefreshToken(hash(token), principal.getID(), principal.getTokenVersion(),
+                                                     UUID.randomUUID(), expiresAt()));
+
+        return token;
+    }
+
+    public RotatedRefreshToken rotate(String token) throws InvalidRefreshTokenException {
+        if (token == null || token.isEmpty()) {
+            throw new InvalidRefreshTokenException(ExceptionMessage.INVALID_REFRESH_TOKEN.toString());
+        }
+
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(token)).orElseThrow(
+                () -> new InvalidRefreshTokenException(ExceptionMessage.INVALID_REFRESH_TOKEN.toString())
+        );
+        User user = current.getUser();
+
+        if (current.getExpiresAt().isBefore(Instant.now())) {
+            throw new InvalidRefreshTokenException(ExceptionMessage.INVALID_REFRESH_TOKEN.toString());
+        }
+        // The credentials changed since the login, the family was issued for the old ones.
+        if (current.getTokenVersion() != user.getTokenVersion()) {
+            refreshTokenRepository.deleteFamily(current.getFamilyID());
+            throw new InvalidRefreshTokenException(ExceptionMessage.INVALID_REFRESH_TOKEN.toString());
+        }
+
+        String successor = generateToken();
+        boolean rotated = !current.isUsed()
+                          && refreshTokenRepository.rotate(current, new RefreshToken(hash(successor),
+                                                                                     current.getUserID(),
+                                                                                     current.getTokenVersion(),
+                                                                                     current.getFamilyID(),
+                                                                                     expiresAt()));
+        if (!rotated) {
+            refreshTokenRepository.deleteFamily(current.getFamilyID());
+            throw new InvalidRefreshTokenException(ExceptionMessage.REUSED_REFRESH_TOKEN.toString());
+        }
+
+        return new RotatedRefreshToken(UserPrincipal.from(user), successor);
+    }
+
+    // Revokes the family of the token on logout, an unknown token is ignored.
+    public void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+
+        refreshTokenRepository.findByTokenHash(hash(token))
+                              .ifPresent(refreshToken -> refreshTokenRepository.deleteFamily(
+                                      refreshToken.getFamilyID()));
+    }
+
+    // Used tokens are kept until they expire, to recognize their reuse.
+    @Scheduled(fixedDelayString = "${refresh-token.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private String generateToken() {
+        byte[] token = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(token);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    private Instant expiresAt() {
+        return Instant.now().plusMillis(ttlMs);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskapproacher.auth.service;
+
+import com.taskapproacher.auth.constant.RevocationScope;
+import com.taskapproacher.auth.model.RevokedToken;
+import com.taskapproacher.auth.repository.RevokedTokenRepository;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+Revoked access tokens, checked by the authentication filter without a database lookup. Token IDs are kept in sets
+bucketed by the expiration of their token, the bucket of a token is computed from its exp claim, so a check is one
+map and one set lookup. A bucket is dropped as a whole once its tokens have expired, they are rejected by the
+expiration check from then on. Revoking a user rejects every token issued to it before the revocation.
+Entries are persisted and reloaded on startup, and each refresh picks up the entries of the other instances.
+ */
+@Component
+public class TokenDenylist {
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtService jwtService;
+    private final Map<Long, Set<UUID>> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> revokedUsers = new ConcurrentHashMap<>();
+    // Serializes refreshes without pinning a virtual carrier across the database calls, checks don't take it.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private Instant syncedUntil = Instant.EPOCH;
+
+    @Value("${jwt.denylist.bucket-ms:60000}")
+    private long bucketMillis;
+
+    @Value("${jwt.denylist.refresh-interval-ms:30000}")
+    private long refreshIntervalMillis;
+
+    @Autowired
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository, JwtService jwtService) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwtService = jwtService;
+    }
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    public void revokeToken(UUID tokenID, Instant expiresAt) {
+        addToken(tokenID, expiresAt);
+        revokedTokenRepository.save(new RevokedToken(tokenID, RevocationScope.TOKEN, Instant.now(), expiresAt));
+    }
+
+    // Called when the credentials of a user change or the user is deleted.
+    public void revokeUser(UUID userID) {
+        Instant revokedAt = Instant.now();
+
+        addUser(userID, revokedAt);
+        revokedTokenRepository.save(new RevokedToken(userID, RevocationScope.USER, revokedAt,
+                                                     revokedAt.plus(jwtService.getTokenLifetime())));
+    }
+
+    public boolean isTokenRevoked(UUID tokenID, Instant expiresAt) {
+        Set<UUID> bucket = revokedTokens.get(bucketOf(expiresAt));
+
+        return bucket != null && bucket.contains(tokenID);
+    }
+
+    /*
+    The issue time of a token has a precision of seconds, a token issued in the second of the revocation, like the
+    one of a login right after a password change, is kept. Tokens issued for the old credentials in that second are
+    rejected by their token version.
+     */
+    public boolean isUserRevoked(UUID userID, Instant issuedAt) {
+        Instant revokedAt = revokedUsers.get(userID);
+
+        return revokedAt != null && issuedAt.isBefore(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /*
+    Drops the expired buckets and user entries, then loads the entries revoked since the last refresh. The loaded
+    period overlaps the previous one by an interval, so entries committed late by another instance aren't missed.
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist.refresh-interval-ms:30000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            Instant now = Instant.now();
+            long currentBucket = bucketOf(now);
+
+            revokedTokens.keySet().removeIf(bucket -> bucket < currentBucket);
+            revokedUsers.values().removeIf(revokedAt -> revokedAt.plus(jwtService.getTokenLifetime()).isBefore(now));
+            revokedTokenRepository.deleteExpired(now);
+
+            for (RevokedToken revokedToken : revokedTokenRepository.findRevokedSince(syncedUntil, now)) {
+                if (revokedToken.getScope() == RevocationScope.TOKEN) {
+                    addToken(revokedToken.getID(), revokedToken.getExpiresAt());
+                } else {
+                    addUser(revokedToken.getID(), revokedToken.getRevokedAt());
+                }
+            }
+            syncedUntil = now.minusMillis(refreshIntervalMillis);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void addToken(UUID tokenID, Instant expiresAt) {
+        revokedTokens.computeIfAbsent(bucketOf(expiresAt), bucket -> ConcurrentHashMap.newKeySet()).add(tokenID);
+    }
+
+    private void addUser(UUID userID, Instant revokedAt) {
+        revokedUsers.merge(userID, revokedAt, (current, revoked) -> current.isAfter(revoked) ? current : revoked);
+    }
+
+    private long bucketOf(Instant expiresAt) {
+        return Math.floorDiv(expiresAt.toEpochMilli(), bucketMillis);
+    }
+}
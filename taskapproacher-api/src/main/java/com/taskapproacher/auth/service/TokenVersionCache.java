@@ -0,0 +1,92 @@
+package com.taskapproacher.auth.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.taskapproacher.user.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+Current token version per user, so a claims-based principal can be checked for revocation without loading the
+user on every request. Entries are loaded on first use and refreshed together in one query per interval, a
+removed user is cached as missing. The cache is bounded by Caffeine's size eviction. As in OwnershipIndex, every
+invalidation bumps a counter before removing the entry, and a version loaded while the counter moved is not kept,
+so a version read before a change can't overwrite the invalidation issued after it. A refresh only replaces the
+entries still holding the value they had when its query started.
+ */
+@Component
+public class TokenVersionCache {
+    private static final int MISSING_USER = -1;
+
+    private final UserRepository userRepository;
+    private final AtomicLong invalidations = new AtomicLong();
+    private Map<UUID, CachedVersion> tokenVersions;
+
+    @Value("${jwt.token-version-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Autowired
+    public TokenVersionCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    void init() {
+        tokenVersions = Caffeine.newBuilder().maximumSize(maxEntries).<UUID, CachedVersion>build().asMap();
+    }
+
+    public boolean isCurrent(UUID userID, int tokenVersion) {
+        CachedVersion currentVersion = tokenVersions.get(userID);
+
+        if (currentVersion == null) {
+            long invalidationsBeforeLoad = invalidations.get();
+            currentVersion = new CachedVersion(userRepository.findTokenVersion(userID).orElse(MISSING_USER));
+            tokenVersions.putIfAbsent(userID, currentVersion);
+            if (invalidations.get() != invalidationsBeforeLoad) {
+                tokenVersions.remove(userID, currentVersion);
+            }
+        }
+
+        return currentVersion.version != MISSING_USER && currentVersion.version == tokenVersion;
+    }
+
+    // Called by the node that changed the version, other nodes catch up on the next refresh.
+    public void invalidate(UUID userID) {
+        invalidations.incrementAndGet();
+        tokenVersions.remove(userID);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-version-cache.refresh-interval-ms:30000}")
+    public void refresh() {
+        Map<UUID, CachedVersion> versionsBeforeLoad = Map.copyOf(tokenVersions);
+        if (versionsBeforeLoad.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Integer> currentVersions = userRepository.findTokenVersions(versionsBeforeLoad.keySet());
+        versionsBeforeLoad.forEach((userID, versionBeforeLoad) -> {
+            // Entries invalidated while the query ran are gone or reloaded, they are left as they are.
+            tokenVersions.computeIfPresent(userID, (id, version) -> (version == versionBeforeLoad)
+                    ? new CachedVersion(currentVersions.getOrDefault(id, MISSING_USER))
+                    : version);
+        });
+    }
+
+    // Compared by identity, a reloaded entry never matches the one a refresh read before its query.
+    private static final class CachedVersion {
+        private final int version;
+
+        private CachedVersion(int version) {
+            this.version = version;
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.taskapproacher.auth.service;
 
+import com.taskapproacher.auth.model.UserCredentials;
 import com.taskapproacher.common.constant.ExceptionMessage;
 import com.taskapproacher.user.repository.UserRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 @Component
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Autowired
@@ -20,8 +22,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username).orElseThrow(
+        return userRepository.findCredentialsByUsername(username).orElseThrow(
                 () -> new UsernameNotFoundException("User " + ExceptionMessage.NOT_FOUND + ": " + username)
         );
     }
+
+    // Called after a successful login when the stored hash has another work factor than the configured one.
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+
+        return ((UserCredentials) user).withPassword(newPassword);
+    }
 }
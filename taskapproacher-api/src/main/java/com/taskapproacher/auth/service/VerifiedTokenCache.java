@@ -0,0 +1,57 @@
+package com.taskapproacher.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/*
+Bounded cache of tokens whose signature was already verified, keyed by the signature segment of the token so raw
+tokens are not kept in memory. The signature is an HMAC over the header and claims, it identifies the token without
+another digest. An entry expires with its token.
+ */
+class VerifiedTokenCache {
+    private final Cache<String, Claims> verifiedTokens;
+
+    VerifiedTokenCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            this.verifiedTokens = null;
+            return;
+        }
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                                      .maximumSize(maxEntries)
+                                      .expireAfter(Expiry.creating(VerifiedTokenCache::untilExpiration))
+                                      .build();
+    }
+
+    Claims get(String token) {
+        if (verifiedTokens == null) {
+            return null;
+        }
+
+        return verifiedTokens.getIfPresent(signatureOf(token));
+    }
+
+    void put(String token, Claims claims) {
+        if (verifiedTokens == null || claims.getExpiration() == null) {
+            return;
+        }
+
+        verifiedTokens.put(signatureOf(token), claims);
+    }
+
+    private static Duration untilExpiration(String signature, Claims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String signatureOf(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+}
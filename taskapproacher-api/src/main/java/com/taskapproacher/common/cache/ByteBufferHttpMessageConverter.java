@@ -0,0 +1,55 @@
+package com.taskapproacher.common.cache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/*
+Writes ByteBuffer bodies, the cached responses of SerializedResponseCache, to the response through a channel. The
+servlet stream only takes byte arrays, so the channel copies the buffer through a small heap chunk, 8 KB at a time,
+instead of a heap array of the body's size being allocated for every response. The buffer's position isn't moved, a
+cached body can be written by any number of responses at the same time.
+ */
+public class ByteBufferHttpMessageConverter extends AbstractHttpMessageConverter<ByteBuffer> {
+    public ByteBufferHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ByteBuffer.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ByteBuffer readInternal(Class<? extends ByteBuffer> clazz, HttpInputMessage inputMessage)
+            throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("ByteBuffer bodies are write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ByteBuffer buffer, MediaType contentType) {
+        return (long) buffer.remaining();
+    }
+
+    @Override
+    protected void writeInternal(ByteBuffer buffer, HttpOutputMessage outputMessage) throws IOException {
+        ByteBuffer body = buffer.duplicate();
+        // Not closed, that would close the response stream before the container is done with it.
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+}
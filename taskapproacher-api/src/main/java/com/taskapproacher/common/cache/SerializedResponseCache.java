@@ -0,0 +1,150 @@
+package com.taskapproacher.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+Cache of serialized JSON responses of the hot listings. Bodies are kept in direct buffers, outside of the heap, and
+the cache is bounded by their total size. Caffeine's size eviction is W-TinyLFU: a new entry is only admitted over
+the eviction candidate when its estimated access frequency is higher, so one-off reads don't push out hot listings.
+
+Entries are grouped by listing and owner id (a board for its tasks, a user for their boards). Invalidating a group
+moves it to a new generation, entries of older generations are never served again and age out. A response loaded
+before an invalidation is stored under the generation read before loading it, so a concurrent reader can't put
+stale data back. Writes that bypass the services (plain SQL) aren't seen, hence the cache is opt-in.
+ */
+@Component
+public class SerializedResponseCache {
+    public static final String BOARD_TASKS = "board-tasks";
+    public static final String USER_BOARDS = "user-boards";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final AtomicLong clock = new AtomicLong();
+    private Cache<Key, Entry> entries;
+    private Cache<Group, Long> generations;
+
+    @Value("${response-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${response-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${response-cache.max-groups:100000}")
+    private long maxGroups;
+
+    @Value("${response-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Autowired
+    public SerializedResponseCache(ObjectMapper objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                          .maximumWeight(maxBytes)
+                          .weigher((Key key, Entry entry) -> entry.body().capacity())
+                          .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                          .recordStats()
+                          .build();
+        // A group evicted from here restarts at the current clock, which is past every generation it had before.
+        generations = Caffeine.newBuilder().maximumSize(maxGroups).build();
+
+        if (enabled) {
+            meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, entries, "responses"));
+        }
+    }
+
+    /*
+    Returns the cached response of the listing or loads, serializes and caches it. Only 200 responses are cached,
+    exceptions of the loader are passed through. With the cache disabled the loaded response is returned as is.
+     */
+    public ResponseEntity<?> get(String listing, UUID ownerID, String variant, Supplier<ResponseEntity<?>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Group group = new Group(listing, ownerID);
+        Key key = new Key(group, generations.get(group, g -> clock.get()), variant);
+
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            ResponseEntity<?> response = loader.get();
+            if (response.getStatusCode() != HttpStatus.OK) {
+                return response;
+            }
+
+            entry = new Entry(toDirectBuffer(serialize(response.getBody())),
+                              HttpHeaders.readOnlyHttpHeaders(response.getHeaders()));
+            entries.put(key, entry);
+        }
+
+        return toResponse(entry);
+    }
+
+    // Called after a write to the listing has been committed.
+    public void invalidate(String listing, UUID ownerID) {
+        if (enabled && ownerID != null) {
+            generations.put(new Group(listing, ownerID), clock.incrementAndGet());
+        }
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private ByteBuffer toDirectBuffer(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        return buffer.asReadOnlyBuffer();
+    }
+
+    // The cached buffer itself is the body, ByteBufferHttpMessageConverter writes it in 8 KB chunks.
+    private ResponseEntity<ByteBuffer> toResponse(Entry entry) {
+        return ResponseEntity.ok()
+                             .headers(entry.headers())
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(entry.body());
+    }
+
+    private record Group(String listing, UUID ownerID) {
+    }
+
+    private record Key(Group group, long generation, String variant) {
+    }
+
+    private record Entry(ByteBuffer body, HttpHeaders headers) {
+    }
+}
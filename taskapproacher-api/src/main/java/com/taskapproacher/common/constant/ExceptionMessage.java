@@ -15,7 +15,14 @@ public enum ExceptionMessage {
     EXPIRED_AUTH("Authentication is expired"),
     INVALID_AUTH_TOKEN("Authentication token is invalid"),
     INVALID_USER_DATA("Invalid user data"),
+    INVALID_REFRESH_TOKEN("Refresh token is invalid or expired, please log in again"),
+    REUSED_REFRESH_TOKEN("Refresh token was already used, please log in again"),
     ACCESS_DENIED("Access denied"),
+    TOO_MANY_REQUESTS("Too many requests, please try again later"),
+    REQUEST_DEADLINE_EXCEEDED("Request took longer than its deadline, please try again later"),
+    INVALID_REQUEST_DEADLINE("Request deadline should be a positive number of milliseconds"),
+    SERVICE_OVERLOADED("Service is overloaded, please try again shortly"),
+    TOO_MANY_HASHING_REQUESTS("Too many login or registration requests, please try again shortly"),
     INVALID_PASSWORD_LENGTH("Password is too short, minimum length is " + PasswordConstants.MIN_LENGTH),
     INVALID_USERNAME_LENGTH("Username should be from " + UserConstants.MIN_USERNAME_LENGTH
                             + " to " + UserConstants.MAX_USERNAME_LENGTH + " characters long"),
@@ -25,6 +32,10 @@ public enum ExceptionMessage {
                                + " characters, respectively"),
     INVALID_TASK_BOARD_TITLE_LENGTH("Task board title is too long, maximum length is "
                                     + TaskConstants.MAX_TASK_BOARD_TITLE_LENGTH),
+    INVALID_TASKS_PAGE_SIZE("Page size should be from 1 to " + TaskConstants.MAX_TASKS_PAGE_SIZE),
+    INVALID_BULK_SIZE("Bulk request should contain from 1 to " + TaskConstants.MAX_BULK_TASKS + " tasks"),
+    BULK_MOVE_NOT_SUPPORTED("Tasks can't be moved to another board in a bulk update"),
+    INVALID_CHANGES_VERSION("Changes can only be requested since a version from 0"),
     IMPOSSIBLE_TO_DESERIALIZE("Impossible to deserialize data");
 
     private final String message;
@@ -0,0 +1,200 @@
+package com.taskapproacher.common.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Fan-out of committed changes to Server-Sent Events subscribers, per board and per user. Connections are async
+requests, so an open stream holds no servlet thread. Publishing never blocks: events are offered to a bounded
+buffer per subscriber and written by a small dispatcher pool, at most one dispatcher per subscriber at a time.
+A subscriber whose buffer is full is dropped and its stream completed, the client reconnects and catches up with
+GET /api/board/{id}/changes. Idle streams get a heartbeat comment, which also finds connections closed by clients.
+ */
+@Component
+public class ChangeEventHub {
+    public static final String BOARD_EVENTS = "board";
+    public static final String USER_EVENTS = "user";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Topic, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ExecutorService dispatcher;
+    private Counter droppedSubscribers;
+
+    @Value("${change-events.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${change-events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${change-events.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    public ChangeEventHub(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /*
+    In virtual-thread mode every dispatch gets its own virtual thread, a write blocked on a slow client parks it
+    instead of holding one of the few platform threads. Dispatches are still limited to one per subscriber.
+     */
+    @PostConstruct
+    void init() {
+        if (virtualThreads) {
+            dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("change-events-", 1).factory());
+        } else {
+            dispatcher = Executors.newFixedThreadPool(dispatchThreads,
+                                                      Thread.ofPlatform().name("change-events-", 1).daemon().factory());
+        }
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("change.events.subscribers", subscriberCount, AtomicInteger::get).register(registry);
+            droppedSubscribers = Counter.builder("change.events.dropped.subscribers").register(registry);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(topicSubscribers -> topicSubscribers.forEach(this::close));
+        dispatcher.shutdownNow();
+    }
+
+    public SseEmitter subscribe(String stream, UUID ownerID) {
+        Topic topic = new Topic(stream, ownerID);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(topic, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(exception -> remove(subscriber));
+        // Added inside compute, so a concurrent remove can't drop the set of the topic in between.
+        subscribers.compute(topic, (key, topicSubscribers) -> {
+            Set<Subscriber> current = (topicSubscribers == null) ? ConcurrentHashMap.newKeySet() : topicSubscribers;
+            current.add(subscriber);
+
+            return current;
+        });
+        subscriberCount.incrementAndGet();
+
+        return emitter;
+    }
+
+    // Called after the change has been committed, the data is written as JSON.
+    public void publish(String stream, UUID ownerID, String eventName, Object data) {
+        Set<Subscriber> topicSubscribers = subscribers.get(new Topic(stream, ownerID));
+        if (topicSubscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : topicSubscribers) {
+            enqueue(subscriber, SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    // Called after the owner of the streams has been deleted.
+    public void closeAll(String stream, UUID ownerID) {
+        Set<Subscriber> topicSubscribers = subscribers.get(new Topic(stream, ownerID));
+        if (topicSubscribers != null) {
+            topicSubscribers.forEach(this::close);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${change-events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(topicSubscribers -> topicSubscribers.forEach(
+                subscriber -> enqueue(subscriber, SseEmitter.event().comment("heartbeat"))
+        ));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.buffer.offer(event)) {
+            if (droppedSubscribers != null) {
+                droppedSubscribers.increment();
+            }
+            close(subscriber);
+
+            return;
+        }
+
+        if (subscriber.dispatching.compareAndSet(false, true)) {
+            dispatcher.execute(() -> dispatch(subscriber));
+        }
+    }
+
+    private void dispatch(Subscriber subscriber) {
+        try {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = subscriber.buffer.poll()) != null) {
+                    subscriber.emitter.send(event);
+                }
+                subscriber.dispatching.set(false);
+                // An event offered after the last poll but before the flag was cleared is sent by this run.
+            } while (!subscriber.buffer.isEmpty() && subscriber.dispatching.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException exception) {
+            // The client is gone or the stream is already completed.
+            subscriber.dispatching.set(false);
+            remove(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.topic, (topic, topicSubscribers) -> {
+            if (topicSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+
+            return topicSubscribers.isEmpty() ? null : topicSubscribers;
+        });
+    }
+
+    private record Topic(String stream, UUID ownerID) {
+    }
+
+    // One connection, compared by identity.
+    private static final class Subscriber {
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean dispatching = new AtomicBoolean();
+
+        private Subscriber(Topic topic, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> buffer) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
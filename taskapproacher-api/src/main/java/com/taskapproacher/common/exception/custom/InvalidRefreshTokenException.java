@@ -0,0 +1,7 @@
+package com.taskapproacher.common.exception.custom;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,9 @@ package com.taskapproacher.common.exception.handler;
 import com.fasterxml.jackson.core.JacksonException;
 import com.taskapproacher.common.constant.ExceptionMessage;
 import com.taskapproacher.common.exception.custom.EntityAlreadyExistsException;
+import com.taskapproacher.common.exception.custom.InvalidRefreshTokenException;
+import com.taskapproacher.common.exception.custom.PasswordHashingRejectedException;
+import com.taskapproacher.config.password.PasswordConstants;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -11,7 +14,9 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 
 import org.hibernate.HibernateException;
+import org.hibernate.QueryTimeoutException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.ErrorResponse;
@@ -19,6 +24,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.sql.SQLTimeoutException;
+
 @RestControllerAdvice
 public final class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
@@ -41,8 +48,27 @@ public final class GlobalExceptionHandler {
         return ErrorResponse.create(exception, HttpStatus.BAD_REQUEST, exception.getMessage());
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ErrorResponse handleInvalidRefreshTokenException(InvalidRefreshTokenException exception) {
+        return ErrorResponse.create(exception, HttpStatus.UNAUTHORIZED, exception.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ErrorResponse handlePasswordHashingRejectedException(PasswordHashingRejectedException exception) {
+        return ErrorResponse.builder(exception, HttpStatus.TOO_MANY_REQUESTS, exception.getMessage())
+                            .header(HttpHeaders.RETRY_AFTER,
+                                    String.valueOf(PasswordConstants.HASHING_RETRY_AFTER_SECONDS))
+                            .build();
+    }
+
+    // A query cancelled by its statement timeout or the request deadline, see RequestDeadline.
     @ExceptionHandler(HibernateException.class)
     public ErrorResponse handleHibernateException(HibernateException exception) {
+        if (isQueryTimeout(exception)) {
+            return ErrorResponse.create(exception, HttpStatus.SERVICE_UNAVAILABLE,
+                                        ExceptionMessage.REQUEST_DEADLINE_EXCEEDED.toString());
+        }
+
         return ErrorResponse.create(exception, HttpStatus.BAD_REQUEST, "Database error. Please try later.");
     }
 
@@ -71,4 +97,14 @@ public final class GlobalExceptionHandler {
         return ErrorResponse.create(exception, HttpStatus.INTERNAL_SERVER_ERROR,
                                     ExceptionMessage.IMPOSSIBLE_TO_DESERIALIZE.toString());
     }
+
+    private static boolean isQueryTimeout(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof QueryTimeoutException || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,13 @@
+package com.taskapproacher.common.interfaces.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Non-blocking counterpart of GenericRepository, an entity that isn't found completes empty.
+public interface ReactiveGenericRepository<T> {
+    Mono<T> findByID(UUID uuid);
+    Mono<T> save(T entity);
+    Mono<T> update(T entity);
+    Mono<Void> delete(T entity);
+}
@@ -0,0 +1,7 @@
+package com.taskapproacher.common.interfaces.repository;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveRelatedEntityRepository<E, UUID> {
+    Flux<E> findRelatedEntitiesByID(UUID findBy);
+}
@@ -1,18 +1,45 @@
 package com.taskapproacher.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import com.taskapproacher.config.persistence.CacheConstants;
+import com.taskapproacher.config.persistence.DeadlineDataSource;
+import com.taskapproacher.config.persistence.RequestDeadline;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.hibernate5.LocalSessionFactoryBean;
 
-import javax.sql.DataSource;
+import java.net.URI;
+import java.util.OptionalLong;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @ComponentScan(basePackages = "com.taskapproacher")
 public class HibernateConfig {
+    private static final String POOL_NAME = "TaskApproacherPool";
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql:";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final RequestDeadline requestDeadline;
+
     @Value("${spring.datasource.driver-class-name}")
     private String driverClassName;
 
@@ -31,21 +58,98 @@ public class HibernateConfig {
     @Value("${spring.jpa.hibernate.ddl-auto}")
     private String hbm2ddlAuto;
 
-    @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${persistence.second-level-cache.enabled:false}")
+    private boolean secondLevelCacheEnabled;
+
+    @Value("${persistence.second-level-cache.user.max-entries:10000}")
+    private long userCacheMaxEntries;
+
+    @Value("${persistence.second-level-cache.user.ttl-seconds:600}")
+    private long userCacheTtlSeconds;
+
+    @Value("${persistence.second-level-cache.task-board.max-entries:10000}")
+    private long taskBoardCacheMaxEntries;
+
+    @Value("${persistence.second-level-cache.task-board.ttl-seconds:600}")
+    private long taskBoardCacheTtlSeconds;
+
+    @Value("${persistence.second-level-cache.task.max-entries:50000}")
+    private long taskCacheMaxEntries;
+
+    @Value("${persistence.second-level-cache.task.ttl-seconds:600}")
+    private long taskCacheTtlSeconds;
+
+    @Value("${spring.datasource.hikari.minimum-idle:2}")
+    private int minimumIdle;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long connectionTimeout;
+
+    @Value("${spring.datasource.hikari.idle-timeout:600000}")
+    private long idleTimeout;
+
+    @Value("${spring.datasource.hikari.max-lifetime:1800000}")
+    private long maxLifetime;
+
+    @Value("${spring.datasource.hikari.leak-detection-threshold:60000}")
+    private long leakDetectionThreshold;
+
+    @Value("${spring.datasource.hikari.data-source-properties.prepareThreshold:5}")
+    private int prepareThreshold;
+
+    @Value("${spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries:256}")
+    private int preparedStatementCacheQueries;
+
+    @Value("${spring.datasource.hikari.data-source-properties.preparedStatementCacheSizeMiB:5}")
+    private int preparedStatementCacheSizeMiB;
+
+    @Autowired
+    public HibernateConfig(ObjectProvider<MeterRegistry> meterRegistry, RequestDeadline requestDeadline) {
+        this.meterRegistry = meterRegistry;
+        this.requestDeadline = requestDeadline;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource dataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(POOL_NAME);
         dataSource.setDriverClassName(driverClassName);
-        dataSource.setUrl(url);
+        dataSource.setJdbcUrl(url);
         dataSource.setUsername(username);
         dataSource.setPassword(password);
 
+        dataSource.setMinimumIdle(minimumIdle);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeout);
+        dataSource.setIdleTimeout(idleTimeout);
+        dataSource.setMaxLifetime(maxLifetime);
+        dataSource.setLeakDetectionThreshold(leakDetectionThreshold);
+
+        // Statement cache settings are driver specific, other drivers (H2 in tests) reject unknown properties.
+        if (url.startsWith(POSTGRESQL_URL_PREFIX)) {
+            dataSource.addDataSourceProperty("prepareThreshold", prepareThreshold);
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", preparedStatementCacheQueries);
+            dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB", preparedStatementCacheSizeMiB);
+        }
+
+        // Exports hikaricp.connections.active/idle/pending gauges and the hikaricp.connections.acquire timer.
+        meterRegistry.ifAvailable(
+                registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry))
+        );
+
         return dataSource;
     }
 
     @Bean
     public LocalSessionFactoryBean sessionFactory() {
         LocalSessionFactoryBean sessionFactory = new LocalSessionFactoryBean();
-        sessionFactory.setDataSource(dataSource());
+        sessionFactory.setDataSource(new DeadlineDataSource(dataSource(), requestDeadline));
         sessionFactory.setPackagesToScan("com.taskapproacher");
         sessionFactory.setHibernateProperties(hibernateProperties());
 
@@ -58,7 +162,52 @@ public class HibernateConfig {
         properties.put("hibernate.hbm2ddl.auto", hbm2ddlAuto);
         properties.put("hibernate.show_sql", true);
         properties.put("hibernate.current_session_context_class", "thread");
+        // Groups the statements of one flush into JDBC batches, used by the bulk task operations.
+        properties.put("hibernate.jdbc.batch_size", jdbcBatchSize);
+        properties.put("hibernate.order_inserts", true);
+        properties.put("hibernate.order_updates", true);
+
+        properties.put("hibernate.cache.use_second_level_cache", secondLevelCacheEnabled);
+        if (secondLevelCacheEnabled) {
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager());
+            // Every region is created up front with its bounds, a region without them is a mapping error.
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Hit/miss counters per region, exported by SecondLevelCacheMetrics.
+            properties.put("hibernate.generate_statistics", true);
+        }
 
         return properties;
     }
+
+    /*
+    Collection regions share the bounds of their owner entity. The manager gets its own URI because caches of the
+    provider's default manager are shared by every session factory in the JVM, Hibernate closes it with the factory.
+     */
+    private CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                                           .getCacheManager(URI.create("taskapproacher:" + UUID.randomUUID()),
+                                                            getClass().getClassLoader());
+
+        createCacheRegion(cacheManager, CacheConstants.USER_REGION, userCacheMaxEntries, userCacheTtlSeconds);
+        createCacheRegion(cacheManager, CacheConstants.USER_TASK_BOARDS_REGION,
+                          userCacheMaxEntries, userCacheTtlSeconds);
+        createCacheRegion(cacheManager, CacheConstants.TASK_BOARD_REGION,
+                          taskBoardCacheMaxEntries, taskBoardCacheTtlSeconds);
+        createCacheRegion(cacheManager, CacheConstants.TASK_BOARD_TASKS_REGION,
+                          taskBoardCacheMaxEntries, taskBoardCacheTtlSeconds);
+        createCacheRegion(cacheManager, CacheConstants.TASK_REGION, taskCacheMaxEntries, taskCacheTtlSeconds);
+
+        return cacheManager;
+    }
+
+    private void createCacheRegion(CacheManager cacheManager, String region, long maxEntries, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        // Hibernate caches disassembled state already, copying it again on every access is pure overhead.
+        configuration.setStoreByValue(false);
+
+        cacheManager.createCache(region, configuration);
+    }
 }
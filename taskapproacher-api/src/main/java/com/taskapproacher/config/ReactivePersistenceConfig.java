@@ -0,0 +1,96 @@
+package com.taskapproacher.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
+
+/*
+Non-blocking access to the same database as HibernateConfig, used by the reactive repositories. The R2DBC url is
+derived from the JDBC one unless persistence.reactive.url is set. An H2 in-memory database is shared by name within
+the JVM, so in tests both drivers see the same schema and data.
+ */
+@Configuration
+public class ReactivePersistenceConfig {
+    private static final String POOL_NAME = "TaskApproacherReactivePool";
+    private static final String JDBC_URL_PREFIX = "jdbc:";
+    private static final String H2_MEMORY_URL_PREFIX = "jdbc:h2:mem:";
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${persistence.reactive.url:}")
+    private String reactiveUrl;
+
+    @Value("${persistence.reactive.pool.initial-size:2}")
+    private int initialSize;
+
+    @Value("${persistence.reactive.pool.max-size:20}")
+    private int maxSize;
+
+    @Value("${persistence.reactive.pool.max-acquire-time-ms:30000}")
+    private long maxAcquireTimeMs;
+
+    @Value("${persistence.reactive.pool.max-idle-time-ms:600000}")
+    private long maxIdleTimeMs;
+
+    @Value("${persistence.reactive.pool.max-life-time-ms:1800000}")
+    private long maxLifeTimeMs;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionPool() {
+        String connectionUrl = reactiveUrl.isEmpty() ? toR2dbcUrl(url) : reactiveUrl;
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(connectionUrl).mutate()
+                                                                   .option(ConnectionFactoryOptions.USER, username)
+                                                                   .option(ConnectionFactoryOptions.PASSWORD, password)
+                                                                   .build();
+
+        ConnectionPoolConfiguration configuration =
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                                           .name(POOL_NAME)
+                                           .initialSize(initialSize)
+                                           .maxSize(maxSize)
+                                           .maxAcquireTime(Duration.ofMillis(maxAcquireTimeMs))
+                                           .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                                           .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                                           .build();
+
+        return new ConnectionPool(configuration);
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool reactiveConnectionPool) {
+        return DatabaseClient.create(reactiveConnectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionPool reactiveConnectionPool) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(reactiveConnectionPool));
+    }
+
+    // jdbc:postgresql://host/db -> r2dbc:postgresql://host/db, jdbc:h2:mem:name;options -> r2dbc:h2:mem:///name
+    private static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl.startsWith(H2_MEMORY_URL_PREFIX)) {
+            String name = jdbcUrl.substring(H2_MEMORY_URL_PREFIX.length()).split(";", 2)[0];
+
+            return "r2dbc:h2:mem:///" + name;
+        }
+
+        return "r2dbc:" + jdbcUrl.substring(JDBC_URL_PREFIX.length());
+    }
+}
@@ -1,9 +1,15 @@
 package com.taskapproacher.config;
 
+import com.taskapproacher.config.password.BCryptStrengthCalibrator;
 import com.taskapproacher.config.password.CustomPasswordEncoder;
+import com.taskapproacher.config.password.PasswordHashingExecutor;
 import com.taskapproacher.config.security.JwtAuthenticationFilter;
+import com.taskapproacher.config.security.RateLimitFilter;
+
+import jakarta.servlet.DispatcherType;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,14 +29,29 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final AuthenticationEntryPoint authenticationEntryPoint;
     private final AccessDeniedHandler accessDeniedHandler;
 
+    // 0 calibrates the bcrypt work factor at startup, see BCryptStrengthCalibrator.
+    @Value("${password.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    @Value("${password.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${password.bcrypt.max-strength:16}")
+    private int bcryptMaxStrength;
+
+    @Value("${password.bcrypt.target-ms:250}")
+    private long bcryptTargetMs;
+
     @Autowired
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter,
                           AuthenticationEntryPoint authenticationEntryPoint,
                           AccessDeniedHandler accessDeniedHandler) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.authenticationEntryPoint = authenticationEntryPoint;
         this.accessDeniedHandler = accessDeniedHandler;
     }
@@ -41,6 +62,8 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests
                     (auth -> auth
+                            // Async results (reactive endpoints, event streams) were authorized on the first dispatch.
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                             .requestMatchers("/api/auth/**").permitAll()
                             .requestMatchers("/api-docs/**").permitAll()
                             .requestMatchers("/swagger-resources").permitAll()
@@ -50,6 +73,8 @@ public class SecurityConfig {
                             .anyRequest().authenticated()
                     )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // After the authentication, so requests are limited per user rather than per IP when authenticated.
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
             .exceptionHandling(exceptions -> exceptions
                     .authenticationEntryPoint(authenticationEntryPoint)
                     .accessDeniedHandler(accessDeniedHandler));
@@ -58,8 +83,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new CustomPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor hashingExecutor) {
+        int strength = (bcryptStrength > 0)
+                       ? bcryptStrength
+                       : BCryptStrengthCalibrator.calibrate(bcryptMinStrength, bcryptMaxStrength, bcryptTargetMs);
+
+        return new CustomPasswordEncoder(strength, hashingExecutor);
     }
 
     @Bean
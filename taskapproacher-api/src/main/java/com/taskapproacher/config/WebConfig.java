@@ -0,0 +1,33 @@
+package com.taskapproacher.config;
+
+import com.taskapproacher.common.cache.ByteBufferHttpMessageConverter;
+import com.taskapproacher.config.persistence.StatementTimeoutInterceptor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final StatementTimeoutInterceptor statementTimeoutInterceptor;
+
+    @Autowired
+    public WebConfig(StatementTimeoutInterceptor statementTimeoutInterceptor) {
+        this.statementTimeoutInterceptor = statementTimeoutInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementTimeoutInterceptor);
+    }
+
+    // Ahead of the default converters, none of which can write a ByteBuffer.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ByteBufferHttpMessageConverter());
+    }
+}
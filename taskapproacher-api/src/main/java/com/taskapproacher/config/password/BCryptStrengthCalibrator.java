@@ -0,0 +1,40 @@
+package com.taskapproacher.config.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/*
+Picks the bcrypt work factor for this machine at startup: the highest one whose hash still takes at most the target
+time. Each step doubles the cost, so the minimum is measured and the higher ones are extrapolated from it.
+ */
+public final class BCryptStrengthCalibrator {
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int MEASUREMENTS = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(int minStrength, int maxStrength, long targetMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        // The first hash warms up the code path, the fastest of the next ones is the least disturbed measurement.
+        encoder.encode(SAMPLE_PASSWORD);
+        long fastestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - startedAt);
+        }
+
+        return strengthFor(fastestNanos / 1_000_000.0, minStrength, maxStrength, targetMillis);
+    }
+
+    static int strengthFor(double minStrengthMillis, int minStrength, int maxStrength, long targetMillis) {
+        int strength = minStrength;
+        double millis = minStrengthMillis;
+        while (strength < maxStrength && millis * 2 <= targetMillis) {
+            strength++;
+            millis *= 2;
+        }
+
+        return strength;
+    }
+}
@@ -7,27 +7,60 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/*
+Bcrypt with the given work factor, hashed on the PasswordHashingExecutor. A stored hash with another work factor is
+reported by upgradeEncoding, so it is rehashed with the current one on the next successful login, see
+UserDetailsServiceImpl.updatePassword.
+ */
 public final class CustomPasswordEncoder implements PasswordEncoder {
-    private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
-    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final Pattern BCRYPT_STRENGTH = Pattern.compile("^\\{" + BCRYPT_ID + "}\\$2[aby]?\\$(\\d{2})\\$");
+    private static final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final int strength;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor hashingExecutor;
+
+    public CustomPasswordEncoder(int strength, PasswordHashingExecutor hashingExecutor) {
+        this.strength = strength;
+        this.passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID,
+                                                             Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+        this.hashingExecutor = hashingExecutor;
+    }
 
     @Override
     public String encode(CharSequence rawPassword) {
         validate(rawPassword.toString());
-        return passwordEncoder.encode(rawPassword);
+        return hashingExecutor.execute(() -> passwordEncoder.encode(rawPassword));
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return hashingExecutor.execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // Lower work factors are upgraded and higher ones lowered, the configured one is the target either way.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return true;
+        }
+
+        Matcher matcher = BCRYPT_STRENGTH.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
     }
 
-    private void validate(String password) {
+    // Also called before work that should only run for a valid password, like the uniqueness check of a registration.
+    public static void validate(String password) {
         ValidatedPassword validatedPassword = new ValidatedPassword(password);
         Set<ConstraintViolation<ValidatedPassword>> violations = validator.validate(validatedPassword);
 
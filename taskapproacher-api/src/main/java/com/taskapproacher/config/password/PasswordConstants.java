@@ -2,4 +2,6 @@ package com.taskapproacher.config.password;
 
 public final class PasswordConstants {
     public static final int MIN_LENGTH = 8;
+    // Retry-After of the 429 answered when the hashing queue is full.
+    public static final int HASHING_RETRY_AFTER_SECONDS = 1;
 }
@@ -0,0 +1,93 @@
+package com.taskapproacher.config.password;
+
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.exception.custom.PasswordHashingRejectedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/*
+Runs password hashing on a small dedicated pool with a bounded queue, so a burst of logins or registrations uses at
+most this many cores and can't take the CPU from the rest of the API. The caller waits for its result. When every
+hashing thread is busy and the queue is full the work is rejected at once with PasswordHashingRejectedException,
+which is answered with 429, instead of piling up request threads behind bcrypt.
+ */
+@Component
+public class PasswordHashingExecutor {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private ThreadPoolExecutor executor;
+    private Counter rejectedHashes;
+
+    // 0 uses half of the available processors, at least one.
+    @Value("${password.hashing.threads:0}")
+    private int threads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Autowired
+    public PasswordHashingExecutor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        int poolSize = (threads > 0) ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                                          new ArrayBlockingQueue<>(queueCapacity),
+                                          Thread.ofPlatform().name("password-hashing-", 1).daemon().factory(),
+                                          new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("password.hashing.queued", executor, pool -> pool.getQueue().size()).register(registry);
+            rejectedHashes = Counter.builder("password.hashing.rejected").register(registry);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public <T> T execute(Supplier<T> hashing) {
+        Future<T> result;
+        try {
+            result = executor.submit(hashing::get);
+        } catch (RejectedExecutionException exception) {
+            if (rejectedHashes != null) {
+                rejectedHashes.increment();
+            }
+            throw new PasswordHashingRejectedException(ExceptionMessage.TOO_MANY_HASHING_REQUESTS.toString());
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing was interrupted", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", exception.getCause());
+        }
+    }
+}
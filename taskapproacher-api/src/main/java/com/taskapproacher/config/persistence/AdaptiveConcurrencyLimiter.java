@@ -0,0 +1,140 @@
+package com.taskapproacher.config.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/*
+Limit of requests in flight that adapts to the latency of the database (AIMD). Every JDBC statement reports its
+latency: a statement slower than the threshold cuts the limit by the backoff ratio, at most once per backoff
+interval so one slow period counts once, and a fast statement raises it by 1 / limit, about one per limit of fast
+statements, while the limit is at least half in use. The limit is split between a partition of writes, logins
+included, and one of reads, so a flood of reads can't keep writes and logins from the database and vice versa.
+Updates are lock-free, statements of every request thread report here.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+    public enum Partition {
+        READ,
+        WRITE;
+    }
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Partition, AtomicInteger> inFlight = new EnumMap<>(Partition.class);
+    private final Map<Partition, Counter> rejectedRequests = new EnumMap<>(Partition.class);
+    // Bits of the double limit, updated with compare-and-set.
+    private final AtomicLong limitBits = new AtomicLong();
+    private final AtomicLong lastBackoffNanos = new AtomicLong();
+
+    @Value("${load-shedding.initial-limit:50}")
+    private int initialLimit;
+
+    @Value("${load-shedding.min-limit:4}")
+    private int minLimit;
+
+    @Value("${load-shedding.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${load-shedding.latency-threshold-ms:100}")
+    private long latencyThresholdMillis;
+
+    @Value("${load-shedding.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${load-shedding.backoff-interval-ms:1000}")
+    private long backoffIntervalMillis;
+
+    @Value("${load-shedding.write-share:0.3}")
+    private double writeShare;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        limitBits.set(Double.doubleToLongBits(initialLimit));
+        lastBackoffNanos.set(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(backoffIntervalMillis));
+        for (Partition partition : Partition.values()) {
+            inFlight.put(partition, new AtomicInteger());
+        }
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("load.shedding.limit", this, AdaptiveConcurrencyLimiter::limit).register(registry);
+            for (Partition partition : Partition.values()) {
+                String tag = partition.name().toLowerCase();
+                Gauge.builder("load.shedding.in.flight", inFlight.get(partition), AtomicInteger::get)
+                     .tag("partition", tag).register(registry);
+                rejectedRequests.put(partition, Counter.builder("load.shedding.rejected")
+                                                       .tag("partition", tag).register(registry));
+            }
+        });
+    }
+
+    // A granted request has to be released when it completes.
+    public boolean tryAcquire(Partition partition) {
+        AtomicInteger requests = inFlight.get(partition);
+
+        if (requests.incrementAndGet() > limitOf(partition)) {
+            requests.decrementAndGet();
+            Counter rejected = rejectedRequests.get(partition);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            return false;
+        }
+
+        return true;
+    }
+
+    public void release(Partition partition) {
+        inFlight.get(partition).decrementAndGet();
+    }
+
+    void onQueryLatency(long latencyNanos) {
+        if (latencyNanos > TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis)) {
+            long now = System.nanoTime();
+            long lastBackoff = lastBackoffNanos.get();
+            // Of the slow statements of one interval only the one that moves the backoff time cuts the limit.
+            if (now - lastBackoff >= TimeUnit.MILLISECONDS.toNanos(backoffIntervalMillis)
+                    && lastBackoffNanos.compareAndSet(lastBackoff, now)) {
+                updateLimit(current -> Math.max(minLimit, current * backoffRatio));
+            }
+        } else if (totalInFlight() * 2 >= limit()) {
+            updateLimit(current -> Math.min(maxLimit, current + 1 / current));
+        }
+    }
+
+    int limitOf(Partition partition) {
+        double share = (partition == Partition.WRITE) ? writeShare : 1 - writeShare;
+
+        return Math.max(1, (int) Math.ceil(limit() * share));
+    }
+
+    double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    private void updateLimit(DoubleUnaryOperator update) {
+        limitBits.updateAndGet(bits -> Double.doubleToLongBits(update.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+
+    private int totalInFlight() {
+        return inFlight.get(Partition.READ).get() + inFlight.get(Partition.WRITE).get();
+    }
+}
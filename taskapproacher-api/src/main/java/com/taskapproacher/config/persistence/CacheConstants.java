@@ -0,0 +1,19 @@
+package com.taskapproacher.config.persistence;
+
+import java.util.List;
+
+public final class CacheConstants {
+    // Second-level cache regions, each one is created with its own size and TTL bounds in HibernateConfig.
+    public static final String USER_REGION = "user";
+    public static final String USER_TASK_BOARDS_REGION = "user.taskBoards";
+    public static final String TASK_BOARD_REGION = "taskBoard";
+    public static final String TASK_BOARD_TASKS_REGION = "taskBoard.tasks";
+    public static final String TASK_REGION = "task";
+
+    public static final List<String> REGIONS = List.of(USER_REGION, USER_TASK_BOARDS_REGION, TASK_BOARD_REGION,
+                                                       TASK_BOARD_TASKS_REGION, TASK_REGION);
+
+    // Collection roles, the inverse sides of Task.taskBoard and TaskBoard.user are evicted by owner on writes.
+    public static final String USER_TASK_BOARDS_ROLE = "com.taskapproacher.user.model.User.taskBoards";
+    public static final String TASK_BOARD_TASKS_ROLE = "com.taskapproacher.task.model.TaskBoard.tasks";
+}
@@ -0,0 +1,58 @@
+package com.taskapproacher.config.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Data source of the session factory, applies the RequestDeadline to the statements of its connections.
+public class DeadlineDataSource extends DelegatingDataSource {
+    private final RequestDeadline requestDeadline;
+
+    public DeadlineDataSource(DataSource targetDataSource, RequestDeadline requestDeadline) {
+        super(targetDataSource);
+        this.requestDeadline = requestDeadline;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withDeadline(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withDeadline(super.getConnection(username, password));
+    }
+
+    private Connection withDeadline(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                   new Class<?>[]{Connection.class},
+                                                   new StatementDeadline(connection, requestDeadline));
+    }
+
+    // createStatement, prepareStatement and prepareCall all return statements, everything else is passed through.
+    private record StatementDeadline(Connection target,
+                                     RequestDeadline requestDeadline) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+
+            if (result instanceof Statement statement) {
+                requestDeadline.apply(statement);
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskapproacher.config.persistence;
+
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.exception.util.ErrorResponseUtil;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/*
+Sheds requests over the adaptive limit with 503 before they take a connection, ordered first so even the
+authentication lookup isn't reached. GET, HEAD and OPTIONS are reads, any other method is a write, logins included.
+The permit is held for the first dispatch only, the async part of reactive and event stream endpoints doesn't use
+Hibernate sessions.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 2)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @Value("${load-shedding.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Partition partition = isRead(request)
+                                                         ? AdaptiveConcurrencyLimiter.Partition.READ
+                                                         : AdaptiveConcurrencyLimiter.Partition.WRITE;
+
+        if (!limiter.tryAcquire(partition)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            ErrorResponseUtil.sendErrorResponse(request, response, HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                                ExceptionMessage.SERVICE_OVERLOADED.toString());
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(partition);
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+               || HttpMethod.OPTIONS.matches(method);
+    }
+}
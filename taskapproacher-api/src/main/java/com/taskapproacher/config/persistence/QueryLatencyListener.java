@@ -0,0 +1,33 @@
+package com.taskapproacher.config.persistence;
+
+import org.hibernate.SessionEventListener;
+
+// Reports the latency of every JDBC statement and batch of a session, a session is used by one thread at a time.
+class QueryLatencyListener implements SessionEventListener {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private long startedAt;
+
+    QueryLatencyListener(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        limiter.onQueryLatency(System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        limiter.onQueryLatency(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskapproacher.config.persistence;
+
+import com.taskapproacher.common.constant.ExceptionMessage;
+
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/*
+Deadline of the request on the current thread, set by StatementTimeoutInterceptor. Every JDBC statement created
+before it gets the remaining time as its query timeout, so the driver cancels a query the client no longer waits
+for. Once the deadline has passed no statement is created at all. Statements outside a request have no deadline.
+ */
+@Component
+public class RequestDeadline {
+    private final ThreadLocal<Long> expiresAtNanos = new ThreadLocal<>();
+
+    public void begin(long timeoutMillis) {
+        expiresAtNanos.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    public void end() {
+        expiresAtNanos.remove();
+    }
+
+    // JDBC timeouts have a precision of seconds, the remaining time is rounded up.
+    void apply(Statement statement) throws SQLException {
+        Long expiresAt = expiresAtNanos.get();
+        if (expiresAt == null) {
+            return;
+        }
+
+        long remainingNanos = expiresAt - System.nanoTime();
+        if (remainingNanos <= 0) {
+            statement.close();
+            throw new SQLTimeoutException(ExceptionMessage.REQUEST_DEADLINE_EXCEEDED.toString());
+        }
+
+        statement.setQueryTimeout((int) Math.ceilDiv(remainingNanos, TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskapproacher.config.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/*
+Exports the per-region second-level cache statistics as hibernate.second.level.cache.requests{region, result}
+and hibernate.second.level.cache.puts{region}. Nothing is registered while the cache is disabled.
+ */
+@Component
+public class SecondLevelCacheMetrics {
+    private final SessionFactory sessionFactory;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Autowired
+    public SecondLevelCacheMetrics(SessionFactory sessionFactory, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.sessionFactory = sessionFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void registerMeters() {
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()
+            || !statistics.isStatisticsEnabled()) {
+            return;
+        }
+
+        meterRegistry.ifAvailable(registry -> {
+            for (String region : CacheConstants.REGIONS) {
+                register(registry, statistics, "hibernate.second.level.cache.requests", region, "hit",
+                         CacheRegionStatistics::getHitCount);
+                register(registry, statistics, "hibernate.second.level.cache.requests", region, "miss",
+                         CacheRegionStatistics::getMissCount);
+                register(registry, statistics, "hibernate.second.level.cache.puts", region, null,
+                         CacheRegionStatistics::getPutCount);
+            }
+        });
+    }
+
+    private void register(MeterRegistry registry, Statistics statistics, String name, String region, String result,
+                          ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, stats -> {
+            CacheRegionStatistics regionStatistics = stats.getCacheRegionStatistics(region);
+            return (regionStatistics == null) ? 0 : count.applyAsLong(regionStatistics);
+        }).tag("region", region);
+
+        if (result != null) {
+            builder.tag("result", result);
+        }
+
+        builder.register(registry);
+    }
+}
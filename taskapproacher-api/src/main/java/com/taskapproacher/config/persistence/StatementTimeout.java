@@ -0,0 +1,13 @@
+package com.taskapproacher.config.persistence;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Time the queries of an endpoint may take in total, instead of persistence.statement-timeout.default-ms.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementTimeout {
+    long millis();
+}
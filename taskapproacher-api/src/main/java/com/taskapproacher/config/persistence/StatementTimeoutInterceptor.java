@@ -0,0 +1,81 @@
+package com.taskapproacher.config.persistence;
+
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.exception.util.ErrorResponseUtil;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/*
+Sets the RequestDeadline of a handler: the @StatementTimeout of the endpoint or the default one, shortened by the
+X-Request-Deadline header. The header holds the milliseconds the client is still willing to wait, relative so the
+clocks of client and server needn't agree. The deadline ends with the handler, or when it hands the request over to
+an async thread, which doesn't run Hibernate queries.
+ */
+@Component
+public class StatementTimeoutInterceptor implements AsyncHandlerInterceptor {
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    private final RequestDeadline requestDeadline;
+
+    @Value("${persistence.statement-timeout.default-ms:5000}")
+    private long defaultTimeoutMillis;
+
+    @Autowired
+    public StatementTimeoutInterceptor(RequestDeadline requestDeadline) {
+        this.requestDeadline = requestDeadline;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) throws Exception {
+        long timeoutMillis = defaultTimeoutMillis;
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementTimeout statementTimeout = handlerMethod.getMethodAnnotation(StatementTimeout.class);
+            if (statementTimeout != null) {
+                timeoutMillis = statementTimeout.millis();
+            }
+        }
+
+        String deadline = request.getHeader(DEADLINE_HEADER);
+        if (deadline != null) {
+            long clientTimeoutMillis = parseTimeout(deadline);
+            if (clientTimeoutMillis <= 0) {
+                ErrorResponseUtil.sendErrorResponse(request, response, HttpStatus.BAD_REQUEST.value(),
+                                                    ExceptionMessage.INVALID_REQUEST_DEADLINE.toString());
+                return false;
+            }
+            timeoutMillis = Math.min(timeoutMillis, clientTimeoutMillis);
+        }
+
+        requestDeadline.begin(timeoutMillis);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        requestDeadline.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        requestDeadline.end();
+    }
+
+    private static long parseTimeout(String deadline) {
+        try {
+            return Long.parseLong(deadline.trim());
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskapproacher.config.persistence;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionBuilder;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/*
+Source of sessions for the repositories. Outside of a unit of work every call gets its own session, as before.
+Inside one (see UnitOfWorkFilter) all calls on the thread share a single session, so they share one connection
+and one first-level cache, and closing the shared session is deferred to end().
+
+The shared session uses manual flushing: a read transaction never writes entities changed by the caller, only
+repository write methods flush, right before their commit. A repository call whose transaction is rolled back or left
+uncommitted has failed: its session is rolled back and discarded, and the next call gets a new one, so the state
+left in the persistence context by the failed call is not read or flushed again.
+ */
+@Component
+public class UnitOfWork {
+    private final SessionFactory sessionFactory;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ThreadLocal<Session> currentSession = new ThreadLocal<>();
+
+    @Autowired
+    public UnitOfWork(SessionFactory sessionFactory, AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.sessionFactory = sessionFactory;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public Session openSession() {
+        Session session = currentSession.get();
+
+        return (session == null) ? sessionBuilder().openSession() : session;
+    }
+
+    /*
+    Session for projection reads: no automatic flush and, outside of a unit of work, nothing loaded through it is
+    snapshotted for dirty checking. The shared session stays as it is, so read paths also mark their queries read-only.
+     */
+    public Session openReadOnlySession() {
+        Session session = currentSession.get();
+        if (session != null) {
+            return session;
+        }
+
+        session = sessionBuilder().flushMode(FlushMode.MANUAL).openSession();
+        session.setDefaultReadOnly(true);
+
+        return session;
+    }
+
+    public boolean isActive() {
+        return currentSession.get() != null;
+    }
+
+    public void begin() throws IllegalStateException {
+        if (isActive()) {
+            throw new IllegalStateException("Unit of work is already active");
+        }
+
+        currentSession.set(nonClosing(openSharedSession()));
+    }
+
+    public void end() {
+        Session session = currentSession.get();
+        currentSession.remove();
+
+        if (session != null) {
+            ((NonClosingSession) Proxy.getInvocationHandler(session)).target.close();
+        }
+    }
+
+    private Session openSharedSession() {
+        return sessionBuilder().flushMode(FlushMode.MANUAL)
+                               .connectionHandlingMode(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_HOLD)
+                               .openSession();
+    }
+
+    // Called when a repository closes the shared session, before its catch block runs.
+    private void discardIfFailed(NonClosingSession sharedSession) {
+        Session session = sharedSession.target;
+        if (!session.isOpen()) {
+            return;
+        }
+
+        try {
+            if (session.getTransaction().isActive()) {
+                sharedSession.failed = true;
+                session.getTransaction().rollback();
+            }
+        } finally {
+            if (sharedSession.failed) {
+                session.close();
+                currentSession.set(nonClosing(openSharedSession()));
+            }
+        }
+    }
+
+    // Statement latencies of every session feed the adaptive limit of LoadSheddingFilter.
+    private SessionBuilder sessionBuilder() {
+        return sessionFactory.withOptions().eventListeners(new QueryLatencyListener(concurrencyLimiter));
+    }
+
+    private Session nonClosing(Session session) {
+        return (Session) Proxy.newProxyInstance(Session.class.getClassLoader(), new Class<?>[]{Session.class},
+                                                new NonClosingSession(session));
+    }
+
+    // Lets repositories keep try-with-resources on the shared session.
+    private final class NonClosingSession implements InvocationHandler {
+        private final Session target;
+        private boolean failed;
+
+        private NonClosingSession(Session target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                discardIfFailed(this);
+                return null;
+            }
+
+            try {
+                Object result = method.invoke(target, args);
+                if (method.getName().equals("beginTransaction")) {
+                    ((Transaction) result).registerSynchronization(new RollbackListener(this));
+                }
+
+                return result;
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+    }
+
+    // Rollbacks done by the repositories themselves, the transaction is no longer active when the session is closed.
+    private record RollbackListener(NonClosingSession sharedSession) implements Synchronization {
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != Status.STATUS_COMMITTED) {
+                sharedSession.failed = true;
+            }
+        }
+    }
+}
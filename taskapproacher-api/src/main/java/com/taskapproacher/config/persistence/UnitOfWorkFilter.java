@@ -0,0 +1,46 @@
+package com.taskapproacher.config.persistence;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Ordered before the security filter chain, so the authentication lookup joins the request's unit of work too.
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class UnitOfWorkFilter extends OncePerRequestFilter {
+    private final UnitOfWork unitOfWork;
+
+    @Value("${persistence.unit-of-work.enabled:false}")
+    private boolean enabled;
+
+    @Autowired
+    public UnitOfWorkFilter(UnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        unitOfWork.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            unitOfWork.end();
+        }
+    }
+}
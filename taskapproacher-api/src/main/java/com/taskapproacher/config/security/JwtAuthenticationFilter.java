@@ -1,7 +1,12 @@
 package com.taskapproacher.config.security;
 
+import com.taskapproacher.auth.model.UserCredentials;
+import com.taskapproacher.auth.model.UserPrincipal;
 import com.taskapproacher.auth.service.JwtService;
+import com.taskapproacher.auth.service.TokenDenylist;
+import com.taskapproacher.auth.service.TokenVersionCache;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 
 import jakarta.servlet.FilterChain;
@@ -10,31 +15,51 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @Component
 public final class JwtAuthenticationFilter extends OncePerRequestFilter {
+    // Reads the access token itself, an expired one mustn't fail the request before the refresh token is revoked.
+    private static final RequestMatcher LOGOUT = PathPatternRequestMatcher.withDefaults().matcher("/api/auth/logout");
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
+    private final TokenDenylist tokenDenylist;
     private final HandlerExceptionResolver handlerExceptionResolver;
 
+    // When disabled, or for tokens issued without principal claims, the user is loaded from the database.
+    @Value("${jwt.stateless-principal.enabled:true}")
+    private boolean statelessPrincipalEnabled;
+
     @Autowired
     public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   TokenVersionCache tokenVersionCache, TokenDenylist tokenDenylist,
                                    HandlerExceptionResolver handlerExceptionResolver) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.tokenDenylist = tokenDenylist;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return LOGOUT.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
@@ -46,15 +71,18 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String jwt = authHeader.substring(7);
-            String username = jwtService.extractUsername(jwt);
+            Claims claims = jwtService.verify(jwt);
+            String username = claims.getSubject();
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !isTokenRevoked(claims)) {
+                UserPrincipal principal = resolvePrincipal(claims);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (principal != null
+                    && !tokenDenylist.isUserRevoked(principal.getID(), claims.getIssuedAt().toInstant())) {
                     UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(userDetails, null,
-                                                                    userDetails.getAuthorities());
+                            new UsernamePasswordAuthenticationToken(principal, null,
+                                                                    principal.getAuthorities());
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -66,4 +94,24 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
     }
+
+    private boolean isTokenRevoked(Claims claims) {
+        UUID tokenID = jwtService.extractTokenID(claims);
+
+        return tokenID != null && tokenDenylist.isTokenRevoked(tokenID, claims.getExpiration().toInstant());
+    }
+
+    private UserPrincipal resolvePrincipal(Claims claims) {
+        if (statelessPrincipalEnabled && jwtService.hasPrincipalClaims(claims)) {
+            UserPrincipal principal = jwtService.extractPrincipal(claims);
+
+            return tokenVersionCache.isCurrent(principal.getID(), principal.getTokenVersion()) ? principal : null;
+        }
+
+        UserCredentials user = (UserCredentials) userDetailsService.loadUserByUsername(claims.getSubject());
+        boolean isCurrentVersion = !jwtService.hasPrincipalClaims(claims)
+                                   || jwtService.extractPrincipal(claims).getTokenVersion() == user.getTokenVersion();
+
+        return (isCurrentVersion && jwtService.isTokenValid(claims, user)) ? UserPrincipal.from(user) : null;
+    }
 }
@@ -0,0 +1,128 @@
+package com.taskapproacher.config.security;
+
+import com.taskapproacher.auth.model.UserPrincipal;
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.exception.util.ErrorResponseUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+Admission control in front of the API, placed after JwtAuthenticationFilter so requests are counted per user when
+authenticated and per client IP otherwise. /api/auth/** has its own, stricter limit per IP, as logins and
+registrations hash passwords. A request over the limit is answered with 429 and Retry-After before it reaches a
+controller or the database. The client IP is the remote address, set from forwarded headers by the container when
+server.forward-headers-strategy is configured for a trusted proxy.
+ */
+@Component
+public final class RateLimitFilter extends OncePerRequestFilter {
+    private static final String AUTH_PATH = "/api/auth/";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private TokenBucketLimiter authLimiter;
+    private TokenBucketLimiter apiLimiter;
+    private Counter rejectedAuthRequests;
+    private Counter rejectedApiRequests;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${rate-limit.auth.refill-per-second:1}")
+    private double authRefillPerSecond;
+
+    @Value("${rate-limit.api.capacity:100}")
+    private int apiCapacity;
+
+    @Value("${rate-limit.api.refill-per-second:50}")
+    private double apiRefillPerSecond;
+
+    @Autowired
+    public RateLimitFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        authLimiter = new TokenBucketLimiter(authCapacity, authRefillPerSecond);
+        apiLimiter = new TokenBucketLimiter(apiCapacity, apiRefillPerSecond);
+
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("rate.limit.buckets", authLimiter, TokenBucketLimiter::size).tag("limit", "auth")
+                 .register(registry);
+            Gauge.builder("rate.limit.buckets", apiLimiter, TokenBucketLimiter::size).tag("limit", "api")
+                 .register(registry);
+            rejectedAuthRequests = Counter.builder("rate.limit.rejected").tag("limit", "auth").register(registry);
+            rejectedApiRequests = Counter.builder("rate.limit.rejected").tag("limit", "api").register(registry);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean isAuthRequest = request.getRequestURI().startsWith(AUTH_PATH);
+        long waitNanos = isAuthRequest
+                         ? authLimiter.tryAcquire(request.getRemoteAddr(), System.nanoTime())
+                         : apiLimiter.tryAcquire(clientKey(request), System.nanoTime());
+
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Counter rejected = isAuthRequest ? rejectedAuthRequests : rejectedApiRequests;
+        if (rejected != null) {
+            rejected.increment();
+        }
+
+        // Rounded up, a client retrying after the header gets a token.
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        ErrorResponseUtil.sendErrorResponse(request, response, HttpStatus.TOO_MANY_REQUESTS.value(),
+                                            ExceptionMessage.TOO_MANY_REQUESTS.toString());
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void removeIdleBuckets() {
+        long now = System.nanoTime();
+        authLimiter.removeIdle(now);
+        apiLimiter.removeIdle(now);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getID().toString();
+        }
+
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskapproacher.config.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+Token buckets per key, without locks. A bucket is kept as a single timestamp, the time at which it will be full
+again (the virtual scheduling form of the token bucket): taking a token moves it one refill interval later, and the
+token is only granted while the bucket stays at most capacity intervals behind the clock. Updates are one CAS.
+A full bucket holds nothing the next request couldn't recreate, so idle buckets are removed by a sweep over the
+concurrent map instead of a global lock. A bucket removed while a request takes a token grants at most one extra.
+ */
+class TokenBucketLimiter {
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    TokenBucketLimiter(int capacity, double refillPerSecond) {
+        this.refillIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = capacity * refillIntervalNanos;
+    }
+
+    // 0 when a token was taken, otherwise the nanoseconds until the next one is available.
+    long tryAcquire(String key, long nowNanos) {
+        AtomicLong fullAt = buckets.computeIfAbsent(key, bucket -> new AtomicLong(nowNanos));
+
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + refillIntervalNanos;
+            long wait = next - nowNanos - burstNanos;
+
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    void removeIdle(long nowNanos) {
+        buckets.values().removeIf(fullAt -> fullAt.get() - nowNanos <= 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
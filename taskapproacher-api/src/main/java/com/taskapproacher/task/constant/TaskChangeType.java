@@ -0,0 +1,8 @@
+package com.taskapproacher.task.constant;
+
+// A task moved to another board is logged as deleted on the previous board and created on the new one.
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
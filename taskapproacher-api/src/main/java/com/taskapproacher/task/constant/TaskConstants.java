@@ -4,4 +4,16 @@ public final class TaskConstants {
     public static final int MAX_TASK_TITLE_LENGTH = 510;
     public static final int MAX_TASK_BOARD_TITLE_LENGTH = 255;
     public static final int MAX_TASK_DESCRIPTION_LENGTH = 2040;
+    public static final int DEFAULT_TASKS_PAGE_SIZE = 100;
+    public static final int MAX_TASKS_PAGE_SIZE = 500;
+    public static final int MAX_BULK_TASKS = 100;
+
+    // Named entity graphs of TaskBoard, see the @NamedEntityGraph declarations on the entity.
+    public static final String BOARD_HEADER_GRAPH = "TaskBoard.header";
+    public static final String BOARD_WITH_TASKS_GRAPH = "TaskBoard.withTasks";
+    public static final String BOARD_DASHBOARD_GRAPH = "TaskBoard.dashboard";
+
+    // Names of the Server-Sent Events of the board and user streams.
+    public static final String TASK_EVENT = "task";
+    public static final String TASK_BOARD_EVENT = "board";
 }
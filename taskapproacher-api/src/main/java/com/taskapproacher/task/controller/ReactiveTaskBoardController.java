@@ -0,0 +1,61 @@
+package com.taskapproacher.task.controller;
+
+import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.service.ReactiveTaskBoardService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Non-blocking variants of the TaskBoardController endpoints, see ReactiveTaskController.
+@RestController
+@RequestMapping("/api/reactive/board")
+public class ReactiveTaskBoardController {
+    private final ReactiveTaskBoardService taskBoardService;
+
+    @Autowired
+    public ReactiveTaskBoardController(ReactiveTaskBoardService taskBoardService) {
+        this.taskBoardService = taskBoardService;
+    }
+
+    @GetMapping("/{boardID}")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public Mono<ResponseEntity<TaskBoardDTO>> getTaskBoard(@PathVariable UUID boardID) {
+        return taskBoardService.findByID(boardID).map(ResponseEntity::ok);
+    }
+
+    // Unpaged, a JSON array of all tasks of the board; application/x-ndjson streams them one per line.
+    @GetMapping("/{boardID}/tasks")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public Flux<TaskDTO> getTasksByBoard(@PathVariable UUID boardID) {
+        return taskBoardService.findByTaskBoard(boardID);
+    }
+
+    @PostMapping("/{userID}")
+    @PreAuthorize("#userID == authentication.principal.ID")
+    public Mono<ResponseEntity<TaskBoardDTO>> createTaskBoard(@PathVariable UUID userID,
+                                                              @RequestBody TaskBoardDTO board) {
+        return taskBoardService.createTaskBoard(userID, board).map(created -> ResponseEntity.status(201).body(created));
+    }
+
+    @PatchMapping("/{boardID}")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public Mono<ResponseEntity<TaskBoardDTO>> updateTaskBoard(@PathVariable UUID boardID,
+                                                              @RequestBody TaskBoardDTO board) {
+        return taskBoardService.updateTaskBoard(boardID, board).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{boardID}")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public Mono<ResponseEntity<Void>> deleteTaskBoard(@PathVariable UUID boardID) {
+        return taskBoardService.deleteTaskBoard(boardID)
+                               .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskapproacher.task.controller;
+
+import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.service.ReactiveTaskService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Non-blocking variants of the TaskController endpoints, the request thread is released while the database works.
+@RestController
+@RequestMapping("/api/reactive/task")
+public class ReactiveTaskController {
+    private final ReactiveTaskService taskService;
+
+    @Autowired
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @GetMapping("/{taskID}")
+    @PreAuthorize("@accessCheckService.hasAccessToTask(#taskID, authentication.principal.ID)")
+    public Mono<ResponseEntity<TaskDTO>> getTask(@PathVariable UUID taskID) {
+        return taskService.findByID(taskID).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/board/{boardID}")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public Mono<ResponseEntity<TaskDTO>> createTask(@PathVariable UUID boardID,
+                                                    @RequestBody TaskDTO task,
+                                                    @RequestHeader String timeZone) {
+        return taskService.createTask(boardID, task, timeZone).map(created -> ResponseEntity.status(201).body(created));
+    }
+
+    @PatchMapping("/{taskID}")
+    @PreAuthorize("@accessCheckService.hasAccessToTask(#taskID, authentication.principal.ID)")
+    public Mono<ResponseEntity<TaskDTO>> updateTask(@PathVariable UUID taskID,
+                                                    @RequestBody TaskDTO task,
+                                                    @RequestHeader String timeZone) {
+        return taskService.updateTask(taskID, task, timeZone).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{taskID}")
+    @PreAuthorize("@accessCheckService.hasAccessToTask(#taskID, authentication.principal.ID)")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable UUID taskID) {
+        return taskService.deleteTask(taskID).then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+}
@@ -1,31 +1,81 @@
 package com.taskapproacher.task.controller;
 
+import com.taskapproacher.common.cache.SerializedResponseCache;
+import com.taskapproacher.common.event.ChangeEventHub;
+import com.taskapproacher.config.persistence.StatementTimeout;
 import com.taskapproacher.task.model.TaskBoardDTO;
-import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.model.TaskChangesDTO;
+import com.taskapproacher.task.model.TaskPage;
 import com.taskapproacher.task.service.TaskBoardService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/board")
 public class TaskBoardController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TaskBoardService taskBoardService;
+    private final SerializedResponseCache responseCache;
+    private final ChangeEventHub eventHub;
 
     @Autowired
-    public TaskBoardController(TaskBoardService taskBoardService) {
+    public TaskBoardController(TaskBoardService taskBoardService, SerializedResponseCache responseCache,
+                               ChangeEventHub eventHub) {
         this.taskBoardService = taskBoardService;
+        this.responseCache = responseCache;
+        this.eventHub = eventHub;
     }
 
     @GetMapping("/{boardID}/tasks")
+    @StatementTimeout(millis = 10000)
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public ResponseEntity<?> getTasksByBoard(@PathVariable UUID boardID,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer limit,
+                                             WebRequest request) {
+        // The board version is the ETag: a matching If-None-Match is answered with 304 before the tasks are read.
+        long version = taskBoardService.findVersion(boardID);
+        if (request.checkNotModified(String.valueOf(version))) {
+            return null;
+        }
+
+        // Cached bodies are keyed by the version too. A write commits its version before it invalidates the cache,
+        // a body cached for the previous version can't be served under the new ETag in between.
+        String variant = version + ":" + cursor + ":" + limit;
+
+        return responseCache.get(SerializedResponseCache.BOARD_TASKS, boardID, variant, () -> {
+            TaskPage page = taskBoardService.findByTaskBoard(boardID, cursor, limit);
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+
+            return response.body(page.getTasks());
+        });
+    }
+
+    @GetMapping("/{boardID}/changes")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public ResponseEntity<TaskChangesDTO> getChangesByBoard(@PathVariable UUID boardID,
+                                                            @RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(taskBoardService.findChangesSince(boardID, since));
+    }
+
+    // Task events of the board, see ChangeEventHub. A client that reconnects catches up with getChangesByBoard.
+    @GetMapping(value = "/{boardID}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
-    public ResponseEntity<List<TaskDTO>> getTasksByBoard(@PathVariable UUID boardID) {
-        return ResponseEntity.ok(taskBoardService.findByTaskBoard(boardID));
+    public SseEmitter getBoardEvents(@PathVariable UUID boardID) {
+        return eventHub.subscribe(ChangeEventHub.BOARD_EVENTS, boardID);
     }
 
     @PostMapping("/{userID}")
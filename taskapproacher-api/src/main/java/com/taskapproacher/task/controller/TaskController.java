@@ -1,13 +1,17 @@
 package com.taskapproacher.task.controller;
 
+import com.taskapproacher.auth.model.UserPrincipal;
+import com.taskapproacher.task.model.TaskBulkResult;
 import com.taskapproacher.task.model.TaskDTO;
 import com.taskapproacher.task.service.TaskService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -21,13 +25,41 @@ public class TaskController {
     }
 
     @PostMapping("/board/{boardID}")
-    @PreAuthorize("@taskBoardService.findByID(#boardID).user.ID == authentication.principal.ID")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
     public ResponseEntity<TaskDTO> createTask(@PathVariable UUID boardID,
                                                    @RequestBody TaskDTO task,
                                                    @RequestHeader String timeZone) {
         return ResponseEntity.status(201).body(taskService.createTask(boardID, task, timeZone));
     }
 
+    @PostMapping("/board/{boardID}/bulk")
+    @PreAuthorize("@accessCheckService.hasAccessToBoard(#boardID, authentication.principal.ID)")
+    public ResponseEntity<List<TaskBulkResult>> createTasks(@PathVariable UUID boardID,
+                                                            @RequestBody List<TaskDTO> tasks,
+                                                            @RequestHeader String timeZone) {
+        return ResponseEntity.ok(taskService.createTasks(boardID, tasks, timeZone));
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<List<TaskBulkResult>> updateTasks(@AuthenticationPrincipal UserPrincipal principal,
+                                                            @RequestBody List<TaskDTO> tasks,
+                                                            @RequestHeader String timeZone) {
+        return ResponseEntity.ok(taskService.updateTasks(principal.getID(), tasks, timeZone));
+    }
+
+    @PatchMapping("/bulk/finish")
+    public ResponseEntity<List<TaskBulkResult>> finishTasks(@AuthenticationPrincipal UserPrincipal principal,
+                                                            @RequestBody List<UUID> taskIDs,
+                                                            @RequestParam(defaultValue = "true") boolean finished) {
+        return ResponseEntity.ok(taskService.finishTasks(principal.getID(), taskIDs, finished));
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<List<TaskBulkResult>> deleteTasks(@AuthenticationPrincipal UserPrincipal principal,
+                                                            @RequestBody List<UUID> taskIDs) {
+        return ResponseEntity.ok(taskService.deleteTasks(principal.getID(), taskIDs));
+    }
+
     @PatchMapping("/{taskID}")
     @PreAuthorize("@accessCheckService.hasAccessToTask(#taskID, authentication.principal.ID)")
     public ResponseEntity<TaskDTO> updateTask(@PathVariable UUID taskID,
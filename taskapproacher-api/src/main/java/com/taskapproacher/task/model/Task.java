@@ -3,6 +3,7 @@ package com.taskapproacher.task.model;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
 import com.taskapproacher.common.interfaces.attributes.TaskAttributes;
+import com.taskapproacher.config.persistence.CacheConstants;
 import com.taskapproacher.task.constant.Priority;
 
 import com.taskapproacher.task.constant.TaskConstants;
@@ -14,6 +15,8 @@ import lombok.NoArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
@@ -23,8 +26,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConstants.TASK_REGION)
 @DynamicUpdate
-@Table(name = "tasks")
+@Table(name = "tasks",
+       indexes = @Index(name = "idx_tasks_board_priority_deadline_id",
+                        columnList = "task_board_id, priority, deadline, ID"))
 public class Task implements TaskAttributes {
     @Id
     @Setter
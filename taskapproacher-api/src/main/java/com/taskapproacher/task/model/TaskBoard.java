@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import com.taskapproacher.common.interfaces.attributes.TaskBoardAttributes;
+import com.taskapproacher.config.persistence.CacheConstants;
 import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.user.model.User;
 
@@ -15,9 +16,13 @@ import lombok.NoArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -25,8 +30,16 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConstants.TASK_BOARD_REGION)
 @DynamicUpdate
 @Table(name = "task_boards")
+@NamedEntityGraph(name = TaskConstants.BOARD_HEADER_GRAPH,
+                  attributeNodes = @NamedAttributeNode("user"))
+@NamedEntityGraph(name = TaskConstants.BOARD_WITH_TASKS_GRAPH,
+                  attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("tasks")})
+@NamedEntityGraph(name = TaskConstants.BOARD_DASHBOARD_GRAPH,
+                  attributeNodes = @NamedAttributeNode("tasks"))
 public class TaskBoard implements TaskBoardAttributes {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -39,7 +52,8 @@ public class TaskBoard implements TaskBoardAttributes {
     @Column(name = "sorted", nullable = false)
     private boolean sorted;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "taskBoard", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "taskBoard", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConstants.TASK_BOARD_TASKS_REGION)
     @JsonManagedReference
     private List<Task> tasks;
 
@@ -48,14 +62,29 @@ public class TaskBoard implements TaskBoardAttributes {
     @JsonBackReference
     private User user;
 
+    // Bumped with HQL in the same transaction as every task write on the board, the ETag of its task pages.
+    @Column(name = "version", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    // Highest version whose change log entries have been compacted away, clients behind it have to resync.
+    @Column(name = "changes_floor", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long changesFloor;
+
     public TaskBoard(UUID ID, String title, boolean sorted, List<Task> tasks) {
         this(ID, title, sorted, tasks, null);
     }
 
+    public TaskBoard(UUID ID, String title, boolean sorted, List<Task> tasks, User user) {
+        this(ID, title, sorted, tasks, user, 0, 0);
+    }
+
     public UUID getUserID() {
         return this.user.getID();
     }
 
+    // Identity only, the lazy tasks and the user can't be compared on a detached board.
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -63,22 +92,18 @@ public class TaskBoard implements TaskBoardAttributes {
 
         TaskBoard comparableTable = (TaskBoard) o;
 
-        return title.equals(comparableTable.title)
-               && sorted == comparableTable.sorted
-               && tasks.equals(comparableTable.tasks)
-               && user.equals(comparableTable.user);
+        return ID != null && ID.equals(comparableTable.ID);
     }
 
     @Override
     public int hashCode() {
-        return 11 + title.hashCode() + Boolean.hashCode(sorted) + tasks.hashCode() + user.hashCode();
+        return 11 + Objects.hashCode(ID);
     }
 
     @Override
     public String toString() {
         return "[   Table: " + ID
                + ", Title: " + title
-               + ", Sorted: " + sorted
-               + "User: " + user.getUsername() + "    ]";
+               + ", Sorted: " + sorted + "    ]";
     }
 }
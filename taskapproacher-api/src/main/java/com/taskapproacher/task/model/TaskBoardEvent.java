@@ -0,0 +1,18 @@
+package com.taskapproacher.task.model;
+
+import com.taskapproacher.task.constant.TaskChangeType;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/*
+Pushed to the subscribers of a user after one of their boards is written. Task writes that change the number of
+tasks on a board are sent as updates without the board, its summary is read again.
+ */
+@Value
+public class TaskBoardEvent {
+    TaskChangeType type;
+    UUID taskBoardID;
+    TaskBoardDTO taskBoard;
+}
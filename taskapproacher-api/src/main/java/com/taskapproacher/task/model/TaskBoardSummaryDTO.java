@@ -0,0 +1,15 @@
+package com.taskapproacher.task.model;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+// Board header for dashboards, built directly by a projection query, tasks are only counted.
+@Value
+public class TaskBoardSummaryDTO {
+    UUID ID;
+    String title;
+    boolean sorted;
+    UUID userID;
+    long taskCount;
+}
@@ -0,0 +1,29 @@
+package com.taskapproacher.task.model;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/*
+Outcome of one item of a bulk task request. Index is the position of the item in the request, task is set on
+success and error on failure.
+ */
+@Value
+public class TaskBulkResult {
+    int index;
+    UUID ID;
+    TaskDTO task;
+    String error;
+
+    public static TaskBulkResult success(int index, TaskDTO task) {
+        return new TaskBulkResult(index, task.getID(), task, null);
+    }
+
+    public static TaskBulkResult success(int index, UUID taskID) {
+        return new TaskBulkResult(index, taskID, null, null);
+    }
+
+    public static TaskBulkResult failure(int index, UUID taskID, String error) {
+        return new TaskBulkResult(index, taskID, null, error);
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskapproacher.task.model;
+
+import com.taskapproacher.task.constant.TaskChangeType;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+Entry of the change log of a board, written in the transaction of the task write. The sequence is the board version
+the write produced, so entries of one write share it. The task id has no foreign key, entries of deleted tasks stay.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_changes",
+       indexes = {@Index(name = "idx_task_changes_board_sequence", columnList = "task_board_id, sequence_number"),
+                  @Index(name = "idx_task_changes_changed_at", columnList = "changed_at")})
+public class TaskChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID ID;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "task_board_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TaskBoard taskBoard;
+
+    @Column(name = "sequence_number", nullable = false)
+    private long sequence;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskID;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private TaskChangeType type;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
@@ -0,0 +1,16 @@
+package com.taskapproacher.task.model;
+
+import com.taskapproacher.task.constant.TaskChangeType;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+// Latest change of a task, with its current state unless it was deleted.
+@Value
+public class TaskChangeDTO {
+    long sequence;
+    UUID taskID;
+    TaskChangeType type;
+    TaskDTO task;
+}
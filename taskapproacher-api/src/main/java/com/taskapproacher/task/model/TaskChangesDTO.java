@@ -0,0 +1,17 @@
+package com.taskapproacher.task.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/*
+Changes of a board after the version a client has. The version is the one to ask from next time. When the log no
+longer reaches back to the client's version, resyncRequired is set, changes are empty and the board has to be
+downloaded again.
+ */
+@Value
+public class TaskChangesDTO {
+    long version;
+    boolean resyncRequired;
+    List<TaskChangeDTO> changes;
+}
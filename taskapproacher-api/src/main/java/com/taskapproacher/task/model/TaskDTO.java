@@ -1,5 +1,7 @@
 package com.taskapproacher.task.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import com.taskapproacher.common.interfaces.attributes.TaskAttributes;
 import com.taskapproacher.task.constant.Priority;
 
@@ -10,6 +12,8 @@ import java.util.UUID;
 
 @Value
 public class TaskDTO implements TaskAttributes {
+    // Same name as in responses, so bulk requests can send back the tasks they received.
+    @JsonProperty("id")
     UUID ID;
     String title;
     String description;
@@ -0,0 +1,18 @@
+package com.taskapproacher.task.model;
+
+import com.taskapproacher.task.constant.TaskChangeType;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/*
+Pushed to the subscribers of a board after a task write is committed. The task is null when it was deleted and
+after bulk finish updates, which don't read the tasks back.
+ */
+@Value
+public class TaskEvent {
+    TaskChangeType type;
+    UUID taskID;
+    TaskDTO task;
+}
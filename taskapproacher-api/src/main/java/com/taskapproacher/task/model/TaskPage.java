@@ -0,0 +1,12 @@
+package com.taskapproacher.task.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class TaskPage {
+    List<TaskDTO> tasks;
+    // Null when the page is the last one.
+    String nextCursor;
+}
@@ -0,0 +1,47 @@
+package com.taskapproacher.task.model;
+
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.interfaces.attributes.TaskAttributes;
+import com.taskapproacher.task.constant.Priority;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/*
+Position of the last task of a page in the (priority, deadline, id) order. Clients only see it as an opaque
+URL-safe string and send it back unchanged to get the next page.
+ */
+@Value
+public class TaskPageCursor {
+    private static final String SEPARATOR = "|";
+
+    Priority priority;
+    LocalDate deadline;
+    UUID ID;
+
+    public static TaskPageCursor of(TaskAttributes task) {
+        return new TaskPageCursor(task.getPriority(), task.getDeadline(), task.getID());
+    }
+
+    public static TaskPageCursor decode(String cursor) throws IllegalArgumentException {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR);
+
+            return new TaskPageCursor(Priority.values()[Integer.parseInt(parts[0])],
+                                      LocalDate.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Cursor " + ExceptionMessage.WRONG_FORMAT);
+        }
+    }
+
+    public String encode() {
+        String raw = priority.ordinal() + SEPARATOR + deadline + SEPARATOR + ID;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
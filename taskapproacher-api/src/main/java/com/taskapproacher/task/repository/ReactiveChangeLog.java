@@ -0,0 +1,85 @@
+package com.taskapproacher.task.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+SQL counterpart of VersionCounters and TaskChangeLog for the reactive repositories, with the same rules: it runs in
+the transaction of the write after the write itself, the version bump locks the board rows until commit and every
+entry carries the version its write produced.
+ */
+final class ReactiveChangeLog {
+    private ReactiveChangeLog() {
+    }
+
+    // Task pages of the boards always change, the boards list of their owners only with the number of tasks.
+    static Mono<Void> record(DatabaseClient client, List<TaskChangeLog.Entry> entries, boolean taskCountChanged) {
+        if (entries.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Set<UUID> taskBoardIDs = TaskChangeLog.taskBoardIDsOf(entries);
+
+        Mono<Void> bumpOwners = !taskCountChanged ? Mono.empty() : bumpOwnersOf(client, taskBoardIDs);
+
+        return bumpTaskBoards(client, taskBoardIDs).then(bumpOwners).then(append(client, entries));
+    }
+
+    static Mono<Void> bumpUser(DatabaseClient client, UUID userID) {
+        return client.sql("UPDATE users SET boards_version = boards_version + 1 WHERE id = :userID")
+                     .bind("userID", userID)
+                     .then();
+    }
+
+    static Mono<Void> bumpOwnersOf(DatabaseClient client, Set<UUID> taskBoardIDs) {
+        return client.sql(
+                             """
+                                     UPDATE users SET boards_version = boards_version + 1
+                                     WHERE id IN (SELECT user_id FROM task_boards WHERE id IN (:boardIDs))
+                                     """)
+                     .bind("boardIDs", taskBoardIDs)
+                     .then();
+    }
+
+    private static Mono<Void> bumpTaskBoards(DatabaseClient client, Set<UUID> taskBoardIDs) {
+        return client.sql("UPDATE task_boards SET version = version + 1 WHERE id IN (:boardIDs)")
+                     .bind("boardIDs", taskBoardIDs)
+                     .then();
+    }
+
+    private static Mono<Void> append(DatabaseClient client, List<TaskChangeLog.Entry> entries) {
+        Instant changedAt = Instant.now();
+
+        return client.sql("SELECT id, version FROM task_boards WHERE id IN (:boardIDs)")
+                     .bind("boardIDs", TaskChangeLog.taskBoardIDsOf(entries))
+                     .map(row -> Map.entry(row.get("id", UUID.class), row.get("version", Long.class)))
+                     .all()
+                     .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                     .flatMapMany(versions -> Flux.fromIterable(entries).concatMap(
+                             entry -> client.sql(
+                                                    """
+                                                            INSERT INTO task_changes
+                                                                (id, task_board_id, sequence_number, task_id, type,
+                                                                 changed_at)
+                                                            VALUES (:id, :boardID, :sequence, :taskID, :type,
+                                                                    :changedAt)
+                                                            """)
+                                            .bind("id", UUID.randomUUID())
+                                            .bind("boardID", entry.taskBoardID())
+                                            .bind("sequence", versions.get(entry.taskBoardID()))
+                                            .bind("taskID", entry.taskID())
+                                            .bind("type", entry.type().name())
+                                            .bind("changedAt", changedAt)
+                                            .then()
+                     ))
+                     .then();
+    }
+}
@@ -0,0 +1,169 @@
+package com.taskapproacher.task.repository;
+
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.interfaces.repository.ReactiveGenericRepository;
+import com.taskapproacher.common.interfaces.repository.ReactiveRelatedEntityRepository;
+import com.taskapproacher.config.persistence.CacheConstants;
+import com.taskapproacher.task.model.Task;
+import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.task.model.TaskDTO;
+
+import io.r2dbc.spi.Readable;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.UUID;
+
+/*
+Non-blocking task board repository over R2DBC, see ReactiveTaskRepository. Boards are read as headers, their tasks
+are streamed by findRelatedEntitiesByID.
+ */
+@Repository
+public class ReactiveTaskBoardRepository implements ReactiveGenericRepository<TaskBoardDTO>,
+                                                    ReactiveRelatedEntityRepository<TaskDTO, UUID> {
+    private final DatabaseClient client;
+    private final TransactionalOperator transactionalOperator;
+    private final SessionFactory sessionFactory;
+    private final Validator validator;
+
+    @Autowired
+    public ReactiveTaskBoardRepository(DatabaseClient client, TransactionalOperator transactionalOperator,
+                                       SessionFactory sessionFactory, Validator validator) {
+        this.client = client;
+        this.transactionalOperator = transactionalOperator;
+        this.sessionFactory = sessionFactory;
+        this.validator = validator;
+    }
+
+    @Override
+    public Mono<TaskBoardDTO> findByID(UUID taskBoardID) {
+        return findHeader(taskBoardID)
+                .onErrorMap(exception -> new HibernateException("[DB] Failed to find task board by id: " + taskBoardID,
+                                                                exception));
+    }
+
+    // Tasks of the board in (priority, deadline, id) order, served by idx_tasks_board_priority_deadline_id.
+    @Override
+    public Flux<TaskDTO> findRelatedEntitiesByID(UUID taskBoardID) {
+        return client.sql(ReactiveTaskRepository.SELECT_TASKS
+                          + " WHERE task_board_id = :boardID ORDER BY priority, deadline, id")
+                     .bind("boardID", taskBoardID)
+                     .map(ReactiveTaskRepository::mapToTaskDTO)
+                     .all()
+                     .onErrorMap(exception -> new HibernateException("[DB] Failed to get tasks for board: "
+                                                                     + taskBoardID, exception));
+    }
+
+    // The id is generated here, the board is created for the user given by its userID.
+    @Override
+    public Mono<TaskBoardDTO> save(TaskBoardDTO taskBoard) {
+        Set<ConstraintViolation<TaskBoard>> violations = validate(taskBoard);
+        if (!violations.isEmpty()) {
+            return Mono.error(new ConstraintViolationException(
+                    ExceptionMessage.INVALID_TASK_BOARD_TITLE_LENGTH.toString(), violations));
+        }
+
+        TaskBoardDTO saved = new TaskBoardDTO(UUID.randomUUID(), taskBoard.getTitle(), taskBoard.isSorted(), null,
+                                              taskBoard.getUserID());
+
+        return client.sql("INSERT INTO task_boards (id, title, sorted, user_id) VALUES (:boardID, :title, :sorted, "
+                          + ":userID)")
+                     .bind("boardID", saved.getID())
+                     .bind("title", saved.getTitle())
+                     .bind("sorted", saved.isSorted())
+                     .bind("userID", saved.getUserID())
+                     .then()
+                     .then(ReactiveChangeLog.bumpUser(client, saved.getUserID()))
+                     .as(transactionalOperator::transactional)
+                     .then(Mono.fromRunnable(() -> evictUserTaskBoards(saved.getUserID())))
+                     .thenReturn(saved)
+                     .onErrorMap(exception -> new HibernateException("[DB] Failed to save task board: " + taskBoard,
+                                                                     exception));
+    }
+
+    // Writes the title and the sorted flag. Returns empty if the board doesn't exist.
+    @Override
+    public Mono<TaskBoardDTO> update(TaskBoardDTO taskBoard) {
+        Set<ConstraintViolation<TaskBoard>> violations = validate(taskBoard);
+        if (!violations.isEmpty()) {
+            return Mono.error(new ConstraintViolationException(
+                    ExceptionMessage.INVALID_TASK_BOARD_TITLE_LENGTH.toString(), violations));
+        }
+
+        return client.sql("UPDATE task_boards SET title = :title, sorted = :sorted WHERE id = :boardID")
+                     .bind("boardID", taskBoard.getID())
+                     .bind("title", taskBoard.getTitle())
+                     .bind("sorted", taskBoard.isSorted())
+                     .fetch()
+                     .rowsUpdated()
+                     .filter(rowsUpdated -> rowsUpdated > 0)
+                     .flatMap(rowsUpdated -> ReactiveChangeLog.bumpOwnersOf(client, Set.of(taskBoard.getID()))
+                                                              .then(findHeader(taskBoard.getID())))
+                     .as(transactionalOperator::transactional)
+                     .doOnNext(updated -> sessionFactory.getCache().evictEntityData(TaskBoard.class, updated.getID()))
+                     .onErrorMap(exception -> new HibernateException("[DB] Failed to update task board: " + taskBoard,
+                                                                     exception));
+    }
+
+    // Deletes the board with its tasks, the change log of the board goes with it by ON DELETE CASCADE.
+    @Override
+    public Mono<Void> delete(TaskBoardDTO taskBoard) {
+        return findHeader(taskBoard.getID())
+                .flatMap(current -> client.sql("DELETE FROM tasks WHERE task_board_id = :boardID")
+                                          .bind("boardID", current.getID())
+                                          .then()
+                                          .then(client.sql("DELETE FROM task_boards WHERE id = :boardID")
+                                                      .bind("boardID", current.getID())
+                                                      .then())
+                                          .then(ReactiveChangeLog.bumpUser(client, current.getUserID()))
+                                          .thenReturn(current))
+                .as(transactionalOperator::transactional)
+                .doOnNext(deleted -> {
+                    // The ids of the deleted tasks aren't read, so the whole task region is dropped.
+                    sessionFactory.getCache().evictEntityData(Task.class);
+                    sessionFactory.getCache().evictEntityData(TaskBoard.class, deleted.getID());
+                    sessionFactory.getCache().evictCollectionData(CacheConstants.TASK_BOARD_TASKS_ROLE,
+                                                                  deleted.getID());
+                    evictUserTaskBoards(deleted.getUserID());
+                })
+                .then()
+                .onErrorMap(exception -> new HibernateException("[DB] Failed to delete task board: "
+                                                                + taskBoard.getID(), exception));
+    }
+
+    private Mono<TaskBoardDTO> findHeader(UUID taskBoardID) {
+        return client.sql("SELECT id, title, sorted, user_id FROM task_boards WHERE id = :boardID")
+                     .bind("boardID", taskBoardID)
+                     .map(ReactiveTaskBoardRepository::mapToTaskBoardDTO)
+                     .one();
+    }
+
+    private static TaskBoardDTO mapToTaskBoardDTO(Readable row) {
+        return new TaskBoardDTO(row.get("id", UUID.class), row.get("title", String.class),
+                                Boolean.TRUE.equals(row.get("sorted", Boolean.class)), null,
+                                row.get("user_id", UUID.class));
+    }
+
+    private Set<ConstraintViolation<TaskBoard>> validate(TaskBoardDTO taskBoard) {
+        return validator.validateValue(TaskBoard.class, "title", taskBoard.getTitle());
+    }
+
+    private void evictUserTaskBoards(UUID userID) {
+        sessionFactory.getCache().evictCollectionData(CacheConstants.USER_TASK_BOARDS_ROLE, userID);
+    }
+}
@@ -0,0 +1,202 @@
+package com.taskapproacher.task.repository;
+
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.interfaces.repository.ReactiveGenericRepository;
+import com.taskapproacher.config.persistence.CacheConstants;
+import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.model.Task;
+import com.taskapproacher.task.model.TaskDTO;
+
+import io.r2dbc.spi.Readable;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+Non-blocking task repository over R2DBC, on the tables mapped by Task. Writes bump the versions and append to the
+change log like TaskRepository does. They bypass Hibernate, so the affected second-level cache entries are evicted
+after commit.
+ */
+@Repository
+public class ReactiveTaskRepository implements ReactiveGenericRepository<TaskDTO> {
+    static final String SELECT_TASKS = "SELECT id, title, description, priority, deadline, finished, task_board_id "
+                                       + "FROM tasks";
+
+    private final DatabaseClient client;
+    private final TransactionalOperator transactionalOperator;
+    private final SessionFactory sessionFactory;
+    private final Validator validator;
+
+    @Autowired
+    public ReactiveTaskRepository(DatabaseClient client, TransactionalOperator transactionalOperator,
+                                  SessionFactory sessionFactory, Validator validator) {
+        this.client = client;
+        this.transactionalOperator = transactionalOperator;
+        this.sessionFactory = sessionFactory;
+        this.validator = validator;
+    }
+
+    @Override
+    public Mono<TaskDTO> findByID(UUID taskID) {
+        return client.sql(SELECT_TASKS + " WHERE id = :taskID")
+                     .bind("taskID", taskID)
+                     .map(ReactiveTaskRepository::mapToTaskDTO)
+                     .one()
+                     .onErrorMap(exception -> new HibernateException("[DB] Failed to find task by id: " + taskID,
+                                                                     exception));
+    }
+
+    // The id is generated here, the task is inserted on the board given by its taskBoardID.
+    @Override
+    public Mono<TaskDTO> save(TaskDTO task) {
+        Set<ConstraintViolation<Task>> violations = validate(task);
+        if (!violations.isEmpty()) {
+            return Mono.error(new ConstraintViolationException(ExceptionMessage.INVALID_TASK_FIELDS_LENGTH.toString(),
+                                                               violations));
+        }
+
+        TaskDTO saved = new TaskDTO(UUID.randomUUID(), task.getTitle(), task.getDescription(), task.getPriority(),
+                                    task.getDeadline(), task.isFinished(), task.getTaskBoardID());
+        List<TaskChangeLog.Entry> changes = List.of(new TaskChangeLog.Entry(saved.getTaskBoardID(), saved.getID(),
+                                                                            TaskChangeType.CREATED));
+
+        return bindColumns(client.sql(
+                                         """
+                                                 INSERT INTO tasks
+                                                     (id, title, description, priority, deadline, finished,
+                                                      task_board_id)
+                                                 VALUES (:taskID, :title, :description, :priority, :deadline,
+                                                         :finished, :boardID)
+                                                 """), saved)
+                .then()
+                .then(ReactiveChangeLog.record(client, changes, true))
+                .as(transactionalOperator::transactional)
+                .then(Mono.fromRunnable(() -> evictTaskBoardTasks(saved.getTaskBoardID())))
+                .thenReturn(saved)
+                .onErrorMap(exception -> new HibernateException("[DB] Failed to save task: " + task, exception));
+    }
+
+    /*
+    Writes every attribute of the task, a task with another taskBoardID is moved to that board.
+    Returns empty if the task doesn't exist.
+     */
+    @Override
+    public Mono<TaskDTO> update(TaskDTO task) {
+        Set<ConstraintViolation<Task>> violations = validate(task);
+        if (!violations.isEmpty()) {
+            return Mono.error(new ConstraintViolationException(ExceptionMessage.INVALID_TASK_FIELDS_LENGTH.toString(),
+                                                               violations));
+        }
+
+        return findTaskBoardID(task.getID())
+                .flatMap(previousTaskBoardID -> updateColumns(task)
+                        .then(ReactiveChangeLog.record(client,
+                                                       TaskChangeLog.entriesOfWrite(task.getID(), previousTaskBoardID,
+                                                                                    task.getTaskBoardID()),
+                                                       !task.getTaskBoardID().equals(previousTaskBoardID)))
+                        .thenReturn(previousTaskBoardID))
+                .as(transactionalOperator::transactional)
+                .map(previousTaskBoardID -> {
+                    evictTask(task.getID());
+                    evictTaskBoardTasks(previousTaskBoardID);
+                    evictTaskBoardTasks(task.getTaskBoardID());
+
+                    return task;
+                })
+                .onErrorMap(exception -> new HibernateException("[DB] Failed to update task: " + task, exception));
+    }
+
+    // The task is removed from the board it is on at the time of the delete, whatever its taskBoardID.
+    @Override
+    public Mono<Void> delete(TaskDTO task) {
+        return findTaskBoardID(task.getID())
+                .flatMap(taskBoardID -> client.sql("DELETE FROM tasks WHERE id = :taskID")
+                                              .bind("taskID", task.getID())
+                                              .then()
+                                              .then(ReactiveChangeLog.record(client, List.of(new TaskChangeLog.Entry(
+                                                      taskBoardID, task.getID(), TaskChangeType.DELETED)), true))
+                                              .thenReturn(taskBoardID))
+                .as(transactionalOperator::transactional)
+                .doOnNext(taskBoardID -> {
+                    evictTask(task.getID());
+                    evictTaskBoardTasks(taskBoardID);
+                })
+                .then()
+                .onErrorMap(exception -> new HibernateException("[DB] Failed to delete task: " + task.getID(),
+                                                                exception));
+    }
+
+    static TaskDTO mapToTaskDTO(Readable row) {
+        // Priority is stored by ordinal, the column type depends on the dialect.
+        Number priority = (Number) row.get("priority");
+        boolean finished = Boolean.TRUE.equals(row.get("finished", Boolean.class));
+
+        return new TaskDTO(row.get("id", UUID.class), row.get("title", String.class),
+                           row.get("description", String.class), Priority.values()[priority.intValue()],
+                           row.get("deadline", LocalDate.class), finished, row.get("task_board_id", UUID.class));
+    }
+
+    private Mono<Void> updateColumns(TaskDTO task) {
+        return bindColumns(client.sql(
+                                         """
+                                                 UPDATE tasks
+                                                 SET title = :title, description = :description, priority = :priority,
+                                                     deadline = :deadline, finished = :finished,
+                                                     task_board_id = :boardID
+                                                 WHERE id = :taskID
+                                                 """), task)
+                .then();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec statement, TaskDTO task) {
+        return statement.bind("taskID", task.getID())
+                        .bind("title", task.getTitle())
+                        .bind("description", Parameter.fromOrEmpty(task.getDescription(), String.class))
+                        .bind("priority", task.getPriority().ordinal())
+                        .bind("deadline", task.getDeadline())
+                        .bind("finished", task.isFinished())
+                        .bind("boardID", task.getTaskBoardID());
+    }
+
+    private Mono<UUID> findTaskBoardID(UUID taskID) {
+        return client.sql("SELECT task_board_id FROM tasks WHERE id = :taskID")
+                     .bind("taskID", taskID)
+                     .map(row -> row.get("task_board_id", UUID.class))
+                     .one();
+    }
+
+    private Set<ConstraintViolation<Task>> validate(TaskDTO task) {
+        Set<ConstraintViolation<Task>> violations = new HashSet<>();
+        violations.addAll(validator.validateValue(Task.class, "title", task.getTitle()));
+        violations.addAll(validator.validateValue(Task.class, "description", task.getDescription()));
+
+        return violations;
+    }
+
+    private void evictTask(UUID taskID) {
+        sessionFactory.getCache().evictEntityData(Task.class, taskID);
+    }
+
+    private void evictTaskBoardTasks(UUID taskBoardID) {
+        sessionFactory.getCache().evictCollectionData(CacheConstants.TASK_BOARD_TASKS_ROLE, taskBoardID);
+    }
+}
@@ -3,40 +3,65 @@ package com.taskapproacher.task.repository;
 import com.taskapproacher.common.constant.ExceptionMessage;
 import com.taskapproacher.common.interfaces.repository.GenericRepository;
 import com.taskapproacher.common.interfaces.repository.RelatedEntityRepository;
+import com.taskapproacher.config.persistence.CacheConstants;
+import com.taskapproacher.config.persistence.UnitOfWork;
+import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.task.model.Task;
 import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.model.TaskPageCursor;
 
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.graph.GraphSemantic;
 
+import org.hibernate.query.MutationQuery;
 import org.hibernate.query.Query;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
 public class TaskBoardRepository implements GenericRepository<TaskBoard>, RelatedEntityRepository<Task, UUID> {
-    private final SessionFactory sessionFactory;
+    private final UnitOfWork unitOfWork;
+    // Bulk HQL updates skip entity validation, so the changed fields are validated here.
+    private final Validator validator;
 
     @Autowired
-    public TaskBoardRepository(SessionFactory sessionFactory) {
-        this.sessionFactory = sessionFactory;
+    public TaskBoardRepository(UnitOfWork unitOfWork, Validator validator) {
+        this.unitOfWork = unitOfWork;
+        this.validator = validator;
     }
 
     @Override
     public Optional<TaskBoard> findByID(UUID taskBoardID) {
+        return findByID(taskBoardID, TaskConstants.BOARD_HEADER_GRAPH);
+    }
+
+    public Optional<TaskBoard> findByID(UUID taskBoardID, String graphName) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
-            TaskBoard taskBoard = session.find(TaskBoard.class, taskBoardID);
+            TaskBoard taskBoard = session.find(TaskBoard.class, taskBoardID, fetchGraph(session, graphName));
+            // A board served from the second-level cache skips the graph's joins, its task list is loaded here.
+            if (taskBoard != null && includesTasks(session, graphName)) {
+                Hibernate.initialize(taskBoard.getTasks());
+            }
 
             transaction.commit();
 
@@ -51,17 +76,74 @@ public class TaskBoardRepository implements GenericRepository<TaskBoard>, Relate
 
     }
 
+    // Single-column projection for ownership checks, the board itself is not loaded.
+    public Optional<UUID> findUserID(UUID taskBoardID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Query<UUID> query = session.createQuery(
+                                               """
+                                                       SELECT user.ID
+                                                       FROM TaskBoard
+                                                       WHERE ID = :boardID
+                                                       """,
+                                               UUID.class)
+                                       .setParameter("boardID", taskBoardID);
+            UUID userID = query.uniqueResult();
+
+            transaction.commit();
+
+            return Optional.ofNullable(userID);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find user id of task board: " + taskBoardID, exception);
+        }
+    }
+
+    // ETag of the board's task pages, read without loading the board.
+    public Optional<Long> findVersion(UUID taskBoardID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Query<Long> query = session.createQuery(
+                                               """
+                                                       SELECT version
+                                                       FROM TaskBoard
+                                                       WHERE ID = :boardID
+                                                       """,
+                                               Long.class)
+                                       .setParameter("boardID", taskBoardID);
+            Long version = query.uniqueResult();
+
+            transaction.commit();
+
+            return Optional.ofNullable(version);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find version of task board: " + taskBoardID, exception);
+        }
+    }
+
     @Override
     public List<Task> findRelatedEntitiesByID(UUID taskBoardID) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             Query<Task> query = session.createQuery(
                                                """
                                                        FROM Task
                                                        WHERE taskBoard.ID = :boardID
+                                                       ORDER BY priority, deadline, ID
                                                        """,
                                                Task.class)
                                        .setParameter("boardID", taskBoardID);
@@ -78,16 +160,73 @@ public class TaskBoardRepository implements GenericRepository<TaskBoard>, Relate
         }
     }
 
+    /*
+    Keyset page in (priority, deadline, id) order, served by idx_tasks_board_priority_deadline_id, so a deep page
+    costs the same as the first one. A null cursor returns the first page. Rows are projected straight into TaskDTO
+    on a read-only session, no Task entities are hydrated.
+     */
+    public List<TaskDTO> findTaskDTOsByID(UUID taskBoardID, TaskPageCursor after, int limit) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openReadOnlySession()) {
+            transaction = session.beginTransaction();
+
+            Query<TaskDTO> query;
+            if (after == null) {
+                query = session.createQuery(
+                                       """
+                                               SELECT new com.taskapproacher.task.model.TaskDTO(
+                                                   ID, title, description, priority, deadline, finished, taskBoard.ID)
+                                               FROM Task
+                                               WHERE taskBoard.ID = :boardID
+                                               ORDER BY priority, deadline, ID
+                                               """,
+                                       TaskDTO.class)
+                               .setParameter("boardID", taskBoardID);
+            } else {
+                query = session.createQuery(
+                                       """
+                                               SELECT new com.taskapproacher.task.model.TaskDTO(
+                                                   ID, title, description, priority, deadline, finished, taskBoard.ID)
+                                               FROM Task
+                                               WHERE taskBoard.ID = :boardID
+                                               AND (priority > :priority
+                                                    OR (priority = :priority AND deadline > :deadline)
+                                                    OR (priority = :priority AND deadline = :deadline AND ID > :taskID))
+                                               ORDER BY priority, deadline, ID
+                                               """,
+                                       TaskDTO.class)
+                               .setParameter("boardID", taskBoardID)
+                               .setParameter("priority", after.getPriority())
+                               .setParameter("deadline", after.getDeadline())
+                               .setParameter("taskID", after.getID());
+            }
+            List<TaskDTO> tasks = query.setReadOnly(true).setMaxResults(limit).getResultList();
+
+            transaction.commit();
+
+            return tasks;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to get tasks page for board: " + taskBoardID, exception);
+        }
+    }
+
     @Override
     public TaskBoard save(TaskBoard taskBoard) {
         Transaction transaction;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
             try {
                 session.persist(taskBoard);
+                session.flush();
+                VersionCounters.bumpUser(session, taskBoard.getUser().getID());
 
                 transaction.commit();
+                evictUserTaskBoards(session, taskBoard);
 
                 return taskBoard;
             } catch (Exception exception) {
@@ -112,11 +251,13 @@ public class TaskBoardRepository implements GenericRepository<TaskBoard>, Relate
     public TaskBoard update(TaskBoard taskBoard) {
         Transaction transaction;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             try {
                 TaskBoard merged = session.merge(taskBoard);
+                session.flush();
+                VersionCounters.bumpOwnersOf(session, List.of(merged.getID()));
 
                 transaction.commit();
 
@@ -139,16 +280,74 @@ public class TaskBoardRepository implements GenericRepository<TaskBoard>, Relate
         }
     }
 
+    /*
+    Field-mask update: the given TaskBoard attributes are written with a single UPDATE and the board header is read
+    back as a projection in the same transaction, neither the board nor its tasks are loaded.
+    Returns empty if the board doesn't exist.
+     */
+    public Optional<TaskBoardDTO> updateFields(UUID taskBoardID, Map<String, Object> fields) {
+        Set<ConstraintViolation<TaskBoard>> violations = new HashSet<>();
+        fields.forEach((field, value) -> violations.addAll(validator.validateValue(TaskBoard.class, field, value)));
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(ExceptionMessage.INVALID_TASK_BOARD_TITLE_LENGTH.toString(),
+                                                   violations);
+        }
+
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            String assignments = fields.keySet().stream()
+                                       .map(field -> field + " = :" + field)
+                                       .collect(Collectors.joining(", "));
+            MutationQuery update = session.createMutationQuery(
+                                                  "UPDATE TaskBoard SET " + assignments + " WHERE ID = :boardID")
+                                          .setParameter("boardID", taskBoardID);
+            fields.forEach(update::setParameter);
+
+            TaskBoardDTO taskBoard = null;
+            if (update.executeUpdate() > 0) {
+                VersionCounters.bumpOwnersOf(session, List.of(taskBoardID));
+
+                Object[] row = session.createQuery(
+                                              """
+                                                      SELECT ID, title, sorted, user.ID
+                                                      FROM TaskBoard
+                                                      WHERE ID = :boardID
+                                                      """,
+                                              Object[].class)
+                                      .setParameter("boardID", taskBoardID)
+                                      .uniqueResult();
+
+                taskBoard = new TaskBoardDTO((UUID) row[0], (String) row[1], (Boolean) row[2], null, (UUID) row[3]);
+            }
+
+            transaction.commit();
+
+            return Optional.ofNullable(taskBoard);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to update fields " + fields.keySet()
+                                         + " of task board: " + taskBoardID, exception);
+        }
+    }
+
     @Override
     public void delete(TaskBoard taskBoard) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             session.remove(taskBoard);
+            session.flush();
+            VersionCounters.bumpUser(session, taskBoard.getUser().getID());
 
             transaction.commit();
+            evictUserTaskBoards(session, taskBoard);
         } catch (Exception exception) {
             if (transaction != null && transaction.isActive()) {
                 transaction.rollback();
@@ -156,4 +355,21 @@ public class TaskBoardRepository implements GenericRepository<TaskBoard>, Relate
             throw new HibernateException("[DB] Failed to delete task board: " + taskBoard.getID(), exception);
         }
     }
+
+    private Map<String, Object> fetchGraph(Session session, String graphName) {
+        return Map.of(GraphSemantic.FETCH.getJakartaHintName(), session.getEntityGraph(graphName));
+    }
+
+    private boolean includesTasks(Session session, String graphName) {
+        return session.getEntityGraph(graphName).getAttributeNodes().stream()
+                      .anyMatch(node -> node.getAttributeName().equals("tasks"));
+    }
+
+    // User.taskBoards is the inverse side of TaskBoard.user, see TaskRepository for the same case with tasks.
+    private void evictUserTaskBoards(Session session, TaskBoard taskBoard) {
+        if (taskBoard.getUser() != null) {
+            session.getSessionFactory().getCache()
+                   .evictCollectionData(CacheConstants.USER_TASK_BOARDS_ROLE, taskBoard.getUser().getID());
+        }
+    }
 }
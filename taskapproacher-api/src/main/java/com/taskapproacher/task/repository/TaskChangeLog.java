@@ -0,0 +1,70 @@
+package com.taskapproacher.task.repository;
+
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskChange;
+
+import org.hibernate.Session;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/*
+Appends task writes to the change logs of their boards. Callers bump the board versions first, in the same
+transaction: the bump locks the board rows until commit, so versions of a board are committed in order and every
+entry is visible together with the version it carries.
+ */
+final class TaskChangeLog {
+    private TaskChangeLog() {
+    }
+
+    record Entry(UUID taskBoardID, UUID taskID, TaskChangeType type) {
+    }
+
+    static List<Entry> entriesOf(Map<UUID, UUID> taskBoardIDs, TaskChangeType type) {
+        return taskBoardIDs.entrySet().stream()
+                           .map(task -> new Entry(task.getValue(), task.getKey(), type))
+                           .toList();
+    }
+
+    // A task that changed board leaves the previous one and appears on the new one.
+    static List<Entry> entriesOfWrite(UUID taskID, UUID previousTaskBoardID, UUID taskBoardID) {
+        if (previousTaskBoardID == null) {
+            return List.of(new Entry(taskBoardID, taskID, TaskChangeType.CREATED));
+        }
+        if (previousTaskBoardID.equals(taskBoardID)) {
+            return List.of(new Entry(taskBoardID, taskID, TaskChangeType.UPDATED));
+        }
+
+        return List.of(new Entry(previousTaskBoardID, taskID, TaskChangeType.DELETED),
+                       new Entry(taskBoardID, taskID, TaskChangeType.CREATED));
+    }
+
+    static Set<UUID> taskBoardIDsOf(List<Entry> entries) {
+        return entries.stream().map(Entry::taskBoardID).collect(Collectors.toSet());
+    }
+
+    static void append(Session session, List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Long> versions = new HashMap<>();
+        session.createQuery("SELECT ID, version FROM TaskBoard WHERE ID IN :boardIDs", Object[].class)
+               .setParameter("boardIDs", taskBoardIDsOf(entries))
+               .getResultList()
+               .forEach(row -> versions.put((UUID) row[0], (Long) row[1]));
+
+        Instant changedAt = Instant.now();
+        for (Entry entry : entries) {
+            session.persist(new TaskChange(null, session.getReference(TaskBoard.class, entry.taskBoardID()),
+                                           versions.get(entry.taskBoardID()), entry.taskID(), entry.type(),
+                                           changedAt));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskapproacher.task.repository;
+
+import com.taskapproacher.config.persistence.UnitOfWork;
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.model.TaskChangeDTO;
+import com.taskapproacher.task.model.TaskChangesDTO;
+import com.taskapproacher.task.model.TaskDTO;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Reads and compacts the change logs of the boards, entries are appended by TaskRepository.
+@Repository
+public class TaskChangeRepository {
+    private static final String FLOOR_QUERY_SPACE = "task_changes_floor";
+
+    private final UnitOfWork unitOfWork;
+
+    @Autowired
+    public TaskChangeRepository(UnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
+    }
+
+    /*
+    Changes of the board after the given version, one per task in the order of their latest change, served by
+    idx_task_changes_board_sequence. The version is read first and entries are read up to it: entries are committed
+    together with their version, so none of them can be missed by the next call. Tasks are read in their current
+    state, a task gone from the board since the version was read is reported deleted, later entries repeat it.
+    The statements run at READ COMMITTED, so a compaction can commit between them. The floor is read again after the
+    entries, and raised past the given version it means entries may have been removed, the client is told to resync.
+    Returns empty if the board doesn't exist.
+     */
+    public Optional<TaskChangesDTO> findChangesSince(UUID taskBoardID, long since, int maxChanges) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openReadOnlySession()) {
+            transaction = session.beginTransaction();
+
+            Object[] bounds = session.createQuery("SELECT version, changesFloor FROM TaskBoard WHERE ID = :boardID",
+                                                  Object[].class)
+                                     .setParameter("boardID", taskBoardID)
+                                     .uniqueResult();
+            if (bounds == null) {
+                transaction.commit();
+
+                return Optional.empty();
+            }
+
+            long version = (Long) bounds[0];
+            long floor = (Long) bounds[1];
+            TaskChangesDTO changes = (since < floor || since > version)
+                                     ? resync(version)
+                                     : readChanges(session, taskBoardID, since, version, maxChanges);
+            if (!changes.isResyncRequired() && since < findFloor(session, taskBoardID)) {
+                changes = resync(version);
+            }
+
+            transaction.commit();
+
+            return Optional.of(changes);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find changes of task board: " + taskBoardID, exception);
+        }
+    }
+
+    /*
+    Removes the entries written before the cutoff and raises the floor of their boards to the last removed version.
+    Versions of a board are written in order, so the removed entries are always the oldest ones of the board.
+    As in VersionCounters, the floor is raised with a native update on its own query space, an HQL bulk update would
+    evict the whole TaskBoard cache region with every run. The floor is only read with projection queries.
+    Returns the number of removed entries.
+     */
+    public int compact(Instant cutoff) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            session.createNativeQuery(
+                           """
+                                   UPDATE task_boards
+                                   SET changes_floor = (SELECT MAX(c.sequence_number) FROM task_changes c
+                                                        WHERE c.task_board_id = task_boards.id
+                                                        AND c.changed_at < :cutoff)
+                                   WHERE EXISTS (SELECT 1 FROM task_changes c
+                                                 WHERE c.task_board_id = task_boards.id AND c.changed_at < :cutoff)
+                                   """)
+                   .addSynchronizedQuerySpace(FLOOR_QUERY_SPACE)
+                   .setParameter("cutoff", cutoff)
+                   .executeUpdate();
+            int removedChanges = session.createMutationQuery("DELETE FROM TaskChange WHERE changedAt < :cutoff")
+                                        .setParameter("cutoff", cutoff)
+                                        .executeUpdate();
+
+            transaction.commit();
+
+            return removedChanges;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to compact task changes before: " + cutoff, exception);
+        }
+    }
+
+    // Zero for a board deleted meanwhile, its entries went with it and the client finds out on its next request.
+    private long findFloor(Session session, UUID taskBoardID) {
+        Long floor = session.createQuery("SELECT changesFloor FROM TaskBoard WHERE ID = :boardID", Long.class)
+                            .setParameter("boardID", taskBoardID)
+                            .uniqueResult();
+
+        return (floor == null) ? 0 : floor;
+    }
+
+    private TaskChangesDTO resync(long version) {
+        return new TaskChangesDTO(version, true, List.of());
+    }
+
+    private TaskChangesDTO readChanges(Session session, UUID taskBoardID, long since, long version, int maxChanges) {
+        // One extra entry tells that the log is too long to be replayed.
+        List<Object[]> entries = session.createQuery(
+                                                """
+                                                        SELECT sequence, taskID, type
+                                                        FROM TaskChange
+                                                        WHERE taskBoard.ID = :boardID
+                                                        AND sequence > :since AND sequence <= :version
+                                                        ORDER BY sequence
+                                                        """,
+                                                Object[].class)
+                                        .setParameter("boardID", taskBoardID)
+                                        .setParameter("since", since)
+                                        .setParameter("version", version)
+                                        .setReadOnly(true)
+                                        .setMaxResults(maxChanges + 1)
+                                        .getResultList();
+        if (entries.size() > maxChanges) {
+            return resync(version);
+        }
+
+        Map<UUID, Object[]> latestChanges = new LinkedHashMap<>();
+        for (Object[] entry : entries) {
+            latestChanges.remove((UUID) entry[1]);
+            latestChanges.put((UUID) entry[1], entry);
+        }
+
+        List<UUID> presentTaskIDs = latestChanges.values().stream()
+                                                 .filter(entry -> entry[2] != TaskChangeType.DELETED)
+                                                 .map(entry -> (UUID) entry[1])
+                                                 .toList();
+        Map<UUID, TaskDTO> tasks = findTasks(session, taskBoardID, presentTaskIDs);
+
+        List<TaskChangeDTO> changes = new ArrayList<>(latestChanges.size());
+        for (Object[] entry : latestChanges.values()) {
+            UUID taskID = (UUID) entry[1];
+            TaskDTO task = tasks.get(taskID);
+            TaskChangeType type = (task == null) ? TaskChangeType.DELETED : (TaskChangeType) entry[2];
+
+            changes.add(new TaskChangeDTO((Long) entry[0], taskID, type, task));
+        }
+
+        return new TaskChangesDTO(version, false, changes);
+    }
+
+    // Tasks that are still on the board, keyed by id.
+    private Map<UUID, TaskDTO> findTasks(Session session, UUID taskBoardID, List<UUID> taskIDs) {
+        if (taskIDs.isEmpty()) {
+            return Map.of();
+        }
+
+        return session.createQuery(
+                              """
+                                      SELECT new com.taskapproacher.task.model.TaskDTO(
+                                          ID, title, description, priority, deadline, finished, taskBoard.ID)
+                                      FROM Task
+                                      WHERE ID IN :taskIDs AND taskBoard.ID = :boardID
+                                      """,
+                              TaskDTO.class)
+                      .setParameter("taskIDs", taskIDs)
+                      .setParameter("boardID", taskBoardID)
+                      .setReadOnly(true)
+                      .getResultStream()
+                      .collect(Collectors.toMap(TaskDTO::getID, Function.identity()));
+    }
+}
@@ -2,34 +2,55 @@ package com.taskapproacher.task.repository;
 
 import com.taskapproacher.common.constant.ExceptionMessage;
 import com.taskapproacher.common.interfaces.repository.GenericRepository;
+import com.taskapproacher.config.persistence.CacheConstants;
+import com.taskapproacher.config.persistence.UnitOfWork;
+import com.taskapproacher.task.constant.TaskChangeType;
 import com.taskapproacher.task.model.Task;
+import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskDTO;
 
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.query.MutationQuery;
+import org.hibernate.query.Query;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 public class TaskRepository implements GenericRepository<Task> {
-    SessionFactory sessionFactory;
+    private static final String TASK_BOARD_FIELD = "taskBoard";
+
+    private final UnitOfWork unitOfWork;
+    // Bulk HQL updates skip entity validation, so the changed fields are validated here.
+    private final Validator validator;
 
     @Autowired
-    public TaskRepository(SessionFactory sessionFactory) {
-        this.sessionFactory = sessionFactory;
+    public TaskRepository(UnitOfWork unitOfWork, Validator validator) {
+        this.unitOfWork = unitOfWork;
+        this.validator = validator;
     }
 
     @Override
     public Optional<Task> findByID(UUID taskID) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             Task task = session.find(Task.class, taskID);
@@ -45,16 +66,48 @@ public class TaskRepository implements GenericRepository<Task> {
         }
     }
 
+    // Single-column projection for ownership checks, the task itself is not loaded.
+    public Optional<UUID> findTaskBoardID(UUID taskID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Query<UUID> query = session.createQuery(
+                    """
+                            SELECT taskBoard.ID
+                            FROM Task
+                            WHERE ID = :taskID
+                            """,
+                    UUID.class);
+            query.setParameter("taskID", taskID);
+            UUID taskBoardID = query.uniqueResult();
+
+            transaction.commit();
+
+            return Optional.ofNullable(taskBoardID);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find task board id of task: " + taskID, exception);
+        }
+    }
+
     @Override
     public Task save(Task task) {
         Transaction transaction;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
             try {
                 session.persist(task);
+                session.flush();
+                recordChanges(session, List.of(new TaskChangeLog.Entry(task.getTaskBoard().getID(), task.getID(),
+                                                                        TaskChangeType.CREATED)), true);
 
                 transaction.commit();
+                evictTaskBoardTasks(session, task.getTaskBoard());
 
                 return task;
             } catch (Exception exception) {
@@ -79,12 +132,19 @@ public class TaskRepository implements GenericRepository<Task> {
     public Task update(Task task) {
         Transaction transaction;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
             try {
+                UUID previousTaskBoardID = findTaskBoardIDs(session, List.of(task.getID())).get(task.getID());
                 Task merged = session.merge(task);
+                session.flush();
+                UUID taskBoardID = merged.getTaskBoard().getID();
+                recordChanges(session, TaskChangeLog.entriesOfWrite(merged.getID(), previousTaskBoardID, taskBoardID),
+                              !taskBoardID.equals(previousTaskBoardID));
 
                 transaction.commit();
+                // The previous board of a moved task isn't known here, so every cached task list is dropped.
+                session.getSessionFactory().getCache().evictCollectionData(CacheConstants.TASK_BOARD_TASKS_ROLE);
 
                 return merged;
             } catch (Exception exception) {
@@ -105,16 +165,234 @@ public class TaskRepository implements GenericRepository<Task> {
         }
     }
 
+    /*
+    Field-mask update: the given Task attributes are written with a single UPDATE and the result is read back as a
+    projection in the same transaction, no entity is loaded. The taskBoard field takes the id of the new board.
+    Returns empty if the task doesn't exist.
+     */
+    public Optional<TaskDTO> updateFields(UUID taskID, Map<String, Object> fields) {
+        Set<ConstraintViolation<Task>> violations = new HashSet<>();
+        fields.forEach((field, value) -> {
+            if (!TASK_BOARD_FIELD.equals(field)) {
+                violations.addAll(validator.validateValue(Task.class, field, value));
+            }
+        });
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(ExceptionMessage.INVALID_TASK_FIELDS_LENGTH.toString(), violations);
+        }
+
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            UUID previousTaskBoardID = findTaskBoardIDs(session, List.of(taskID)).get(taskID);
+
+            String assignments = fields.keySet().stream()
+                                       .map(field -> field + " = :" + field)
+                                       .collect(Collectors.joining(", "));
+            MutationQuery update = session.createMutationQuery("UPDATE Task SET " + assignments + " WHERE ID = :taskID")
+                                .setParameter("taskID", taskID);
+            fields.forEach((field, value) -> update.setParameter(
+                    field, TASK_BOARD_FIELD.equals(field) ? session.getReference(TaskBoard.class, value) : value));
+
+            TaskDTO task = null;
+            if (update.executeUpdate() > 0) {
+                task = session.createQuery(
+                                      """
+                                              SELECT new com.taskapproacher.task.model.TaskDTO(
+                                                  ID, title, description, priority, deadline, finished, taskBoard.ID)
+                                              FROM Task
+                                              WHERE ID = :taskID
+                                              """,
+                                      TaskDTO.class)
+                              .setParameter("taskID", taskID)
+                              .uniqueResult();
+
+                recordChanges(session,
+                              TaskChangeLog.entriesOfWrite(taskID, previousTaskBoardID, task.getTaskBoardID()),
+                              !task.getTaskBoardID().equals(previousTaskBoardID));
+            }
+
+            transaction.commit();
+
+            return Optional.ofNullable(task);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to update fields " + fields.keySet() + " of task: " + taskID,
+                                         exception);
+        }
+    }
+
+    // Board ids of those of the given tasks that belong to the user, keyed by task id.
+    public Map<UUID, UUID> findTaskBoardIDsOwnedBy(Collection<UUID> taskIDs, UUID userID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Query<Object[]> query = session.createQuery(
+                    """
+                            SELECT ID, taskBoard.ID
+                            FROM Task
+                            WHERE ID IN :taskIDs AND taskBoard.user.ID = :userID
+                            """,
+                    Object[].class);
+            query.setParameter("taskIDs", taskIDs);
+            query.setParameter("userID", userID);
+
+            Map<UUID, UUID> taskBoardIDs = new HashMap<>();
+            for (Object[] row : query.getResultList()) {
+                taskBoardIDs.put((UUID) row[0], (UUID) row[1]);
+            }
+
+            transaction.commit();
+
+            return taskBoardIDs;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find tasks of user: " + userID, exception);
+        }
+    }
+
+    // Inserts all tasks in one transaction, the inserts are sent in JDBC batches on flush.
+    public List<Task> saveAll(List<Task> tasks) {
+        Transaction transaction;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+            try {
+                tasks.forEach(session::persist);
+                session.flush();
+                recordChanges(session, TaskChangeLog.entriesOf(taskBoardIDsOf(tasks), TaskChangeType.CREATED), true);
+
+                transaction.commit();
+                tasks.stream().map(Task::getTaskBoard).distinct()
+                     .forEach(taskBoard -> evictTaskBoardTasks(session, taskBoard));
+
+                return tasks;
+            } catch (Exception exception) {
+                if (transaction != null && transaction.isActive()) {
+                    transaction.rollback();
+                }
+
+                throw exception;
+            }
+        } catch (Exception exception) {
+            if (exception instanceof ConstraintViolationException CVexception) {
+                throw new ConstraintViolationException(
+                        ExceptionMessage.INVALID_TASK_FIELDS_LENGTH.toString(),
+                        CVexception.getConstraintViolations()
+                );
+            }
+            throw new HibernateException("[DB] Failed to save " + tasks.size() + " tasks", exception);
+        }
+    }
+
+    /*
+    Loads the tasks with one query, applies the changes and writes them back in one transaction, the updates are
+    sent in JDBC batches on flush. Tasks that don't exist are missing from the result.
+     */
+    public List<Task> updateAll(Map<UUID, Consumer<Task>> changes) {
+        Transaction transaction;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+            try {
+                List<Task> tasks = session.createQuery("FROM Task WHERE ID IN :taskIDs", Task.class)
+                                          .setParameter("taskIDs", changes.keySet())
+                                          .getResultList();
+                tasks.forEach(task -> changes.get(task.getID()).accept(task));
+                session.flush();
+                recordChanges(session, TaskChangeLog.entriesOf(taskBoardIDsOf(tasks), TaskChangeType.UPDATED), false);
+
+                transaction.commit();
+
+                return tasks;
+            } catch (Exception exception) {
+                if (transaction != null && transaction.isActive()) {
+                    transaction.rollback();
+                }
+
+                throw exception;
+            }
+        } catch (Exception exception) {
+            if (exception instanceof ConstraintViolationException CVexception) {
+                throw new ConstraintViolationException(
+                        ExceptionMessage.INVALID_TASK_FIELDS_LENGTH.toString(),
+                        CVexception.getConstraintViolations()
+                );
+            }
+            throw new HibernateException("[DB] Failed to update " + changes.size() + " tasks", exception);
+        }
+    }
+
+    public int updateFinished(Collection<UUID> taskIDs, boolean finished) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Map<UUID, UUID> taskBoardIDs = findTaskBoardIDs(session, taskIDs);
+            int updatedTasks = session.createMutationQuery("UPDATE Task SET finished = :finished WHERE ID IN :taskIDs")
+                                      .setParameter("finished", finished)
+                                      .setParameter("taskIDs", taskIDs)
+                                      .executeUpdate();
+            recordChanges(session, TaskChangeLog.entriesOf(taskBoardIDs, TaskChangeType.UPDATED), false);
+
+            transaction.commit();
+
+            return updatedTasks;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to update finished flag of " + taskIDs.size() + " tasks",
+                                         exception);
+        }
+    }
+
+    public int deleteAll(Collection<UUID> taskIDs) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Map<UUID, UUID> taskBoardIDs = findTaskBoardIDs(session, taskIDs);
+            int deletedTasks = session.createMutationQuery("DELETE FROM Task WHERE ID IN :taskIDs")
+                                      .setParameter("taskIDs", taskIDs)
+                                      .executeUpdate();
+            recordChanges(session, TaskChangeLog.entriesOf(taskBoardIDs, TaskChangeType.DELETED), true);
+
+            transaction.commit();
+
+            return deletedTasks;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to delete " + taskIDs.size() + " tasks", exception);
+        }
+    }
+
     @Override
     public void delete(Task task) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             session.remove(task);
+            session.flush();
+            recordChanges(session, List.of(new TaskChangeLog.Entry(task.getTaskBoard().getID(), task.getID(),
+                                                                    TaskChangeType.DELETED)), true);
 
             transaction.commit();
+            evictTaskBoardTasks(session, task.getTaskBoard());
         } catch (Exception exception) {
             if (transaction != null && transaction.isActive()) {
                 transaction.rollback();
@@ -122,4 +400,45 @@ public class TaskRepository implements GenericRepository<Task> {
             throw new HibernateException("[DB] Failed to delete task: " + task.getID(), exception);
         }
     }
+
+    // Board ids of the given tasks that exist, keyed by task id.
+    private Map<UUID, UUID> findTaskBoardIDs(Session session, Collection<UUID> taskIDs) {
+        Map<UUID, UUID> taskBoardIDs = new HashMap<>();
+        session.createQuery("SELECT ID, taskBoard.ID FROM Task WHERE ID IN :taskIDs", Object[].class)
+               .setParameter("taskIDs", taskIDs)
+               .getResultList()
+               .forEach(row -> taskBoardIDs.put((UUID) row[0], (UUID) row[1]));
+
+        return taskBoardIDs;
+    }
+
+    private Map<UUID, UUID> taskBoardIDsOf(List<Task> tasks) {
+        return tasks.stream().collect(Collectors.toMap(Task::getID, task -> task.getTaskBoard().getID()));
+    }
+
+    /*
+    Bumps the versions and appends the change log entries of a write, after it has been flushed. Task pages of the
+    boards always change, the boards list of their owners only with the number of tasks.
+     */
+    private void recordChanges(Session session, List<TaskChangeLog.Entry> changes, boolean taskCountChanged) {
+        Set<UUID> taskBoardIDs = TaskChangeLog.taskBoardIDsOf(changes);
+
+        VersionCounters.bumpTaskBoards(session, taskBoardIDs);
+        if (taskCountChanged) {
+            VersionCounters.bumpOwnersOf(session, taskBoardIDs);
+        }
+        TaskChangeLog.append(session, changes);
+    }
+
+    /*
+    Entity entries are kept current by Hibernate, but TaskBoard.tasks is the inverse side of Task.taskBoard and
+    isn't updated when a task is written on its own, so the cached task list of the board is evicted.
+    Bulk HQL statements evict the affected regions themselves.
+     */
+    private void evictTaskBoardTasks(Session session, TaskBoard taskBoard) {
+        if (taskBoard != null) {
+            session.getSessionFactory().getCache()
+                   .evictCollectionData(CacheConstants.TASK_BOARD_TASKS_ROLE, taskBoard.getID());
+        }
+    }
 }
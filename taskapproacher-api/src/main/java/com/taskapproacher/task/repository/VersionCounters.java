@@ -0,0 +1,56 @@
+package com.taskapproacher.task.repository;
+
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/*
+Version counters behind the ETags of the task pages (TaskBoard.version) and of the boards list (User.boardsVersion).
+Callers bump them inside the transaction of the write, after flushing it, so a version is never read ahead of the
+data it stands for. The columns aren't insertable or updatable, a merged stale entity can't move them back.
+
+The bumps are native updates synchronized on their own query space. An HQL bulk update, or a native one without a
+space, would evict the whole TaskBoard and User cache regions with every task write. Cached entities therefore keep
+the version they were loaded with, versions are only read with projection queries.
+ */
+final class VersionCounters {
+    private static final String QUERY_SPACE = "version_counters";
+
+    private VersionCounters() {
+    }
+
+    static void bumpTaskBoards(Session session, Collection<UUID> taskBoardIDs) {
+        if (taskBoardIDs.isEmpty()) {
+            return;
+        }
+
+        session.createNativeQuery("UPDATE task_boards SET version = version + 1 WHERE id IN (:boardIDs)")
+               .addSynchronizedQuerySpace(QUERY_SPACE)
+               .setParameterList("boardIDs", taskBoardIDs)
+               .executeUpdate();
+    }
+
+    // For writes that change the boards list of the owners: the number of tasks or the board headers.
+    static void bumpOwnersOf(Session session, Collection<UUID> taskBoardIDs) {
+        if (taskBoardIDs.isEmpty()) {
+            return;
+        }
+
+        session.createNativeQuery(
+                       """
+                               UPDATE users SET boards_version = boards_version + 1
+                               WHERE id IN (SELECT user_id FROM task_boards WHERE id IN (:boardIDs))
+                               """)
+               .addSynchronizedQuerySpace(QUERY_SPACE)
+               .setParameterList("boardIDs", taskBoardIDs)
+               .executeUpdate();
+    }
+
+    static void bumpUser(Session session, UUID userID) {
+        session.createNativeQuery("UPDATE users SET boards_version = boards_version + 1 WHERE id = :userID")
+               .addSynchronizedQuerySpace(QUERY_SPACE)
+               .setParameter("userID", userID)
+               .executeUpdate();
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskapproacher.task.service;
+
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.common.cache.SerializedResponseCache;
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.constant.TaskConstants;
+import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.task.model.TaskBoardEvent;
+import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.repository.ReactiveTaskBoardRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// Non-blocking variant of TaskBoardService, see ReactiveTaskService.
+@Service
+public class ReactiveTaskBoardService {
+    private final ReactiveTaskBoardRepository taskBoardRepository;
+    private final OwnershipIndex ownershipIndex;
+    private final SerializedResponseCache responseCache;
+    private final ChangeEventHub eventHub;
+
+    @Autowired
+    public ReactiveTaskBoardService(ReactiveTaskBoardRepository taskBoardRepository, OwnershipIndex ownershipIndex,
+                                    SerializedResponseCache responseCache, ChangeEventHub eventHub) {
+        this.taskBoardRepository = taskBoardRepository;
+        this.ownershipIndex = ownershipIndex;
+        this.responseCache = responseCache;
+        this.eventHub = eventHub;
+    }
+
+    public Mono<TaskBoardDTO> findByID(UUID taskBoardID) {
+        if (taskBoardID == null) {
+            return Mono.error(new IllegalArgumentException("Task board id " + ExceptionMessage.NULL));
+        }
+
+        return taskBoardRepository.findByID(taskBoardID)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Task board "
+                                                                            + ExceptionMessage.NOT_FOUND)));
+    }
+
+    // All tasks of the board, streamed as they are read.
+    public Flux<TaskDTO> findByTaskBoard(UUID taskBoardID) {
+        return findByID(taskBoardID).thenMany(taskBoardRepository.findRelatedEntitiesByID(taskBoardID));
+    }
+
+    public Mono<TaskBoardDTO> createTaskBoard(UUID userID, TaskBoardDTO request) {
+        if (request.getTitle() == null || request.getTitle().isEmpty()) {
+            ExceptionMessage error = (request.getTitle() == null) ? ExceptionMessage.NULL : ExceptionMessage.EMPTY;
+
+            return Mono.error(new IllegalArgumentException("Title " + error));
+        }
+
+        return taskBoardRepository.save(new TaskBoardDTO(null, request.getTitle(), request.isSorted(), null, userID))
+                .doOnNext(taskBoard -> {
+                    responseCache.invalidate(SerializedResponseCache.USER_BOARDS, userID);
+                    publishTaskBoardEvent(userID, TaskChangeType.CREATED, taskBoard.getID(), taskBoard);
+                });
+    }
+
+    // An empty title is left unchanged, like in TaskBoardService.updateTaskBoard.
+    public Mono<TaskBoardDTO> updateTaskBoard(UUID taskBoardID, TaskBoardDTO request) {
+        return findByID(taskBoardID)
+                .flatMap(current -> {
+                    String title = (request.getTitle() == null || request.getTitle().isEmpty())
+                                   ? current.getTitle()
+                                   : request.getTitle();
+
+                    return taskBoardRepository.update(new TaskBoardDTO(taskBoardID, title, request.isSorted(), null,
+                                                                       current.getUserID()));
+                })
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Task board "
+                                                                            + ExceptionMessage.NOT_FOUND)))
+                .doOnNext(taskBoard -> {
+                    responseCache.invalidate(SerializedResponseCache.USER_BOARDS, taskBoard.getUserID());
+                    publishTaskBoardEvent(taskBoard.getUserID(), TaskChangeType.UPDATED, taskBoardID, taskBoard);
+                });
+    }
+
+    public Mono<Void> deleteTaskBoard(UUID taskBoardID) {
+        return findByID(taskBoardID)
+                .flatMap(taskBoard -> taskBoardRepository.delete(taskBoard).thenReturn(taskBoard))
+                .doOnNext(taskBoard -> {
+                    ownershipIndex.invalidateTaskBoard(taskBoardID);
+                    responseCache.invalidate(SerializedResponseCache.BOARD_TASKS, taskBoardID);
+                    responseCache.invalidate(SerializedResponseCache.USER_BOARDS, taskBoard.getUserID());
+                    publishTaskBoardEvent(taskBoard.getUserID(), TaskChangeType.DELETED, taskBoardID, null);
+                    eventHub.closeAll(ChangeEventHub.BOARD_EVENTS, taskBoardID);
+                })
+                .then();
+    }
+
+    // Called after a committed write.
+    private void publishTaskBoardEvent(UUID userID, TaskChangeType type, UUID taskBoardID, TaskBoardDTO taskBoard) {
+        eventHub.publish(ChangeEventHub.USER_EVENTS, userID, TaskConstants.TASK_BOARD_EVENT,
+                         new TaskBoardEvent(type, taskBoardID, taskBoard));
+    }
+}
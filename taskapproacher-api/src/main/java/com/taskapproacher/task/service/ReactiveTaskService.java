@@ -0,0 +1,125 @@
+package com.taskapproacher.task.service;
+
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.common.cache.SerializedResponseCache;
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
+import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.constant.TaskConstants;
+import com.taskapproacher.task.model.TaskBoardEvent;
+import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.model.TaskEvent;
+import com.taskapproacher.task.repository.ReactiveTaskBoardRepository;
+import com.taskapproacher.task.repository.ReactiveTaskRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+Non-blocking variant of the single-task operations of TaskService, with the same validation, cache invalidation and
+events. Errors are signalled, not thrown. Moving a task to another board is only supported by TaskService.
+ */
+@Service
+public class ReactiveTaskService {
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveTaskBoardRepository taskBoardRepository;
+    private final OwnershipIndex ownershipIndex;
+    private final SerializedResponseCache responseCache;
+    private final ChangeEventHub eventHub;
+
+    @Autowired
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository, ReactiveTaskBoardRepository taskBoardRepository,
+                               OwnershipIndex ownershipIndex, SerializedResponseCache responseCache,
+                               ChangeEventHub eventHub) {
+        this.taskRepository = taskRepository;
+        this.taskBoardRepository = taskBoardRepository;
+        this.ownershipIndex = ownershipIndex;
+        this.responseCache = responseCache;
+        this.eventHub = eventHub;
+    }
+
+    public Mono<TaskDTO> findByID(UUID taskID) {
+        if (taskID == null) {
+            return Mono.error(new IllegalArgumentException("Task id " + ExceptionMessage.NULL));
+        }
+
+        return taskRepository.findByID(taskID)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Task " + ExceptionMessage.NOT_FOUND)));
+    }
+
+    public Mono<TaskDTO> createTask(UUID boardID, TaskDTO request, String timeZone) {
+        if (boardID == null) {
+            return Mono.error(new IllegalArgumentException("Task board id " + ExceptionMessage.NULL));
+        }
+
+        return taskBoardRepository.findByID(boardID)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Task board "
+                                                                            + ExceptionMessage.NOT_FOUND)))
+                .flatMap(taskBoard -> {
+                    TaskService.validateNewTask(request, timeZone);
+                    TaskDTO task = new TaskDTO(null, request.getTitle(), request.getDescription(),
+                                               request.getPriority(), request.getDeadline(), request.isFinished(),
+                                               boardID);
+
+                    return taskRepository.save(task).doOnNext(saved -> {
+                        invalidateListings(boardID, taskBoard.getUserID());
+                        publishTaskEvent(boardID, TaskChangeType.CREATED, saved.getID(), saved);
+                    });
+                });
+    }
+
+    // Only the supplied fields change, like in TaskService.updateTask. The task stays on its board.
+    public Mono<TaskDTO> updateTask(UUID taskID, TaskDTO request, String timeZone) {
+        return findByID(taskID)
+                .flatMap(current -> {
+                    Map<String, Object> fields = TaskService.collectUpdatedFields(request, timeZone);
+                    TaskDTO task = new TaskDTO(current.getID(),
+                                               (String) fields.getOrDefault("title", current.getTitle()),
+                                               (String) fields.getOrDefault("description", current.getDescription()),
+                                               (Priority) fields.getOrDefault("priority", current.getPriority()),
+                                               (LocalDate) fields.getOrDefault("deadline", current.getDeadline()),
+                                               (Boolean) fields.get("finished"), current.getTaskBoardID());
+
+                    return taskRepository.update(task);
+                })
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Task " + ExceptionMessage.NOT_FOUND)))
+                .doOnNext(task -> {
+                    responseCache.invalidate(SerializedResponseCache.BOARD_TASKS, task.getTaskBoardID());
+                    publishTaskEvent(task.getTaskBoardID(), TaskChangeType.UPDATED, taskID, task);
+                });
+    }
+
+    public Mono<Void> deleteTask(UUID taskID) {
+        return findByID(taskID)
+                .flatMap(task -> taskRepository.delete(task).then(taskBoardRepository.findByID(task.getTaskBoardID())))
+                .doOnNext(taskBoard -> {
+                    ownershipIndex.invalidateTask(taskID);
+                    invalidateListings(taskBoard.getID(), taskBoard.getUserID());
+                    publishTaskEvent(taskBoard.getID(), TaskChangeType.DELETED, taskID, null);
+                })
+                .then();
+    }
+
+    // Called after a committed write that changed the number of tasks on the board, see TaskService.
+    private void invalidateListings(UUID taskBoardID, UUID userID) {
+        responseCache.invalidate(SerializedResponseCache.BOARD_TASKS, taskBoardID);
+        responseCache.invalidate(SerializedResponseCache.USER_BOARDS, userID);
+        eventHub.publish(ChangeEventHub.USER_EVENTS, userID, TaskConstants.TASK_BOARD_EVENT,
+                         new TaskBoardEvent(TaskChangeType.UPDATED, taskBoardID, null));
+    }
+
+    // Called after a committed write.
+    private void publishTaskEvent(UUID taskBoardID, TaskChangeType type, UUID taskID, TaskDTO task) {
+        eventHub.publish(ChangeEventHub.BOARD_EVENTS, taskBoardID, TaskConstants.TASK_EVENT,
+                         new TaskEvent(type, taskID, task));
+    }
+}
@@ -1,37 +1,58 @@
 package com.taskapproacher.task.service;
 
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.common.cache.SerializedResponseCache;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.task.mapper.TaskBoardMapper;
-import com.taskapproacher.task.mapper.TaskMapper;
-import com.taskapproacher.task.model.Task;
 import com.taskapproacher.task.model.TaskBoard;
 import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.task.model.TaskBoardEvent;
+import com.taskapproacher.task.model.TaskChangesDTO;
 import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.model.TaskPage;
+import com.taskapproacher.task.model.TaskPageCursor;
 import com.taskapproacher.task.repository.TaskBoardRepository;
+import com.taskapproacher.task.repository.TaskChangeRepository;
 import com.taskapproacher.user.service.UserService;
 
 import jakarta.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class TaskBoardService {
-    private final TaskMapper taskMapper;
     private final TaskBoardMapper taskBoardMapper;
     private final TaskBoardRepository taskBoardRepository;
+    private final TaskChangeRepository taskChangeRepository;
     private final UserService userService;
+    private final OwnershipIndex ownershipIndex;
+    private final SerializedResponseCache responseCache;
+    private final ChangeEventHub eventHub;
+
+    @Value("${task-changes.max-changes:1000}")
+    private int maxChanges;
 
     @Autowired
-    public TaskBoardService(TaskBoardRepository taskBoardRepository, UserService userService) {
-        this.taskMapper = new TaskMapper();
+    public TaskBoardService(TaskBoardRepository taskBoardRepository, TaskChangeRepository taskChangeRepository,
+                            UserService userService, OwnershipIndex ownershipIndex,
+                            SerializedResponseCache responseCache, ChangeEventHub eventHub) {
         this.taskBoardMapper = new TaskBoardMapper();
         this.taskBoardRepository = taskBoardRepository;
+        this.taskChangeRepository = taskChangeRepository;
         this.userService = userService;
+        this.ownershipIndex = ownershipIndex;
+        this.responseCache = responseCache;
+        this.eventHub = eventHub;
     }
 
     public TaskBoard findByID(UUID taskBoardID) throws IllegalArgumentException, EntityNotFoundException {
@@ -44,13 +65,63 @@ public class TaskBoardService {
         );
     }
 
-    public List<TaskDTO> findByTaskBoard(UUID taskBoardID)
+    // Loads the board together with its tasks, for callers that serialize them.
+    public TaskBoard findByIDWithTasks(UUID taskBoardID) throws IllegalArgumentException, EntityNotFoundException {
+        if (taskBoardID == null) {
+            throw new IllegalArgumentException("Task board id " + ExceptionMessage.NULL);
+        }
+
+        return taskBoardRepository.findByID(taskBoardID, TaskConstants.BOARD_WITH_TASKS_GRAPH).orElseThrow(
+                () -> new EntityNotFoundException("Task board " + ExceptionMessage.NOT_FOUND)
+        );
+    }
+
+    public long findVersion(UUID taskBoardID) throws IllegalArgumentException, EntityNotFoundException {
+        if (taskBoardID == null) {
+            throw new IllegalArgumentException("Task board id " + ExceptionMessage.NULL);
+        }
+
+        return taskBoardRepository.findVersion(taskBoardID).orElseThrow(
+                () -> new EntityNotFoundException("Task board " + ExceptionMessage.NOT_FOUND)
+        );
+    }
+
+    // Longer change logs than maxChanges are answered with a resync, the board is cheaper to download again.
+    public TaskChangesDTO findChangesSince(UUID taskBoardID, Long since)
             throws IllegalArgumentException, EntityNotFoundException {
+        if (taskBoardID == null) {
+            throw new IllegalArgumentException("Task board id " + ExceptionMessage.NULL);
+        }
+        if (since == null || since < 0) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_CHANGES_VERSION.toString());
+        }
+
+        return taskChangeRepository.findChangesSince(taskBoardID, since, maxChanges).orElseThrow(
+                () -> new EntityNotFoundException("Task board " + ExceptionMessage.NOT_FOUND)
+        );
+    }
+
+    public TaskPage findByTaskBoard(UUID taskBoardID, String cursor, Integer pageSize)
+            throws IllegalArgumentException, EntityNotFoundException {
+        int limit = (pageSize == null) ? TaskConstants.DEFAULT_TASKS_PAGE_SIZE : pageSize;
+        if (limit < 1 || limit > TaskConstants.MAX_TASKS_PAGE_SIZE) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_TASKS_PAGE_SIZE.toString());
+        }
+
+        TaskPageCursor after = (cursor == null || cursor.isEmpty()) ? null : TaskPageCursor.decode(cursor);
+
         findByID(taskBoardID);
 
-        List<Task> tasks = taskBoardRepository.findRelatedEntitiesByID(taskBoardID);
+        // One extra row tells whether there is a next page without a separate count query.
+        List<TaskDTO> tasks = taskBoardRepository.findTaskDTOsByID(taskBoardID, after, limit + 1);
 
-        return tasks.stream().map(taskMapper::mapToTaskDTO).collect(Collectors.toList());
+        String nextCursor = null;
+        if (tasks.size() > limit) {
+            tasks = tasks.subList(0, limit);
+            nextCursor = TaskPageCursor.of(tasks.get(limit - 1)).encode();
+        }
+
+        return new TaskPage(tasks, nextCursor);
     }
 
     public TaskBoardDTO createTaskBoard(UUID userID, TaskBoardDTO request)
@@ -64,19 +135,34 @@ public class TaskBoardService {
         TaskBoard taskBoard = taskBoardMapper.mapToTaskBoardEntity(request);
         taskBoard.setUser(userService.findByID(userID));
 
-        return taskBoardMapper.mapToTaskBoardDTO(taskBoardRepository.save(taskBoard));
+        TaskBoardDTO response = taskBoardMapper.mapToTaskBoardDTO(taskBoardRepository.save(taskBoard));
+        responseCache.invalidate(SerializedResponseCache.USER_BOARDS, userID);
+        publishTaskBoardEvent(userID, TaskChangeType.CREATED, response.getID(), response);
+
+        return response;
     }
 
+    // Only the supplied fields are written, in one UPDATE, without loading the board or its tasks.
     public TaskBoardDTO updateTaskBoard(UUID taskBoardID, TaskBoardDTO request)
             throws IllegalArgumentException, EntityNotFoundException {
-        TaskBoard taskBoard = findByID(taskBoardID);
+        if (taskBoardID == null) {
+            throw new IllegalArgumentException("Task board id " + ExceptionMessage.NULL);
+        }
+
+        Map<String, Object> fields = new LinkedHashMap<>();
 
         if (request.getTitle() != null && !request.getTitle().isEmpty()) {
-            taskBoard.setTitle(request.getTitle());
+            fields.put("title", request.getTitle());
         }
-        taskBoard.setSorted(request.isSorted());
+        fields.put("sorted", request.isSorted());
 
-        return taskBoardMapper.mapToTaskBoardDTO(taskBoardRepository.update(taskBoard));
+        TaskBoardDTO response = taskBoardRepository.updateFields(taskBoardID, fields).orElseThrow(
+                () -> new EntityNotFoundException("Task board " + ExceptionMessage.NOT_FOUND)
+        );
+        responseCache.invalidate(SerializedResponseCache.USER_BOARDS, response.getUserID());
+        publishTaskBoardEvent(response.getUserID(), TaskChangeType.UPDATED, taskBoardID, response);
+
+        return response;
     }
 
     public void deleteTaskBoard(UUID taskBoardID) throws IllegalArgumentException {
@@ -87,5 +173,16 @@ public class TaskBoardService {
         TaskBoard taskBoard = findByID(taskBoardID);
 
         taskBoardRepository.delete(taskBoard);
+        ownershipIndex.invalidateTaskBoard(taskBoardID);
+        responseCache.invalidate(SerializedResponseCache.BOARD_TASKS, taskBoardID);
+        responseCache.invalidate(SerializedResponseCache.USER_BOARDS, taskBoard.getUser().getID());
+        publishTaskBoardEvent(taskBoard.getUser().getID(), TaskChangeType.DELETED, taskBoardID, null);
+        eventHub.closeAll(ChangeEventHub.BOARD_EVENTS, taskBoardID);
+    }
+
+    // Called after a committed write.
+    private void publishTaskBoardEvent(UUID userID, TaskChangeType type, UUID taskBoardID, TaskBoardDTO taskBoard) {
+        eventHub.publish(ChangeEventHub.USER_EVENTS, userID, TaskConstants.TASK_BOARD_EVENT,
+                         new TaskBoardEvent(type, taskBoardID, taskBoard));
     }
 }
@@ -0,0 +1,33 @@
+package com.taskapproacher.task.service;
+
+import com.taskapproacher.task.repository.TaskChangeRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/*
+Keeps the change logs of the boards bounded: entries older than the retention are removed on every run and the
+boards remember how far back their logs still reach, clients that are further behind are told to resync.
+ */
+@Component
+public class TaskChangeCompactor {
+    private final TaskChangeRepository taskChangeRepository;
+
+    @Value("${task-changes.retention-minutes:1440}")
+    private long retentionMinutes;
+
+    @Autowired
+    public TaskChangeCompactor(TaskChangeRepository taskChangeRepository) {
+        this.taskChangeRepository = taskChangeRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${task-changes.compaction-interval-ms:600000}")
+    public void compact() {
+        taskChangeRepository.compact(Instant.now().minus(Duration.ofMinutes(retentionMinutes)));
+    }
+}
@@ -1,31 +1,58 @@
 package com.taskapproacher.task.service;
 
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.common.cache.SerializedResponseCache;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
 import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.task.mapper.TaskMapper;
 import com.taskapproacher.task.model.*;
 
 import com.taskapproacher.task.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
     private final TaskMapper taskMapper;
     private final TaskRepository taskRepository;
     private final TaskBoardService taskBoardService;
+    private final OwnershipIndex ownershipIndex;
+    private final SerializedResponseCache responseCache;
+    private final ChangeEventHub eventHub;
+    // Bulk items are validated up front, so one invalid item doesn't fail the whole batch on flush.
+    private final Validator validator;
 
     @Autowired
-    public TaskService(TaskRepository taskRepository, TaskBoardService taskBoardService) {
+    public TaskService(TaskRepository taskRepository, TaskBoardService taskBoardService,
+                       OwnershipIndex ownershipIndex, SerializedResponseCache responseCache,
+                       ChangeEventHub eventHub, Validator validator) {
         this.taskMapper = new TaskMapper();
         this.taskRepository = taskRepository;
         this.taskBoardService = taskBoardService;
+        this.ownershipIndex = ownershipIndex;
+        this.responseCache = responseCache;
+        this.eventHub = eventHub;
+        this.validator = validator;
     }
 
     public Task findByID(UUID taskID) throws IllegalArgumentException, EntityNotFoundException {
@@ -43,6 +70,229 @@ public class TaskService {
             throws IllegalArgumentException, EntityNotFoundException {
         TaskBoard taskBoard = taskBoardService.findByID(boardId);
 
+        validateNewTask(request, timeZone);
+
+        Task task = taskMapper.mapToTaskEntity(request);
+        task.setTaskBoard(taskBoard);
+
+        TaskDTO response = taskMapper.mapToTaskDTO(taskRepository.save(task));
+        invalidateListings(boardId, true);
+        publishTaskEvent(boardId, TaskChangeType.CREATED, response.getID(), response);
+
+        return response;
+    }
+
+    /*
+    Bulk variant of createTask: invalid items are reported in their results, the valid ones are inserted in one
+    transaction with JDBC batching.
+     */
+    public List<TaskBulkResult> createTasks(UUID boardID, List<TaskDTO> requests, String timeZone)
+            throws IllegalArgumentException, EntityNotFoundException {
+        validateBulkSize(requests);
+
+        TaskBoard taskBoard = taskBoardService.findByID(boardID);
+
+        TaskBulkResult[] results = new TaskBulkResult[requests.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskDTO request = requests.get(i);
+
+            try {
+                validateNewTask(request, timeZone);
+            } catch (IllegalArgumentException exception) {
+                results[i] = TaskBulkResult.failure(i, null, exception.getMessage());
+                continue;
+            }
+
+            Task task = taskMapper.mapToTaskEntity(request);
+            if (!validator.validate(task).isEmpty()) {
+                results[i] = TaskBulkResult.failure(i, null, ExceptionMessage.INVALID_TASK_FIELDS_LENGTH.toString());
+                continue;
+            }
+
+            task.setTaskBoard(taskBoard);
+            tasks.add(task);
+            taskIndexes.add(i);
+        }
+
+        if (!tasks.isEmpty()) {
+            List<Task> savedTasks = taskRepository.saveAll(tasks);
+
+            for (int i = 0; i < savedTasks.size(); i++) {
+                int index = taskIndexes.get(i);
+                results[index] = TaskBulkResult.success(index, taskMapper.mapToTaskDTO(savedTasks.get(i)));
+            }
+            invalidateListings(boardID, true);
+            taskIndexes.forEach(index -> publishTaskEvent(boardID, TaskChangeType.CREATED,
+                                                          results[index].getTask().getID(), results[index].getTask()));
+        }
+
+        return List.of(results);
+    }
+
+    // Only the supplied fields are written, in one UPDATE, without loading the task.
+    public TaskDTO updateTask(UUID taskID, TaskDTO request, String timeZone)
+            throws IllegalArgumentException, EntityNotFoundException {
+        if (taskID == null) {
+            throw new IllegalArgumentException("Task id " + ExceptionMessage.NULL);
+        }
+
+        Map<String, Object> fields = collectUpdatedFields(request, timeZone);
+
+        UUID previousTaskBoardID = null;
+        if (request.getTaskBoardID() != null) {
+            ownershipIndex.findUserID(request.getTaskBoardID()).orElseThrow(
+                    () -> new EntityNotFoundException("Task board " + ExceptionMessage.NOT_FOUND)
+            );
+            fields.put("taskBoard", request.getTaskBoardID());
+            previousTaskBoardID = ownershipIndex.findTaskBoardID(taskID).orElse(null);
+        }
+
+        TaskDTO response = taskRepository.updateFields(taskID, fields).orElseThrow(
+                () -> new EntityNotFoundException("Task " + ExceptionMessage.NOT_FOUND)
+        );
+        if (request.getTaskBoardID() != null) {
+            ownershipIndex.invalidateTask(taskID);
+        }
+
+        boolean moved = previousTaskBoardID != null && !previousTaskBoardID.equals(response.getTaskBoardID());
+        invalidateListings(response.getTaskBoardID(), moved);
+        if (moved) {
+            invalidateListings(previousTaskBoardID, true);
+            publishTaskEvent(previousTaskBoardID, TaskChangeType.DELETED, taskID, null);
+        }
+        publishTaskEvent(response.getTaskBoardID(), moved ? TaskChangeType.CREATED : TaskChangeType.UPDATED,
+                         taskID, response);
+
+        return response;
+    }
+
+    /*
+    Bulk variant of updateTask for tasks of the principal. Ownership of all tasks is checked with one query, the
+    tasks are loaded with one query and written back in one transaction with JDBC batching. Moving tasks to another
+    board is only supported by updateTask.
+     */
+    public List<TaskBulkResult> updateTasks(UUID principalID, List<TaskDTO> requests, String timeZone)
+            throws IllegalArgumentException {
+        validateBulkSize(requests);
+
+        Map<UUID, UUID> taskBoardIDs = taskRepository.findTaskBoardIDsOwnedBy(
+                requests.stream().map(TaskDTO::getID).filter(Objects::nonNull).collect(Collectors.toSet()),
+                principalID);
+
+        TaskBulkResult[] results = new TaskBulkResult[requests.size()];
+        Map<UUID, Consumer<Task>> changes = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskDTO request = requests.get(i);
+            UUID taskID = request.getID();
+
+            if (taskID == null || !taskBoardIDs.containsKey(taskID)) {
+                String error = (taskID == null)
+                        ? "Task id " + ExceptionMessage.NULL
+                        : "Task " + ExceptionMessage.NOT_FOUND;
+                results[i] = TaskBulkResult.failure(i, taskID, error);
+                continue;
+            }
+
+            if (request.getTaskBoardID() != null && !request.getTaskBoardID().equals(taskBoardIDs.get(taskID))) {
+                results[i] = TaskBulkResult.failure(i, taskID, ExceptionMessage.BULK_MOVE_NOT_SUPPORTED.toString());
+                continue;
+            }
+
+            Map<String, Object> fields;
+            try {
+                fields = collectUpdatedFields(request, timeZone);
+            } catch (IllegalArgumentException exception) {
+                results[i] = TaskBulkResult.failure(i, taskID, exception.getMessage());
+                continue;
+            }
+
+            boolean validLength = fields.entrySet().stream().allMatch(
+                    field -> validator.validateValue(Task.class, field.getKey(), field.getValue()).isEmpty());
+            if (!validLength) {
+                results[i] = TaskBulkResult.failure(i, taskID, ExceptionMessage.INVALID_TASK_FIELDS_LENGTH.toString());
+                continue;
+            }
+
+            changes.merge(taskID, task -> fields.forEach((field, value) -> applyField(task, field, value)),
+                          Consumer::andThen);
+        }
+
+        Map<UUID, TaskDTO> updatedTasks = new HashMap<>();
+        if (!changes.isEmpty()) {
+            taskRepository.updateAll(changes)
+                          .forEach(task -> updatedTasks.put(task.getID(), taskMapper.mapToTaskDTO(task)));
+            changes.keySet().stream().map(taskBoardIDs::get).distinct()
+                   .forEach(taskBoardID -> invalidateListings(taskBoardID, false));
+            updatedTasks.forEach((taskID, task) -> publishTaskEvent(task.getTaskBoardID(), TaskChangeType.UPDATED,
+                                                                    taskID, task));
+        }
+
+        // Tasks deleted since the ownership lookup are missing from the updated ones.
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                UUID taskID = requests.get(i).getID();
+                TaskDTO updatedTask = updatedTasks.get(taskID);
+                results[i] = (updatedTask != null)
+                        ? TaskBulkResult.success(i, updatedTask)
+                        : TaskBulkResult.failure(i, taskID, "Task " + ExceptionMessage.NOT_FOUND);
+            }
+        }
+
+        return List.of(results);
+    }
+
+    // Sets the finished flag of the principal's tasks with one UPDATE.
+    public List<TaskBulkResult> finishTasks(UUID principalID, List<UUID> taskIDs, boolean finished)
+            throws IllegalArgumentException {
+        validateBulkSize(taskIDs);
+
+        Map<UUID, UUID> ownedTasks = findOwnedTasks(principalID, taskIDs);
+        Set<UUID> ownedTaskIDs = ownedTasks.keySet();
+        if (!ownedTaskIDs.isEmpty()) {
+            taskRepository.updateFinished(ownedTaskIDs, finished);
+            ownedTasks.values().stream().distinct().forEach(taskBoardID -> invalidateListings(taskBoardID, false));
+            ownedTasks.forEach((taskID, taskBoardID) -> publishTaskEvent(taskBoardID, TaskChangeType.UPDATED,
+                                                                         taskID, null));
+        }
+
+        return collectResults(taskIDs, ownedTaskIDs);
+    }
+
+    // Deletes the principal's tasks with one DELETE.
+    public List<TaskBulkResult> deleteTasks(UUID principalID, List<UUID> taskIDs) throws IllegalArgumentException {
+        validateBulkSize(taskIDs);
+
+        Map<UUID, UUID> ownedTasks = findOwnedTasks(principalID, taskIDs);
+        Set<UUID> ownedTaskIDs = ownedTasks.keySet();
+        if (!ownedTaskIDs.isEmpty()) {
+            taskRepository.deleteAll(ownedTaskIDs);
+            ownedTaskIDs.forEach(ownershipIndex::invalidateTask);
+            ownedTasks.values().stream().distinct().forEach(taskBoardID -> invalidateListings(taskBoardID, true));
+            ownedTasks.forEach((taskID, taskBoardID) -> publishTaskEvent(taskBoardID, TaskChangeType.DELETED,
+                                                                         taskID, null));
+        }
+
+        return collectResults(taskIDs, ownedTaskIDs);
+    }
+
+    public void deleteTask(UUID taskID) throws IllegalArgumentException {
+        if (taskID == null) {
+            throw new IllegalArgumentException("Task id " + ExceptionMessage.NULL);
+        }
+
+        Task task = findByID(taskID);
+
+        taskRepository.delete(task);
+        ownershipIndex.invalidateTask(taskID);
+        invalidateListings(task.getTaskBoard().getID(), true);
+        publishTaskEvent(task.getTaskBoard().getID(), TaskChangeType.DELETED, taskID, null);
+    }
+
+    static void validateNewTask(TaskDTO request, String timeZone) throws IllegalArgumentException {
         if (request.getTitle() == null || request.getTitle().isEmpty()) {
             ExceptionMessage error = (request.getTitle() == null)
                     ? ExceptionMessage.NULL
@@ -62,53 +312,95 @@ public class TaskService {
         if (request.getDeadline().isBefore(ZonedDateTime.now(ZoneId.of(timeZone)).toLocalDate())) {
             throw new IllegalArgumentException("Task deadline " + ExceptionMessage.BEFORE_CURRENT_DATE);
         }
-
-        Task task = taskMapper.mapToTaskEntity(request);
-        task.setTaskBoard(taskBoard);
-
-        return taskMapper.mapToTaskDTO(taskRepository.save(task));
     }
 
-    public TaskDTO updateTask(UUID taskID, TaskDTO request, String timeZone)
-            throws IllegalArgumentException, EntityNotFoundException {
-        Task task = findByID(taskID);
+    // Task attributes to write for a PATCH request, empty title and description are left unchanged.
+    static Map<String, Object> collectUpdatedFields(TaskDTO request, String timeZone)
+            throws IllegalArgumentException {
+        Map<String, Object> fields = new LinkedHashMap<>();
 
         if (request.getTitle() != null && !request.getTitle().isEmpty()) {
-            task.setTitle(request.getTitle());
+            fields.put("title", request.getTitle());
         }
 
         if (request.getDescription() != null && !request.getDescription().isEmpty()) {
-            task.setDescription(request.getDescription());
+            fields.put("description", request.getDescription());
         }
 
         if (request.getPriority() != null) {
-            task.setPriority(request.getPriority());
+            fields.put("priority", request.getPriority());
         }
 
         if (request.getDeadline() != null) {
             if (request.getDeadline().isBefore(ZonedDateTime.now(ZoneId.of(timeZone)).toLocalDate())) {
                 throw new IllegalArgumentException("Task deadline " + ExceptionMessage.BEFORE_CURRENT_DATE);
             } else {
-                task.setDeadline(request.getDeadline());
+                fields.put("deadline", request.getDeadline());
             }
         }
 
-        task.setFinished(request.isFinished());
+        fields.put("finished", request.isFinished());
 
-        if (request.getTaskBoardID() != null) {
-            task.setTaskBoard(taskBoardService.findByID(request.getTaskBoardID()));
+        return fields;
+    }
+
+    private void applyField(Task task, String field, Object value) {
+        switch (field) {
+            case "title" -> task.setTitle((String) value);
+            case "description" -> task.setDescription((String) value);
+            case "priority" -> task.setPriority((Priority) value);
+            case "deadline" -> task.setDeadline((LocalDate) value);
+            case "finished" -> task.setFinished((Boolean) value);
+            default -> throw new IllegalArgumentException("Task field " + field + " " + ExceptionMessage.NOT_FOUND);
         }
+    }
 
-        return taskMapper.mapToTaskDTO(taskRepository.update(task));
+    private void validateBulkSize(List<?> items) throws IllegalArgumentException {
+        if (items == null || items.isEmpty() || items.size() > TaskConstants.MAX_BULK_TASKS) {
+            throw new IllegalArgumentException(ExceptionMessage.INVALID_BULK_SIZE.toString());
+        }
     }
 
-    public void deleteTask(UUID taskID) throws IllegalArgumentException {
-        if (taskID == null) {
-            throw new IllegalArgumentException("Task id " + ExceptionMessage.NULL);
+    // Task id -> board id of the requested tasks owned by the principal.
+    private Map<UUID, UUID> findOwnedTasks(UUID principalID, List<UUID> taskIDs) {
+        Set<UUID> requestedTaskIDs = taskIDs.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        return new HashMap<>(taskRepository.findTaskBoardIDsOwnedBy(requestedTaskIDs, principalID));
+    }
+
+    /*
+    Called after a committed write: the cached task pages of the board and, when the number of tasks on it changed,
+    the board summaries of its owner, whose subscribers are told to read the summary again.
+     */
+    private void invalidateListings(UUID taskBoardID, boolean taskCountChanged) {
+        responseCache.invalidate(SerializedResponseCache.BOARD_TASKS, taskBoardID);
+        if (taskCountChanged) {
+            ownershipIndex.findUserID(taskBoardID).ifPresent(userID -> {
+                responseCache.invalidate(SerializedResponseCache.USER_BOARDS, userID);
+                eventHub.publish(ChangeEventHub.USER_EVENTS, userID, TaskConstants.TASK_BOARD_EVENT,
+                                 new TaskBoardEvent(TaskChangeType.UPDATED, taskBoardID, null));
+            });
         }
+    }
 
-        Task task = findByID(taskID);
+    // Called after a committed write.
+    private void publishTaskEvent(UUID taskBoardID, TaskChangeType type, UUID taskID, TaskDTO task) {
+        eventHub.publish(ChangeEventHub.BOARD_EVENTS, taskBoardID, TaskConstants.TASK_EVENT,
+                         new TaskEvent(type, taskID, task));
+    }
 
-        taskRepository.delete(task);
+    // Tasks that aren't owned by the principal are reported as not found, so their existence isn't disclosed.
+    private List<TaskBulkResult> collectResults(List<UUID> taskIDs, Set<UUID> ownedTaskIDs) {
+        List<TaskBulkResult> results = new ArrayList<>();
+
+        for (int i = 0; i < taskIDs.size(); i++) {
+            UUID taskID = taskIDs.get(i);
+
+            results.add(ownedTaskIDs.contains(taskID)
+                                ? TaskBulkResult.success(i, taskID)
+                                : TaskBulkResult.failure(i, taskID, "Task " + ExceptionMessage.NOT_FOUND));
+        }
+
+        return results;
     }
 }
@@ -3,4 +3,6 @@ package com.taskapproacher.user.constant;
 public final class UserConstants {
     public static final int MIN_USERNAME_LENGTH = 3;
     public static final int MAX_USERNAME_LENGTH = 32;
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email_address";
 }
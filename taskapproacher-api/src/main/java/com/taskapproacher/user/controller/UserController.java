@@ -1,19 +1,24 @@
 package com.taskapproacher.user.controller;
 
-import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.auth.model.UserPrincipal;
+import com.taskapproacher.common.cache.SerializedResponseCache;
+import com.taskapproacher.common.event.ChangeEventHub;
+import com.taskapproacher.config.persistence.StatementTimeout;
 import com.taskapproacher.user.service.UserService;
 import com.taskapproacher.user.model.User;
 import com.taskapproacher.user.model.UserDTO;
 
 import com.taskapproacher.user.mapper.UserMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -21,25 +26,46 @@ import java.util.UUID;
 public class UserController {
     private final UserService userService;
     private final UserMapper userMapper;
+    private final SerializedResponseCache responseCache;
+    private final ChangeEventHub eventHub;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, SerializedResponseCache responseCache,
+                          ChangeEventHub eventHub) {
         this.userMapper = new UserMapper();
         this.userService = userService;
+        this.responseCache = responseCache;
+        this.eventHub = eventHub;
     }
 
     @GetMapping("/profile")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     public ResponseEntity<UserDTO> getUserProfile() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        User user = userService.findByID(principal.getID());
         return ResponseEntity.ok(userMapper.mapToUserResponse(user));
     }
 
     @GetMapping("/{userID}/boards")
+    @StatementTimeout(millis = 10000)
     @PreAuthorize("#userID == authentication.principal.ID")
-    public ResponseEntity<List<TaskBoardDTO>> getBoardsByUser(@PathVariable UUID userID) {
-        return ResponseEntity.ok(userService.findBoardsByUser(userID));
+    public ResponseEntity<?> getBoardsByUser(@PathVariable UUID userID, WebRequest request) {
+        // See TaskBoardController.getTasksByBoard, the user's boards version is the ETag here.
+        long boardsVersion = userService.findBoardsVersion(userID);
+        if (request.checkNotModified(String.valueOf(boardsVersion))) {
+            return null;
+        }
+
+        return responseCache.get(SerializedResponseCache.USER_BOARDS, userID, String.valueOf(boardsVersion),
+                                 () -> ResponseEntity.ok(userService.findBoardsByUser(userID)));
+    }
+
+    // Board events of the user, see ChangeEventHub.
+    @GetMapping(value = "/{userID}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("#userID == authentication.principal.ID")
+    public SseEmitter getUserEvents(@PathVariable UUID userID) {
+        return eventHub.subscribe(ChangeEventHub.USER_EVENTS, userID);
     }
 
     @PatchMapping("/{userID}")
@@ -3,6 +3,7 @@ package com.taskapproacher.user.model;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import com.taskapproacher.config.password.PasswordConstants;
+import com.taskapproacher.config.persistence.CacheConstants;
 import com.taskapproacher.task.model.TaskBoard;
 import com.taskapproacher.user.constant.Role;
 
@@ -15,6 +16,9 @@ import lombok.NoArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 import org.springframework.security.core.GrantedAuthority;
@@ -30,8 +34,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConstants.USER_REGION)
 @DynamicUpdate
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = UserConstants.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = UserConstants.EMAIL_CONSTRAINT, columnNames = "email_address")
+})
 public class User implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -53,20 +62,31 @@ public class User implements UserDetails {
     @Column(nullable = false, name = "role")
     private Role role;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Embedded in issued tokens, bumping it invalidates every token issued before.
+    @Column(nullable = false, name = "token_version")
+    @ColumnDefault("0")
+    private int tokenVersion;
+
+    // Bumped with HQL whenever one of the user's boards or its number of tasks changes, the ETag of the boards list.
+    @Column(nullable = false, name = "boards_version", insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long boardsVersion;
+
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConstants.USER_TASK_BOARDS_REGION)
     @JsonManagedReference
     private List<TaskBoard> taskBoards;
 
     public User(String username, String password, String email, Role role) {
-        this(null, username, password, email, role, null);
+        this(null, username, password, email, role, 0, 0, null);
     }
 
     public User(UUID id, String username, String email, Role role) {
-        this(id, username, null, email, role, null);
+        this(id, username, null, email, role, 0, 0, null);
     }
 
     public User(String username, String password, String email) {
-        this(null, username, password, email, null, null);
+        this(null, username, password, email, null, 0, 0, null);
     }
 
     @Override
@@ -1,39 +1,52 @@
 package com.taskapproacher.user.repository;
 
+import com.taskapproacher.auth.model.UserCredentials;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.exception.custom.EntityAlreadyExistsException;
 import com.taskapproacher.common.interfaces.repository.GenericRepository;
 import com.taskapproacher.common.interfaces.repository.RelatedEntityRepository;
+import com.taskapproacher.config.persistence.UnitOfWork;
+import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskBoardSummaryDTO;
+import com.taskapproacher.user.constant.UserConstants;
 import com.taskapproacher.user.model.User;
 
 import jakarta.validation.ConstraintViolationException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.query.MutationQuery;
 import org.hibernate.query.Query;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 @Repository
 public class UserRepository implements GenericRepository<User>, RelatedEntityRepository<TaskBoard, UUID> {
-    SessionFactory sessionFactory;
+    private final UnitOfWork unitOfWork;
 
     @Autowired
-    public UserRepository(SessionFactory sessionFactory) {
-        this.sessionFactory = sessionFactory;
+    public UserRepository(UnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
     }
 
     public Optional<User> findByUsername(String username) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             Query<User> query = session.createQuery(
@@ -57,10 +70,39 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
         }
     }
 
+    // Projection for the password check, no entity is loaded or cached in the session.
+    public Optional<UserCredentials> findCredentialsByUsername(String username) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openReadOnlySession()) {
+            transaction = session.beginTransaction();
+
+            Query<UserCredentials> query = session.createQuery(
+                    """
+                            SELECT new com.taskapproacher.auth.model.UserCredentials(
+                                ID, username, password, role, tokenVersion)
+                            FROM User
+                            WHERE username = :username
+                            """,
+                    UserCredentials.class);
+            query.setParameter("username", username);
+            UserCredentials credentials = query.uniqueResult();
+
+            transaction.commit();
+
+            return Optional.ofNullable(credentials);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find credentials of user: " + username, exception);
+        }
+    }
+
     public boolean isUserExists(User user) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             Query<Boolean> query = session.createQuery(
@@ -88,7 +130,7 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
     public boolean isUsernameAlreadyTaken(String username) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             Query<Boolean> query = session.createQuery(
@@ -115,7 +157,7 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
     public boolean isEmailAlreadyTaken(String email) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             Query<Boolean> query = session.createQuery(
@@ -140,11 +182,154 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
         }
     }
 
+    public Optional<Integer> findTokenVersion(UUID userID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Query<Integer> query = session.createQuery(
+                    """
+                            SELECT tokenVersion
+                            FROM User
+                            WHERE ID = :id
+                            """,
+                    Integer.class);
+            query.setParameter("id", userID);
+            Integer tokenVersion = query.uniqueResult();
+
+            transaction.commit();
+
+            return Optional.ofNullable(tokenVersion);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find token version of user: " + userID, exception);
+        }
+    }
+
+    // ETag of the user's boards list, read without loading the user.
+    public Optional<Long> findBoardsVersion(UUID userID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Query<Long> query = session.createQuery(
+                    """
+                            SELECT boardsVersion
+                            FROM User
+                            WHERE ID = :id
+                            """,
+                    Long.class);
+            query.setParameter("id", userID);
+            Long boardsVersion = query.uniqueResult();
+
+            transaction.commit();
+
+            return Optional.ofNullable(boardsVersion);
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find boards version of user: " + userID, exception);
+        }
+    }
+
+    // Users missing from the result no longer exist.
+    public Map<UUID, Integer> findTokenVersions(Collection<UUID> userIDs) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            Query<Object[]> query = session.createQuery(
+                    """
+                            SELECT ID, tokenVersion
+                            FROM User
+                            WHERE ID IN :ids
+                            """,
+                    Object[].class);
+            query.setParameter("ids", userIDs);
+
+            Map<UUID, Integer> tokenVersions = new HashMap<>();
+            for (Object[] row : query.getResultList()) {
+                tokenVersions.put((UUID) row[0], (Integer) row[1]);
+            }
+
+            transaction.commit();
+
+            return tokenVersions;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to find token versions of users", exception);
+        }
+    }
+
+    // Streams the username and email of every user, for UserIdentityFilter. Rows aren't kept in memory.
+    public void forEachIdentity(BiConsumer<String, String> action) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openReadOnlySession()) {
+            transaction = session.beginTransaction();
+
+            Query<Object[]> query = session.createQuery(
+                    """
+                            SELECT username, email
+                            FROM User
+                            """,
+                    Object[].class);
+            query.setReadOnly(true);
+            query.setFetchSize(1000);
+            try (Stream<Object[]> rows = query.stream()) {
+                rows.forEach(row -> action.accept((String) row[0], (String) row[1]));
+            }
+
+            transaction.commit();
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to read usernames and emails", exception);
+        }
+    }
+
+    // Replaces the stored hash only, the password is already encoded. Used to rehash with a changed work factor.
+    public boolean updatePassword(String username, String encodedPassword) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openSession()) {
+            transaction = session.beginTransaction();
+
+            MutationQuery update = session.createMutationQuery(
+                                                  """
+                                                          UPDATE User
+                                                          SET password = :password
+                                                          WHERE username = :username
+                                                          """)
+                                          .setParameter("password", encodedPassword)
+                                          .setParameter("username", username);
+            boolean isUpdated = update.executeUpdate() > 0;
+
+            transaction.commit();
+
+            return isUpdated;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to update password of user: " + username, exception);
+        }
+    }
+
     @Override
     public Optional<User> findByID(UUID userID) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             User user = session.find(User.class, userID);
@@ -164,7 +349,7 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
     public List<TaskBoard> findRelatedEntitiesByID(UUID userID) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             Query<TaskBoard> query = session.createQuery(
@@ -173,7 +358,9 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
                                                 WHERE user.ID = :id
                                                 """,
                                         TaskBoard.class)
-                                .setParameter("id", userID);
+                                .setParameter("id", userID)
+                                .setHint(GraphSemantic.FETCH.getJakartaHintName(),
+                                         session.getEntityGraph(TaskConstants.BOARD_DASHBOARD_GRAPH));
             List<TaskBoard> taskBoards = query.getResultList();
 
             transaction.commit();
@@ -187,14 +374,48 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
         }
     }
 
+    // Projection read: one grouped query builds the summaries, no boards or tasks become managed entities.
+    public List<TaskBoardSummaryDTO> findTaskBoardSummaries(UUID userID) {
+        Transaction transaction = null;
+
+        try (Session session = unitOfWork.openReadOnlySession()) {
+            transaction = session.beginTransaction();
+
+            Query<TaskBoardSummaryDTO> query = session.createQuery(
+                    """
+                            SELECT new com.taskapproacher.task.model.TaskBoardSummaryDTO(
+                                b.ID, b.title, b.sorted, b.user.ID, COUNT(t))
+                            FROM TaskBoard b
+                            LEFT JOIN b.tasks t
+                            WHERE b.user.ID = :id
+                            GROUP BY b.ID, b.title, b.sorted, b.user.ID
+                            ORDER BY b.title, b.ID
+                            """,
+                    TaskBoardSummaryDTO.class);
+            query.setParameter("id", userID);
+            query.setReadOnly(true);
+            List<TaskBoardSummaryDTO> taskBoards = query.getResultList();
+
+            transaction.commit();
+
+            return taskBoards;
+        } catch (Exception exception) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new HibernateException("[DB] Failed to get task board summaries for user: " + userID, exception);
+        }
+    }
+
     @Override
     public User save(User user) {
         Transaction transaction;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
             try {
                 session.persist(user);
+                session.flush();
 
                 transaction.commit();
 
@@ -213,6 +434,9 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
                         CVexception.getConstraintViolations()
                 );
             }
+            if (isUniqueViolation(exception)) {
+                throw new EntityAlreadyExistsException("User " + ExceptionMessage.ALREADY_EXISTS);
+            }
             throw new HibernateException("[DB] Failed to save user: " + user.getUsername(), exception);
         }
     }
@@ -221,10 +445,11 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
     public User update(User user) {
         Transaction transaction;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
             try {
                 User merged = session.merge(user);
+                session.flush();
 
                 transaction.commit();
 
@@ -243,6 +468,9 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
                         CVexception.getConstraintViolations()
                 );
             }
+            if (isUniqueViolation(exception)) {
+                throw new EntityAlreadyExistsException("User " + ExceptionMessage.ALREADY_EXISTS);
+            }
             throw new HibernateException("[DB] Failed to update user: " + user.getUsername(), exception);
         }
     }
@@ -251,10 +479,11 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
     public void delete(User user) {
         Transaction transaction = null;
 
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = unitOfWork.openSession()) {
             transaction = session.beginTransaction();
 
             session.remove(user);
+            session.flush();
 
             transaction.commit();
         } catch (Exception exception) {
@@ -264,4 +493,21 @@ public class UserRepository implements GenericRepository<User>, RelatedEntityRep
             throw new HibernateException("[DB] Failed to delete user: " + user.getID(), exception);
         }
     }
+
+    // The unique username or email constraint, violated by a concurrent or out-of-band registration.
+    // Only the unique constraints on username and email mean the user exists, NOT NULL and other violations don't.
+    // Databases report the name differently, H2 in upper case within the index description, hence the contains.
+    private static boolean isUniqueViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+                    && violation.getConstraintName() != null) {
+                String constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+
+                return constraintName.contains(UserConstants.USERNAME_CONSTRAINT)
+                        || constraintName.contains(UserConstants.EMAIL_CONSTRAINT);
+            }
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,217 @@
+package com.taskapproacher.user.service;
+
+import com.taskapproacher.user.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+Bloom filter of the registered usernames and emails, normalized to trimmed lower case. A negative answer means no
+user has the name, so registrations and renames with new names skip the existence query. A positive answer may be
+false and is checked in the database. Names written outside this instance are not seen, the unique constraints of
+the users table catch those and the name is added when the insert fails.
+Entries can't be removed, deleted and changed names stay as false positives until the filter is rebuilt from the
+database, which happens when they exceed a quarter of the entries or the filter outgrows its capacity. Rebuilds
+scan the users table, so they run on their own thread, one at a time, while requests keep using the current filter.
+ */
+@Component
+public class UserIdentityFilter {
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final UserRepository userRepository;
+    private final AtomicInteger staleEntries = new AtomicInteger();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Executor rebuildExecutor;
+    private volatile Bits bits;
+    // Set while a rebuild loads the database, entries added meanwhile go to both filters.
+    private volatile Bits rebuilding;
+
+    @Value("${user-filter.expected-users:100000}")
+    private int expectedUsers;
+
+    @Value("${user-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Autowired
+    public UserIdentityFilter(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @PostConstruct
+    void init() {
+        rebuildExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("user-filter-rebuild").daemon().factory());
+        rebuild();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (rebuildExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public boolean mightContainUsername(String username) {
+        return bits.mightContain(USERNAME_PREFIX + normalize(username));
+    }
+
+    public boolean mightContainEmail(String email) {
+        return bits.mightContain(EMAIL_PREFIX + normalize(email));
+    }
+
+    public void addUsername(String username) {
+        add(USERNAME_PREFIX + normalize(username));
+    }
+
+    public void addEmail(String email) {
+        add(EMAIL_PREFIX + normalize(email));
+    }
+
+    // Called after a user was deleted or changed its username or email, with the number of names no longer in use.
+    public void markStale(int entries) {
+        if (staleEntries.addAndGet(entries) > bits.entries.get() / 4) {
+            scheduleRebuild();
+        }
+    }
+
+    // At most one rebuild is queued or running, triggers arriving meanwhile are covered by it.
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        } catch (RuntimeException exception) {
+            rebuildScheduled.set(false);
+            throw exception;
+        }
+    }
+
+    void rebuild() {
+        rebuildLock.lock();
+        try {
+            // A username and an email per user, a grown filter gets room for twice its entries.
+            Bits current = bits;
+            long capacity = 2L * Math.max(expectedUsers, (current == null) ? 0 : current.entries.get());
+            Bits next = new Bits(capacity, falsePositiveRate);
+            rebuilding = next;
+            staleEntries.set(0);
+
+            try {
+                userRepository.forEachIdentity((username, email) -> {
+                    next.add(USERNAME_PREFIX + normalize(username));
+                    next.add(EMAIL_PREFIX + normalize(email));
+                });
+                bits = next;
+            } finally {
+                rebuilding = null;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void add(String entry) {
+        Bits current = bits;
+        current.add(entry);
+
+        Bits next = rebuilding;
+        if (next != null) {
+            next.add(entry);
+        }
+
+        if (next == null && current.isFull()) {
+            scheduleRebuild();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Bits {
+        private final AtomicLongArray words;
+        private final long size;
+        private final int hashes;
+        private final long capacity;
+        private final AtomicInteger entries = new AtomicInteger();
+
+        private Bits(long capacity, double falsePositiveRate) {
+            double optimalSize = -capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+            this.size = Math.max(64, (long) Math.ceil(optimalSize));
+            this.hashes = Math.max(1, (int) Math.round(optimalSize / capacity * Math.log(2)));
+            this.capacity = capacity;
+            this.words = new AtomicLongArray((int) ((size + 63) / 64));
+        }
+
+        private void add(String entry) {
+            long hash = hash(entry);
+            for (int i = 0; i < hashes; i++) {
+                long index = index(hash, i);
+                words.getAndUpdate((int) (index >>> 6), word -> word | (1L << index));
+            }
+            entries.incrementAndGet();
+        }
+
+        private boolean mightContain(String entry) {
+            long hash = hash(entry);
+            for (int i = 0; i < hashes; i++) {
+                long index = index(hash, i);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean isFull() {
+            return entries.get() > capacity;
+        }
+
+        // Double hashing: the i-th position is h1 + i * h2 over the two halves of one 64-bit hash.
+        private long index(long hash, int i) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+
+            return Math.floorMod(h1 + (long) i * h2, size);
+        }
+
+        // 64-bit FNV-1a with a final avalanche, the halves have to be independent for double hashing.
+        private static long hash(String entry) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte value : entry.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= value;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+
+            return hash;
+        }
+    }
+}
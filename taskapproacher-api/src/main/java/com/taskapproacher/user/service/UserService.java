@@ -1,10 +1,14 @@
 package com.taskapproacher.user.service;
 
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.auth.service.TokenDenylist;
+import com.taskapproacher.auth.service.TokenVersionCache;
+import com.taskapproacher.common.cache.SerializedResponseCache;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
 import com.taskapproacher.common.exception.custom.EntityAlreadyExistsException;
-import com.taskapproacher.task.mapper.TaskBoardMapper;
-import com.taskapproacher.task.model.TaskBoard;
-import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.config.password.CustomPasswordEncoder;
+import com.taskapproacher.task.model.TaskBoardSummaryDTO;
 import com.taskapproacher.user.constant.Role;
 import com.taskapproacher.user.model.User;
 import com.taskapproacher.user.model.UserDTO;
@@ -20,21 +24,33 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class UserService {
-    private final TaskBoardMapper taskBoardMapper;
     private final UserMapper userMapper;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionCache tokenVersionCache;
+    private final TokenDenylist tokenDenylist;
+    private final OwnershipIndex ownershipIndex;
+    private final SerializedResponseCache responseCache;
+    private final ChangeEventHub eventHub;
+    private final UserIdentityFilter identityFilter;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        this.taskBoardMapper  = new TaskBoardMapper();
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       TokenVersionCache tokenVersionCache, TokenDenylist tokenDenylist,
+                       OwnershipIndex ownershipIndex, SerializedResponseCache responseCache,
+                       ChangeEventHub eventHub, UserIdentityFilter identityFilter) {
         this.userMapper = new UserMapper();
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenVersionCache = tokenVersionCache;
+        this.tokenDenylist = tokenDenylist;
+        this.ownershipIndex = ownershipIndex;
+        this.responseCache = responseCache;
+        this.eventHub = eventHub;
+        this.identityFilter = identityFilter;
     }
 
     public User findByID(UUID userID) throws IllegalArgumentException, EntityNotFoundException {
@@ -60,13 +76,21 @@ public class UserService {
         );
     }
 
-    public List<TaskBoardDTO> findBoardsByUser(UUID userID)
+    public long findBoardsVersion(UUID userID) throws IllegalArgumentException, EntityNotFoundException {
+        if (userID == null) {
+            throw new IllegalArgumentException("User id " + ExceptionMessage.NULL);
+        }
+
+        return userRepository.findBoardsVersion(userID).orElseThrow(
+                () -> new EntityNotFoundException("User " + ExceptionMessage.NOT_FOUND)
+        );
+    }
+
+    public List<TaskBoardSummaryDTO> findBoardsByUser(UUID userID)
             throws IllegalArgumentException, EntityNotFoundException {
         findByID(userID);
 
-        List<TaskBoard> taskBoards = userRepository.findRelatedEntitiesByID(userID);
-
-        return taskBoards.stream().map(taskBoardMapper::mapToTaskBoardDTO).collect(Collectors.toList());
+        return userRepository.findTaskBoardSummaries(userID);
     }
 
     public User createUser(User user) throws IllegalArgumentException, EntityAlreadyExistsException {
@@ -83,43 +107,82 @@ public class UserService {
             throw new IllegalArgumentException("User password " + error);
         }
 
+        CustomPasswordEncoder.validate(user.getPassword());
+
+        // Uniqueness before hashing, a duplicate costs no hash. New names are answered by the filter without a query.
+        boolean mightExist = identityFilter.mightContainUsername(user.getUsername())
+                             || identityFilter.mightContainEmail(user.getEmail());
+        if (mightExist && userRepository.isUserExists(user)) {
+            throw new EntityAlreadyExistsException("User " + ExceptionMessage.ALREADY_EXISTS);
+        }
+
         String userPasswordEncoded = passwordEncoder.encode(user.getPassword());
         User createdUser = new User(user.getUsername(), userPasswordEncoded, user.getEmail(), Role.USER);
 
-        if (userRepository.isUserExists(createdUser)) {
-            throw new EntityAlreadyExistsException("User " + ExceptionMessage.ALREADY_EXISTS);
-        } else {
-            return userRepository.save(createdUser);
+        try {
+            createdUser = userRepository.save(createdUser);
+        } finally {
+            // Also after a unique violation, the names were then registered where the filter didn't see it.
+            identityFilter.addUsername(createdUser.getUsername());
+            identityFilter.addEmail(createdUser.getEmail());
         }
+
+        return createdUser;
     }
 
     public UserDTO updateUser(UUID userID, User user) throws IllegalArgumentException, EntityNotFoundException {
         User updatedUser = findByID(userID);
+        boolean credentialsChanged = false;
+        boolean usernameChanged = false;
+        boolean emailChanged = false;
 
         String newUsername = user.getUsername();
         if (newUsername != null && !newUsername.isEmpty() && !newUsername.equals(updatedUser.getUsername())) {
 
-            if (userRepository.isUsernameAlreadyTaken(newUsername)) {
+            if (identityFilter.mightContainUsername(newUsername)
+                && userRepository.isUsernameAlreadyTaken(newUsername)) {
                 throw new EntityAlreadyExistsException("User with this username " + ExceptionMessage.ALREADY_EXISTS);
             }
             updatedUser.setUsername(newUsername);
+            credentialsChanged = true;
+            usernameChanged = true;
         }
 
         String newEmail = user.getEmail();
         if (newEmail != null && !newEmail.isEmpty() && !newEmail.equals(updatedUser.getEmail())) {
 
-            if (userRepository.isEmailAlreadyTaken(newEmail)) {
+            if (identityFilter.mightContainEmail(newEmail) && userRepository.isEmailAlreadyTaken(newEmail)) {
                 throw new EntityAlreadyExistsException("User with this email " + ExceptionMessage.ALREADY_EXISTS);
             }
             updatedUser.setEmail(newEmail);
+            emailChanged = true;
         }
 
         String newPassword = user.getPassword();
         if (newPassword != null && !newPassword.isEmpty()) {
             updatedUser.setPassword(passwordEncoder.encode(user.getPassword()));
+            credentialsChanged = true;
+        }
+
+        // Tokens issued for the old username or password stop being accepted.
+        if (credentialsChanged) {
+            updatedUser.setTokenVersion(updatedUser.getTokenVersion() + 1);
+        }
+
+        UserDTO response = userMapper.mapToUserResponse(userRepository.update(updatedUser));
+        if (credentialsChanged) {
+            tokenVersionCache.invalidate(userID);
+            tokenDenylist.revokeUser(userID);
+        }
+        if (usernameChanged) {
+            identityFilter.addUsername(newUsername);
+        }
+        if (emailChanged) {
+            identityFilter.addEmail(newEmail);
         }
+        identityFilter.markStale((usernameChanged ? 1 : 0) + (emailChanged ? 1 : 0));
 
-        return userMapper.mapToUserResponse(userRepository.update(updatedUser));
+        return response;
     }
 
     public void deleteUser(UUID userID) throws IllegalArgumentException, EntityNotFoundException {
@@ -130,5 +193,11 @@ public class UserService {
         User user = findByID(userID);
 
         userRepository.delete(user);
+        identityFilter.markStale(2);
+        tokenVersionCache.invalidate(userID);
+        tokenDenylist.revokeUser(userID);
+        ownershipIndex.invalidateUser(userID);
+        responseCache.invalidate(SerializedResponseCache.USER_BOARDS, userID);
+        eventHub.closeAll(ChangeEventHub.USER_EVENTS, userID);
     }
 }
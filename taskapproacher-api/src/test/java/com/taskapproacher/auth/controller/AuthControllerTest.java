@@ -4,44 +4,60 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.taskapproacher.auth.model.AuthRequest;
 import com.taskapproacher.auth.model.AuthResponse;
+import com.taskapproacher.auth.model.RefreshRequest;
 import com.taskapproacher.auth.model.RegisterRequest;
 import com.taskapproacher.auth.service.JwtService;
 import com.taskapproacher.auth.service.UserDetailsServiceImpl;
 import com.taskapproacher.common.constant.EntityNumber;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
 import com.taskapproacher.common.utils.TestApproacherDataUtils;
 import com.taskapproacher.user.model.User;
+import com.taskapproacher.user.repository.UserRepository;
 import com.taskapproacher.user.service.UserService;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
 import org.hamcrest.core.StringContains;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
 
 //Tests naming convention: method_scenario_result
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
 public class AuthControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -52,9 +68,14 @@ public class AuthControllerTest {
     @Autowired
     private UserService userService;
     @Autowired
+    private UserRepository userRepository;
+    @Autowired
     private ObjectMapper objectMapper;
     private final String PATH_TO_API = "/api/auth/";
 
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
     private ResultMatcher[] buildFailedMatchers(HttpStatus status, String path, ExceptionMessage exceptionMessage) {
         List<ResultMatcher> matchers = new ArrayList<>();
         int statusCode = status.value();
@@ -114,6 +135,149 @@ public class AuthControllerTest {
         assertTrue(jwtService.isTokenValid(response.getToken(), userDetails));
     }
 
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+    void login_StoredHashWithOtherWorkFactor_ReturnsStatusCodeOkAndRehashesPassword() throws Exception {
+        User preInsertedUser = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        String username = preInsertedUser.getUsername();
+        String password = preInsertedUser.getPassword();
+        userRepository.updatePassword(username, "{bcrypt}" + new BCryptPasswordEncoder(4).encode(password));
+
+        AuthRequest request = new AuthRequest(username, password);
+
+        mockMvc.perform(buildRequest(HttpMethod.POST, PATH_TO_API + "login", objectMapper.writeValueAsString(request)))
+               .andExpect(status().isOk());
+
+        String storedPassword = userDetailsService.loadUserByUsername(username).getPassword();
+
+        assertTrue(storedPassword.startsWith("{bcrypt}$2a$10$"));
+    }
+
+    private AuthResponse login(User user) throws Exception {
+        String requestJson = objectMapper.writeValueAsString(new AuthRequest(user.getUsername(), user.getPassword()));
+
+        String responseJson = mockMvc.perform(buildRequest(HttpMethod.POST, PATH_TO_API + "login", requestJson))
+                                     .andExpect(status().isOk())
+                                     .andReturn()
+                                     .getResponse()
+                                     .getContentAsString();
+
+        return objectMapper.readValue(responseJson, AuthResponse.class);
+    }
+
+    private String refreshJson(String refreshToken) throws Exception {
+        return objectMapper.writeValueAsString(new RefreshRequest(refreshToken));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+    void refresh_ValidRefreshToken_ReturnsStatusCodeOkAndRotatedTokens() throws Exception {
+        User preInsertedUser = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        AuthResponse loginResponse = login(preInsertedUser);
+
+        String responseJson = mockMvc.perform(buildRequest(HttpMethod.POST, PATH_TO_API + "refresh",
+                                                           refreshJson(loginResponse.getRefreshToken())))
+                                     .andExpect(status().isOk())
+                                     .andReturn()
+                                     .getResponse()
+                                     .getContentAsString();
+        AuthResponse response = objectMapper.readValue(responseJson, AuthResponse.class);
+
+        assertEquals(preInsertedUser.getUsername(), jwtService.extractUsername(response.getToken()));
+        assertNotEquals(loginResponse.getRefreshToken(), response.getRefreshToken());
+        mockMvc.perform(buildRequest(HttpMethod.POST, PATH_TO_API + "refresh",
+                                     refreshJson(response.getRefreshToken())))
+               .andExpect(status().isOk());
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+    void refresh_ReusedRefreshToken_ReturnsStatusCodeUnauthorizedAndRevokesFamily() throws Exception {
+        String path = PATH_TO_API + "refresh";
+        AuthResponse loginResponse = login(TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST));
+
+        String responseJson = mockMvc.perform(buildRequest(HttpMethod.POST, path,
+                                                           refreshJson(loginResponse.getRefreshToken())))
+                                     .andExpect(status().isOk())
+                                     .andReturn()
+                                     .getResponse()
+                                     .getContentAsString();
+        String successor = objectMapper.readValue(responseJson, AuthResponse.class).getRefreshToken();
+
+        performFailedRequest(HttpMethod.POST, HttpStatus.UNAUTHORIZED, path,
+                             refreshJson(loginResponse.getRefreshToken()), ExceptionMessage.REUSED_REFRESH_TOKEN);
+        performFailedRequest(HttpMethod.POST, HttpStatus.UNAUTHORIZED, path,
+                             refreshJson(successor), ExceptionMessage.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+    void refresh_UnknownRefreshToken_ReturnsStatusCodeUnauthorizedAndErrorResponse() throws Exception {
+        performFailedRequest(HttpMethod.POST, HttpStatus.UNAUTHORIZED, PATH_TO_API + "refresh",
+                             refreshJson("unknown-token"), ExceptionMessage.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+    void logout_ValidTokens_ReturnsStatusCodeNoContentAndRevokesBothTokens() throws Exception {
+        AuthResponse loginResponse = login(TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST));
+        String authorizationHeader = "Bearer " + loginResponse.getToken();
+
+        mockMvc.perform(request(HttpMethod.GET, "/api/user/profile").header("Authorization", authorizationHeader))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(buildRequest(HttpMethod.POST, PATH_TO_API + "logout",
+                                     refreshJson(loginResponse.getRefreshToken()))
+                                .header("Authorization", authorizationHeader))
+               .andExpect(status().isNoContent());
+
+        mockMvc.perform(request(HttpMethod.GET, "/api/user/profile").header("Authorization", authorizationHeader))
+               .andExpect(status().isUnauthorized());
+        performFailedRequest(HttpMethod.POST, HttpStatus.UNAUTHORIZED, PATH_TO_API + "refresh",
+                             refreshJson(loginResponse.getRefreshToken()), ExceptionMessage.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+    void logout_ExpiredAccessToken_ReturnsStatusCodeNoContentAndRevokesRefreshToken() throws Exception {
+        User user = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        AuthResponse loginResponse = login(user);
+        String expiredToken = Jwts.builder()
+                                  .setSubject(user.getUsername())
+                                  .setId(UUID.randomUUID().toString())
+                                  .setIssuedAt(new Date(System.currentTimeMillis() - 120_000))
+                                  .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                                  .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret)),
+                                            SignatureAlgorithm.HS256)
+                                  .compact();
+
+        mockMvc.perform(buildRequest(HttpMethod.POST, PATH_TO_API + "logout",
+                                     refreshJson(loginResponse.getRefreshToken()))
+                                .header("Authorization", "Bearer " + expiredToken))
+               .andExpect(status().isNoContent());
+
+        performFailedRequest(HttpMethod.POST, HttpStatus.UNAUTHORIZED, PATH_TO_API + "refresh",
+                             refreshJson(loginResponse.getRefreshToken()), ExceptionMessage.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+    void logout_TamperedAccessToken_ReturnsStatusCodeNoContentAndRevokesRefreshToken() throws Exception {
+        AuthResponse loginResponse = login(TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST));
+        String token = loginResponse.getToken();
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char replaced = (token.charAt(signatureStart) == 'A') ? 'B' : 'A';
+        String tamperedToken = token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1);
+
+        mockMvc.perform(buildRequest(HttpMethod.POST, PATH_TO_API + "logout",
+                                     refreshJson(loginResponse.getRefreshToken()))
+                                .header("Authorization", "Bearer " + tamperedToken))
+               .andExpect(status().isNoContent());
+
+        performFailedRequest(HttpMethod.POST, HttpStatus.UNAUTHORIZED, PATH_TO_API + "refresh",
+                             refreshJson(loginResponse.getRefreshToken()), ExceptionMessage.INVALID_REFRESH_TOKEN);
+    }
+
     @Test
     @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
     void login_InvalidUserData_ReturnsStatusCodeUnauthorizedAndErrorResponse() throws Exception {
@@ -1,23 +1,18 @@
 package com.taskapproacher.auth.service;
 
 import com.taskapproacher.common.constant.ExceptionMessage;
-import com.taskapproacher.task.constant.Priority;
-import com.taskapproacher.task.model.Task;
-import com.taskapproacher.task.model.TaskBoard;
-import com.taskapproacher.user.model.User;
-import com.taskapproacher.task.service.TaskBoardService;
-import com.taskapproacher.task.service.TaskService;
 
 import jakarta.persistence.EntityNotFoundException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDate;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,58 +21,22 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class AccessCheckServiceTest {
     @Mock
-    private TaskService taskService;
-    @Mock
-    private TaskBoardService taskBoardService;
+    private OwnershipIndex ownershipIndex;
     @InjectMocks
     private AccessCheckService accessCheckService;
 
-    private User createDefaultUser(UUID userID) {
-        User user = new User();
-        user.setID(userID);
-        user.setUsername("Test user");
-        user.setPassword("testUserPass");
-        user.setEmail("mail@mail.mail");
-
-        return user;
-    }
-
-    private Task createDefaultTask(UUID taskID, UUID boardID, UUID userID) {
-        Task task = new Task();
-        task.setID(taskID);
-        task.setTitle("Test task");
-        task.setDescription("Test task description");
-        task.setPriority(Priority.STANDARD);
-        task.setDeadline(LocalDate.now());
-        task.setFinished(true);
-        task.setTaskBoard(createDefaultTaskBoard(boardID, userID));
-
-        return task;
-    }
-
-    private TaskBoard createDefaultTaskBoard(UUID boardID, UUID userID) {
-        TaskBoard taskBoard = new TaskBoard();
-        taskBoard.setID(boardID);
-        taskBoard.setSorted(false);
-        taskBoard.setUser(createDefaultUser(userID));
-
-        return taskBoard;
-    }
-
     @Test
     void hasAccessToBoard_ValidIDs_ReturnsTrue() {
         UUID boardID = UUID.randomUUID();
         UUID userID = UUID.randomUUID();
 
-        TaskBoard taskBoard = createDefaultTaskBoard(boardID, userID);
-
-        when(taskBoardService.findByID(boardID)).thenReturn(taskBoard);
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.of(userID));
 
         boolean hasAccess = accessCheckService.hasAccessToBoard(boardID, userID);
 
         assertTrue(hasAccess);
 
-        verify(taskBoardService, times(1)).findByID(boardID);
+        verify(ownershipIndex, times(1)).findUserID(boardID);
     }
 
     @Test
@@ -94,7 +53,7 @@ public class AccessCheckServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskBoardService, times(0)).findByID(boardID);
+        verify(ownershipIndex, times(0)).findUserID(ArgumentMatchers.any());
     }
 
     @Test
@@ -111,7 +70,7 @@ public class AccessCheckServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskBoardService, times(0)).findByID(boardID);
+        verify(ownershipIndex, times(0)).findUserID(boardID);
     }
 
     @Test
@@ -119,8 +78,7 @@ public class AccessCheckServiceTest {
         UUID boardID = UUID.randomUUID();
         UUID userID = UUID.randomUUID();
 
-        when(taskBoardService.findByID(boardID))
-                .thenThrow(new EntityNotFoundException(ExceptionMessage.NOT_FOUND.toString()));
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
             accessCheckService.hasAccessToBoard(boardID, userID);
@@ -131,7 +89,7 @@ public class AccessCheckServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskBoardService, times(1)).findByID(boardID);
+        verify(ownershipIndex, times(1)).findUserID(boardID);
     }
 
     @Test
@@ -139,15 +97,13 @@ public class AccessCheckServiceTest {
         UUID boardID = UUID.randomUUID();
         UUID otherUserID = UUID.randomUUID();
 
-        TaskBoard taskBoard = createDefaultTaskBoard(boardID, UUID.randomUUID());
-
-        when(taskBoardService.findByID(boardID)).thenReturn(taskBoard);
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.of(UUID.randomUUID()));
 
         boolean hasAccess = accessCheckService.hasAccessToBoard(boardID, otherUserID);
 
         assertFalse(hasAccess);
 
-        verify(taskBoardService, times(1)).findByID(boardID);
+        verify(ownershipIndex, times(1)).findUserID(boardID);
     }
 
     @Test
@@ -156,15 +112,15 @@ public class AccessCheckServiceTest {
         UUID boardID = UUID.randomUUID();
         UUID userID = UUID.randomUUID();
 
-        Task task = createDefaultTask(taskID, boardID, userID);
-
-        when(taskService.findByID(taskID)).thenReturn(task);
+        when(ownershipIndex.findTaskBoardID(taskID)).thenReturn(Optional.of(boardID));
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.of(userID));
 
         boolean hasAccess = accessCheckService.hasAccessToTask(taskID, userID);
 
         assertTrue(hasAccess);
 
-        verify(taskService, times(1)).findByID(taskID);
+        verify(ownershipIndex, times(1)).findTaskBoardID(taskID);
+        verify(ownershipIndex, times(1)).findUserID(boardID);
     }
 
     @Test
@@ -181,7 +137,7 @@ public class AccessCheckServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskService, times(0)).findByID(taskID);
+        verify(ownershipIndex, times(0)).findTaskBoardID(ArgumentMatchers.any());
     }
 
     @Test
@@ -198,7 +154,7 @@ public class AccessCheckServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskService, times(0)).findByID(taskID);
+        verify(ownershipIndex, times(0)).findTaskBoardID(taskID);
     }
 
     @Test
@@ -206,8 +162,7 @@ public class AccessCheckServiceTest {
         UUID taskID = UUID.randomUUID();
         UUID userID = UUID.randomUUID();
 
-        when(taskService.findByID(taskID))
-                .thenThrow(new EntityNotFoundException(ExceptionMessage.NOT_FOUND.toString()));
+        when(ownershipIndex.findTaskBoardID(taskID)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
             accessCheckService.hasAccessToTask(taskID, userID);
@@ -218,23 +173,45 @@ public class AccessCheckServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskService, times(1)).findByID(taskID);
+        verify(ownershipIndex, times(1)).findTaskBoardID(taskID);
+        verify(ownershipIndex, times(0)).findUserID(ArgumentMatchers.any());
     }
 
     @Test
-    void hasAccessToTask_InvalidPrincipalID_ReturnsFalse() {
+    void hasAccessToTask_TaskBoardRemoved_InvalidatesTaskAndThrowsEntityNotFoundException() {
         UUID taskID = UUID.randomUUID();
         UUID boardID = UUID.randomUUID();
         UUID userID = UUID.randomUUID();
 
-        Task task = createDefaultTask(taskID, boardID, userID);
+        when(ownershipIndex.findTaskBoardID(taskID)).thenReturn(Optional.of(boardID));
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+            accessCheckService.hasAccessToTask(taskID, userID);
+        });
+
+        String expectedMessage = "Task " + ExceptionMessage.NOT_FOUND;
+        String actualMessage = exception.getMessage();
+
+        assertEquals(expectedMessage, actualMessage);
+
+        verify(ownershipIndex, times(1)).invalidateTask(taskID);
+    }
+
+    @Test
+    void hasAccessToTask_InvalidPrincipalID_ReturnsFalse() {
+        UUID taskID = UUID.randomUUID();
+        UUID boardID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
 
-        when(taskService.findByID(taskID)).thenReturn(task);
+        when(ownershipIndex.findTaskBoardID(taskID)).thenReturn(Optional.of(boardID));
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.of(userID));
 
         boolean hasAccess = accessCheckService.hasAccessToTask(taskID, UUID.randomUUID());
 
         assertFalse(hasAccess);
 
-        verify(taskService, times(1)).findByID(taskID);
+        verify(ownershipIndex, times(1)).findTaskBoardID(taskID);
+        verify(ownershipIndex, times(1)).findUserID(boardID);
     }
 }
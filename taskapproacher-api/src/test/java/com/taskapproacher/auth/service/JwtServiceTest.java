@@ -0,0 +1,72 @@
+package com.taskapproacher.auth.service;
+
+import com.taskapproacher.auth.model.UserPrincipal;
+import com.taskapproacher.user.constant.Role;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//Tests naming convention: method_scenario_result
+public class JwtServiceTest {
+    private static final String SECRET_KEY = "dGFza2FwcHJvYWNoZXItdGVzdC1zZWNyZXQta2V5LTMyYnl0ZXMhIQ==";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "SECRET_KEY", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "verifiedTokenCacheMaxEntries", 10);
+        jwtService.init();
+    }
+
+    private UserPrincipal createDefaultPrincipal() {
+        return new UserPrincipal(UUID.randomUUID(), "Test user", Role.USER, 0);
+    }
+
+    @Test
+    void verify_ValidToken_ReturnsClaims() {
+        UserPrincipal principal = createDefaultPrincipal();
+
+        Claims claims = jwtService.verify(jwtService.generateToken(principal));
+
+        assertEquals(principal.getUsername(), claims.getSubject());
+        assertTrue(jwtService.hasPrincipalClaims(claims));
+        assertEquals(principal, jwtService.extractPrincipal(claims));
+    }
+
+    @Test
+    void verify_SameTokenTwice_ReturnsCachedClaims() {
+        String token = jwtService.generateToken(createDefaultPrincipal());
+
+        Claims firstClaims = jwtService.verify(token);
+        Claims secondClaims = jwtService.verify(token);
+
+        assertSame(firstClaims, secondClaims);
+    }
+
+    @Test
+    void verify_TamperedToken_ThrowsJwtException() {
+        String token = jwtService.generateToken(createDefaultPrincipal());
+        String tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.verify(tamperedToken));
+    }
+
+    @Test
+    void isTokenValid_OtherUser_ReturnsFalse() {
+        String token = jwtService.generateToken(createDefaultPrincipal());
+        UserPrincipal otherPrincipal = new UserPrincipal(UUID.randomUUID(), "Other user", Role.USER, 0);
+
+        assertFalse(jwtService.isTokenValid(token, otherPrincipal));
+    }
+}
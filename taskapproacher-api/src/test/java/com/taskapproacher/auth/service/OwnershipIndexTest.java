@@ -0,0 +1,129 @@
+package com.taskapproacher.auth.service;
+
+import com.taskapproacher.task.repository.TaskBoardRepository;
+import com.taskapproacher.task.repository.TaskRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+//Tests naming convention: method_scenario_result
+@ExtendWith(MockitoExtension.class)
+public class OwnershipIndexTest {
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskBoardRepository taskBoardRepository;
+    @InjectMocks
+    private OwnershipIndex ownershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ownershipIndex, "maxEntries", 100);
+        ownershipIndex.init();
+    }
+
+    @Test
+    void findTaskBoardID_RepeatedLookup_QueriesRepositoryOnce() {
+        UUID taskID = UUID.randomUUID();
+        UUID boardID = UUID.randomUUID();
+
+        when(taskRepository.findTaskBoardID(taskID)).thenReturn(Optional.of(boardID));
+
+        assertEquals(Optional.of(boardID), ownershipIndex.findTaskBoardID(taskID));
+        assertEquals(Optional.of(boardID), ownershipIndex.findTaskBoardID(taskID));
+
+        verify(taskRepository, times(1)).findTaskBoardID(taskID);
+    }
+
+    @Test
+    void findTaskBoardID_MissingTask_ReturnsEmptyAndDoesNotCache() {
+        UUID taskID = UUID.randomUUID();
+
+        when(taskRepository.findTaskBoardID(taskID)).thenReturn(Optional.empty());
+
+        assertTrue(ownershipIndex.findTaskBoardID(taskID).isEmpty());
+        assertTrue(ownershipIndex.findTaskBoardID(taskID).isEmpty());
+
+        verify(taskRepository, times(2)).findTaskBoardID(taskID);
+    }
+
+    @Test
+    void invalidateTask_CachedTask_ReloadsBoardID() {
+        UUID taskID = UUID.randomUUID();
+        UUID oldBoardID = UUID.randomUUID();
+        UUID newBoardID = UUID.randomUUID();
+
+        when(taskRepository.findTaskBoardID(taskID)).thenReturn(Optional.of(oldBoardID), Optional.of(newBoardID));
+
+        ownershipIndex.findTaskBoardID(taskID);
+        ownershipIndex.invalidateTask(taskID);
+
+        assertEquals(Optional.of(newBoardID), ownershipIndex.findTaskBoardID(taskID));
+
+        verify(taskRepository, times(2)).findTaskBoardID(taskID);
+    }
+
+    @Test
+    void findTaskBoardID_InvalidatedWhileLoading_DoesNotCacheLoadedBoardID() {
+        UUID taskID = UUID.randomUUID();
+        UUID oldBoardID = UUID.randomUUID();
+        UUID newBoardID = UUID.randomUUID();
+
+        when(taskRepository.findTaskBoardID(taskID)).thenAnswer(invocation -> {
+            ownershipIndex.invalidateTask(taskID);
+            return Optional.of(oldBoardID);
+        }).thenReturn(Optional.of(newBoardID));
+
+        assertEquals(Optional.of(oldBoardID), ownershipIndex.findTaskBoardID(taskID));
+        assertEquals(Optional.of(newBoardID), ownershipIndex.findTaskBoardID(taskID));
+
+        verify(taskRepository, times(2)).findTaskBoardID(taskID);
+    }
+
+    @Test
+    void invalidateTaskBoard_CachedBoardAndTask_ReloadsBoth() {
+        UUID taskID = UUID.randomUUID();
+        UUID boardID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
+
+        when(taskRepository.findTaskBoardID(taskID)).thenReturn(Optional.of(boardID), Optional.empty());
+        when(taskBoardRepository.findUserID(boardID)).thenReturn(Optional.of(userID), Optional.empty());
+
+        ownershipIndex.findTaskBoardID(taskID);
+        ownershipIndex.findUserID(boardID);
+        ownershipIndex.invalidateTaskBoard(boardID);
+
+        assertTrue(ownershipIndex.findTaskBoardID(taskID).isEmpty());
+        assertTrue(ownershipIndex.findUserID(boardID).isEmpty());
+    }
+
+    @Test
+    void invalidateUser_CachedBoardAndTask_ReloadsBoth() {
+        UUID taskID = UUID.randomUUID();
+        UUID boardID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
+
+        when(taskRepository.findTaskBoardID(taskID)).thenReturn(Optional.of(boardID), Optional.empty());
+        when(taskBoardRepository.findUserID(boardID)).thenReturn(Optional.of(userID), Optional.empty());
+
+        ownershipIndex.findTaskBoardID(taskID);
+        ownershipIndex.findUserID(boardID);
+        ownershipIndex.invalidateUser(userID);
+
+        assertTrue(ownershipIndex.findTaskBoardID(taskID).isEmpty());
+        assertTrue(ownershipIndex.findUserID(boardID).isEmpty());
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskapproacher.auth.service;
+
+import com.taskapproacher.auth.constant.RevocationScope;
+import com.taskapproacher.auth.model.RevokedToken;
+import com.taskapproacher.auth.repository.RevokedTokenRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+//Tests naming convention: method_scenario_result
+@ExtendWith(MockitoExtension.class)
+public class TokenDenylistTest {
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private JwtService jwtService;
+    @InjectMocks
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenDenylist, "bucketMillis", 60000L);
+        ReflectionTestUtils.setField(tokenDenylist, "refreshIntervalMillis", 30000L);
+    }
+
+    @Test
+    void isTokenRevoked_RevokedToken_ReturnsTrueAndPersistsEntry() {
+        UUID tokenID = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(30));
+
+        tokenDenylist.revokeToken(tokenID, expiresAt);
+
+        assertTrue(tokenDenylist.isTokenRevoked(tokenID, expiresAt));
+        assertFalse(tokenDenylist.isTokenRevoked(UUID.randomUUID(), expiresAt));
+        verify(revokedTokenRepository, times(1)).save(ArgumentMatchers.any(RevokedToken.class));
+    }
+
+    @Test
+    void refresh_ExpiredBucket_DropsItsTokens() {
+        UUID expiredTokenID = UUID.randomUUID();
+        UUID activeTokenID = UUID.randomUUID();
+        Instant expiredAt = Instant.now().minus(Duration.ofMinutes(5));
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+
+        when(revokedTokenRepository.findRevokedSince(ArgumentMatchers.any(Instant.class),
+                                                     ArgumentMatchers.any(Instant.class))).thenReturn(List.of());
+
+        tokenDenylist.revokeToken(expiredTokenID, expiredAt);
+        tokenDenylist.revokeToken(activeTokenID, expiresAt);
+        tokenDenylist.refresh();
+
+        assertFalse(tokenDenylist.isTokenRevoked(expiredTokenID, expiredAt));
+        assertTrue(tokenDenylist.isTokenRevoked(activeTokenID, expiresAt));
+        verify(revokedTokenRepository, times(1)).deleteExpired(ArgumentMatchers.any(Instant.class));
+    }
+
+    @Test
+    void refresh_EntriesRevokedElsewhere_LoadsTokensAndUsers() {
+        UUID tokenID = UUID.randomUUID();
+        UUID userID = UUID.randomUUID();
+        Instant revokedAt = Instant.now();
+        Instant expiresAt = revokedAt.plus(Duration.ofMinutes(30));
+
+        when(revokedTokenRepository.findRevokedSince(ArgumentMatchers.any(Instant.class),
+                                                     ArgumentMatchers.any(Instant.class)))
+                .thenReturn(List.of(new RevokedToken(tokenID, RevocationScope.TOKEN, revokedAt, expiresAt),
+                                    new RevokedToken(userID, RevocationScope.USER, revokedAt, expiresAt)));
+
+        tokenDenylist.refresh();
+
+        assertTrue(tokenDenylist.isTokenRevoked(tokenID, expiresAt));
+        assertTrue(tokenDenylist.isUserRevoked(userID, revokedAt.minus(Duration.ofMinutes(1))));
+    }
+
+    @Test
+    void isUserRevoked_TokenIssuedBeforeOrAfterRevocation_RejectsOnlyEarlierTokens() {
+        UUID userID = UUID.randomUUID();
+
+        when(jwtService.getTokenLifetime()).thenReturn(Duration.ofMinutes(30));
+
+        tokenDenylist.revokeUser(userID);
+        Instant revokedAt = Instant.now();
+
+        assertTrue(tokenDenylist.isUserRevoked(userID, revokedAt.minus(Duration.ofMinutes(1))));
+        assertFalse(tokenDenylist.isUserRevoked(userID, revokedAt.plus(Duration.ofSeconds(1))));
+        assertFalse(tokenDenylist.isUserRevoked(UUID.randomUUID(), revokedAt.minus(Duration.ofMinutes(1))));
+    }
+}
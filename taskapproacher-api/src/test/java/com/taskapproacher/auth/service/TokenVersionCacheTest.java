@@ -0,0 +1,100 @@
+package com.taskapproacher.auth.service;
+
+import com.taskapproacher.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+//Tests naming convention: method_scenario_result
+@ExtendWith(MockitoExtension.class)
+public class TokenVersionCacheTest {
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private TokenVersionCache tokenVersionCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenVersionCache, "maxEntries", 100);
+        tokenVersionCache.init();
+    }
+
+    @Test
+    void isCurrent_RepeatedCheck_QueriesRepositoryOnce() {
+        UUID userID = UUID.randomUUID();
+
+        when(userRepository.findTokenVersion(userID)).thenReturn(Optional.of(1));
+
+        assertTrue(tokenVersionCache.isCurrent(userID, 1));
+        assertFalse(tokenVersionCache.isCurrent(userID, 0));
+
+        verify(userRepository, times(1)).findTokenVersion(userID);
+    }
+
+    @Test
+    void isCurrent_InvalidatedWhileLoading_DoesNotCacheLoadedVersion() {
+        UUID userID = UUID.randomUUID();
+
+        when(userRepository.findTokenVersion(userID)).thenAnswer(invocation -> {
+            tokenVersionCache.invalidate(userID);
+            return Optional.of(0);
+        }).thenReturn(Optional.of(1));
+
+        assertTrue(tokenVersionCache.isCurrent(userID, 0));
+        assertTrue(tokenVersionCache.isCurrent(userID, 1));
+
+        verify(userRepository, times(2)).findTokenVersion(userID);
+    }
+
+    @Test
+    void refresh_InvalidatedWhileLoading_KeepsReloadedVersion() {
+        UUID userID = UUID.randomUUID();
+
+        when(userRepository.findTokenVersion(userID)).thenReturn(Optional.of(0), Optional.of(1));
+        when(userRepository.findTokenVersions(anyCollection())).thenAnswer(invocation -> {
+            tokenVersionCache.invalidate(userID);
+            tokenVersionCache.isCurrent(userID, 1);
+            return Map.of(userID, 0);
+        });
+
+        tokenVersionCache.isCurrent(userID, 0);
+        tokenVersionCache.refresh();
+
+        assertTrue(tokenVersionCache.isCurrent(userID, 1));
+    }
+
+    @Test
+    void refresh_OtherUserInvalidatedWhileLoading_UpdatesRemainingEntries() {
+        UUID userID = UUID.randomUUID();
+        UUID otherUserID = UUID.randomUUID();
+
+        when(userRepository.findTokenVersion(userID)).thenReturn(Optional.of(0));
+        when(userRepository.findTokenVersion(otherUserID)).thenReturn(Optional.of(0), Optional.of(1));
+        when(userRepository.findTokenVersions(anyCollection())).thenAnswer(invocation -> {
+            tokenVersionCache.invalidate(otherUserID);
+            return Map.of(userID, 1, otherUserID, 0);
+        });
+
+        tokenVersionCache.isCurrent(userID, 0);
+        tokenVersionCache.isCurrent(otherUserID, 0);
+        tokenVersionCache.refresh();
+
+        assertTrue(tokenVersionCache.isCurrent(userID, 1));
+        assertTrue(tokenVersionCache.isCurrent(otherUserID, 1));
+        verify(userRepository, times(1)).findTokenVersion(userID);
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskapproacher.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//Tests naming convention: method_scenario_result
+public class ByteBufferHttpMessageConverterTest {
+    private final ByteBufferHttpMessageConverter converter = new ByteBufferHttpMessageConverter();
+
+    private ByteBuffer createDirectBuffer(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        return buffer.asReadOnlyBuffer();
+    }
+
+    @Test
+    void write_DirectBuffer_WritesBodyAndContentLength() throws Exception {
+        ByteBuffer buffer = createDirectBuffer("[\"a\",\"b\"]");
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(buffer, MediaType.APPLICATION_JSON, outputMessage);
+
+        assertEquals("[\"a\",\"b\"]", outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals(9, outputMessage.getHeaders().getContentLength());
+    }
+
+    @Test
+    void write_SameBufferTwice_LeavesBufferPositionUnchanged() throws Exception {
+        ByteBuffer buffer = createDirectBuffer("cached");
+
+        converter.write(buffer, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(buffer, MediaType.APPLICATION_JSON, outputMessage);
+
+        assertEquals(0, buffer.position());
+        assertEquals("cached", outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void canRead_ByteBuffer_ReturnsFalse() {
+        assertFalse(converter.canRead(ByteBuffer.class, MediaType.APPLICATION_JSON));
+    }
+}
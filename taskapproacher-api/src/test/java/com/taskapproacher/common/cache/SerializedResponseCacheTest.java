@@ -0,0 +1,129 @@
+package com.taskapproacher.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+//Tests naming convention: method_scenario_result
+public class SerializedResponseCacheTest {
+    @SuppressWarnings("unchecked")
+    private SerializedResponseCache createCache(boolean enabled) {
+        SerializedResponseCache cache = new SerializedResponseCache(new ObjectMapper(),
+                                                                    mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(cache, "enabled", enabled);
+        ReflectionTestUtils.setField(cache, "maxBytes", 1024L * 1024L);
+        ReflectionTestUtils.setField(cache, "maxGroups", 100L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        cache.init();
+
+        return cache;
+    }
+
+    private String bodyOf(ResponseEntity<?> response) {
+        return StandardCharsets.UTF_8.decode(((ByteBuffer) response.getBody()).duplicate()).toString();
+    }
+
+    @Test
+    void get_SameListingTwice_LoadsOnceAndReturnsSerializedBody() {
+        SerializedResponseCache cache = createCache(true);
+        UUID boardID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            ResponseEntity<?> response = cache.get(SerializedResponseCache.BOARD_TASKS, boardID, "first", () -> {
+                loads.incrementAndGet();
+                return ResponseEntity.ok().header("X-Next-Cursor", "next").body(List.of("a", "b"));
+            });
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+            assertEquals("next", response.getHeaders().getFirst("X-Next-Cursor"));
+            assertEquals("[\"a\",\"b\"]", bodyOf(response));
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_CachedListing_ReturnsStoredDirectBufferWithoutCopy() {
+        SerializedResponseCache cache = createCache(true);
+        UUID boardID = UUID.randomUUID();
+
+        ResponseEntity<?> first = cache.get(SerializedResponseCache.BOARD_TASKS, boardID, "first",
+                                            () -> ResponseEntity.ok(List.of(1)));
+        ResponseEntity<?> second = cache.get(SerializedResponseCache.BOARD_TASKS, boardID, "first",
+                                             () -> ResponseEntity.ok(List.of(2)));
+
+        assertTrue(((ByteBuffer) second.getBody()).isDirect());
+        assertSame(first.getBody(), second.getBody());
+    }
+
+    @Test
+    void invalidate_CachedListing_NextGetLoadsAgain() {
+        SerializedResponseCache cache = createCache(true);
+        UUID boardID = UUID.randomUUID();
+        UUID otherBoardID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(SerializedResponseCache.BOARD_TASKS, boardID, "first",
+                  () -> ResponseEntity.ok(loads.incrementAndGet()));
+        cache.get(SerializedResponseCache.BOARD_TASKS, otherBoardID, "first", () -> ResponseEntity.ok(0));
+
+        cache.invalidate(SerializedResponseCache.BOARD_TASKS, boardID);
+
+        ResponseEntity<?> response = cache.get(SerializedResponseCache.BOARD_TASKS, boardID, "first",
+                                               () -> ResponseEntity.ok(loads.incrementAndGet()));
+        ResponseEntity<?> otherResponse = cache.get(SerializedResponseCache.BOARD_TASKS, otherBoardID, "first",
+                                                    () -> ResponseEntity.ok(-1));
+
+        assertEquals("2", bodyOf(response));
+        assertEquals("0", bodyOf(otherResponse));
+    }
+
+    @Test
+    void get_NonOkResponse_IsNotCached() {
+        SerializedResponseCache cache = createCache(true);
+        UUID userID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get(SerializedResponseCache.USER_BOARDS, userID, "", () -> {
+                loads.incrementAndGet();
+                return ResponseEntity.noContent().build();
+            });
+        }
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_Disabled_ReturnsLoadedResponseEveryTime() {
+        SerializedResponseCache cache = createCache(false);
+        UUID userID = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseEntity<?> response = null;
+        for (int i = 0; i < 2; i++) {
+            response = cache.get(SerializedResponseCache.USER_BOARDS, userID, "",
+                                 () -> ResponseEntity.ok(List.of(loads.incrementAndGet())));
+        }
+
+        assertEquals(List.of(2), response.getBody());
+        assertEquals(2, loads.get());
+    }
+}
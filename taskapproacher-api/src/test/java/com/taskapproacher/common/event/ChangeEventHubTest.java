@@ -0,0 +1,99 @@
+package com.taskapproacher.common.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+//Tests naming convention: method_scenario_result
+public class ChangeEventHubTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch dispatcherBlocked = new CountDownLatch(1);
+    private ChangeEventHub hub;
+
+    @SuppressWarnings("unchecked")
+    private ChangeEventHub createHub(int bufferSize) {
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            ((Consumer<MeterRegistry>) invocation.getArgument(0)).accept(meterRegistry);
+            return null;
+        }).when(meterRegistryProvider).ifAvailable(any());
+
+        ChangeEventHub changeEventHub = new ChangeEventHub(meterRegistryProvider);
+        ReflectionTestUtils.setField(changeEventHub, "bufferSize", bufferSize);
+        ReflectionTestUtils.setField(changeEventHub, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(changeEventHub, "dispatchThreads", 1);
+        changeEventHub.init();
+
+        return changeEventHub;
+    }
+
+    // Keeps the only dispatcher thread busy, so published events stay in the buffers.
+    private void blockDispatcher() {
+        ExecutorService dispatcher = (ExecutorService) ReflectionTestUtils.getField(hub, "dispatcher");
+        dispatcher.execute(() -> {
+            try {
+                dispatcherBlocked.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("change.events.subscribers").gauge().value();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcherBlocked.countDown();
+        hub.shutdown();
+    }
+
+    @Test
+    void publish_SubscriberBufferFull_DropsSlowSubscriberOnly() {
+        hub = createHub(1);
+        blockDispatcher();
+        UUID boardID = UUID.randomUUID();
+        UUID otherBoardID = UUID.randomUUID();
+
+        hub.subscribe(ChangeEventHub.BOARD_EVENTS, boardID);
+        hub.subscribe(ChangeEventHub.BOARD_EVENTS, otherBoardID);
+
+        hub.publish(ChangeEventHub.BOARD_EVENTS, boardID, "task", "first");
+        assertEquals(2, subscribers());
+
+        hub.publish(ChangeEventHub.BOARD_EVENTS, boardID, "task", "second");
+
+        assertEquals(1, subscribers());
+        assertEquals(1, meterRegistry.get("change.events.dropped.subscribers").counter().count());
+    }
+
+    @Test
+    void closeAll_SubscribersOfOwner_RemovesOnlyThem() {
+        hub = createHub(8);
+        UUID userID = UUID.randomUUID();
+
+        hub.subscribe(ChangeEventHub.USER_EVENTS, userID);
+        hub.subscribe(ChangeEventHub.USER_EVENTS, userID);
+        hub.subscribe(ChangeEventHub.BOARD_EVENTS, userID);
+
+        hub.closeAll(ChangeEventHub.USER_EVENTS, userID);
+
+        assertEquals(1, subscribers());
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskapproacher.common.utils;
+
+import com.taskapproacher.auth.service.TokenVersionCache;
+import com.taskapproacher.common.constant.EntityNumber;
+
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestExecutionListener;
+import org.springframework.test.context.jdbc.SqlScriptsTestExecutionListener;
+
+/*
+The fixture scripts delete the users and insert them again with the same IDs. A scheduled TokenVersionCache refresh
+that ran in between, after a test deleted one of them, has cached them as missing until the next refresh. Their
+cached versions are invalidated once the scripts ran. Registered with @TestExecutionListeners on the Spring tests
+that use the fixture users.
+ */
+public class FixtureUsersTestExecutionListener implements TestExecutionListener, Ordered {
+    private static final EntityNumber[] FIXTURE_USERS = {EntityNumber.FIRST, EntityNumber.SECOND};
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        if (!testContext.hasApplicationContext()) {
+            return;
+        }
+
+        testContext.getApplicationContext().getBeanProvider(TokenVersionCache.class).ifAvailable(cache -> {
+            for (EntityNumber user : FIXTURE_USERS) {
+                cache.invalidate(TestApproacherDataUtils.createPreInsertedUser(user).getID());
+            }
+        });
+    }
+
+    // Right after the @Sql scripts have been executed.
+    @Override
+    public int getOrder() {
+        return SqlScriptsTestExecutionListener.ORDER + 1;
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskapproacher.config.password;
+
+import jakarta.validation.ConstraintViolationException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+//Tests naming convention: method_scenario_result
+public class CustomPasswordEncoderTest {
+    private static final int STRENGTH = 5;
+    private static final String PASSWORD = "userpass";
+
+    private PasswordHashingExecutor hashingExecutor;
+    private CustomPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        hashingExecutor = new PasswordHashingExecutor(mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(hashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", 4);
+        hashingExecutor.init();
+        passwordEncoder = new CustomPasswordEncoder(STRENGTH, hashingExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void encode_ValidPassword_ReturnsMatchingHashWithConfiguredStrength() {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        assertTrue(encodedPassword.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword));
+        assertFalse(passwordEncoder.matches("otherpass", encodedPassword));
+    }
+
+    @Test
+    void encode_ShortPassword_ThrowsConstraintViolationException() {
+        assertThrows(ConstraintViolationException.class, () -> passwordEncoder.encode("short"));
+    }
+
+    @Test
+    void upgradeEncoding_ConfiguredStrength_ReturnsFalse() {
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD)));
+    }
+
+    @Test
+    void upgradeEncoding_LowerOrHigherStrength_ReturnsTrue() {
+        String lowerStrength = "{bcrypt}" + new BCryptPasswordEncoder(STRENGTH - 1).encode(PASSWORD);
+        String higherStrength = "{bcrypt}" + new BCryptPasswordEncoder(STRENGTH + 1).encode(PASSWORD);
+
+        assertTrue(passwordEncoder.upgradeEncoding(lowerStrength));
+        assertTrue(passwordEncoder.upgradeEncoding(higherStrength));
+    }
+
+    @Test
+    void strengthFor_FastHash_ReturnsHighestStrengthWithinTarget() {
+        assertEquals(12, BCryptStrengthCalibrator.strengthFor(60, 10, 16, 250));
+        assertEquals(10, BCryptStrengthCalibrator.strengthFor(200, 10, 16, 250));
+    }
+
+    @Test
+    void strengthFor_VeryFastHash_ReturnsMaxStrength() {
+        assertEquals(16, BCryptStrengthCalibrator.strengthFor(0.5, 10, 16, 250));
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskapproacher.config.password;
+
+import com.taskapproacher.common.exception.custom.PasswordHashingRejectedException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+//Tests naming convention: method_scenario_result
+public class PasswordHashingExecutorTest {
+    private PasswordHashingExecutor hashingExecutor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        hashingExecutor = new PasswordHashingExecutor(mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(hashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", 1);
+        hashingExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void execute_FreeThread_ReturnsResult() {
+        assertEquals("hash", hashingExecutor.execute(() -> "hash"));
+    }
+
+    @Test
+    void execute_FailingHashing_ThrowsOriginalException() {
+        assertThrows(IllegalArgumentException.class, () -> hashingExecutor.execute(() -> {
+            throw new IllegalArgumentException("Invalid hash");
+        }));
+    }
+
+    @Test
+    void execute_ThreadBusyAndQueueFull_ThrowsPasswordHashingRejectedException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashingExecutor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "first";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashingExecutor.execute(() -> "second"));
+        waitUntilQueued(1);
+
+        assertThrows(PasswordHashingRejectedException.class, () -> hashingExecutor.execute(() -> "third"));
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitUntilQueued(int size) throws InterruptedException {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(hashingExecutor, "executor");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getQueue().size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskapproacher.config.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+//Tests naming convention: method_scenario_result
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long SLOW_QUERY = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long FAST_QUERY = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(limiter, "initialLimit", 10);
+        ReflectionTestUtils.setField(limiter, "minLimit", 2);
+        ReflectionTestUtils.setField(limiter, "maxLimit", 20);
+        ReflectionTestUtils.setField(limiter, "latencyThresholdMillis", 100L);
+        ReflectionTestUtils.setField(limiter, "backoffRatio", 0.5);
+        ReflectionTestUtils.setField(limiter, "backoffIntervalMillis", 60000L);
+        ReflectionTestUtils.setField(limiter, "writeShare", 0.3);
+        limiter.init();
+    }
+
+    @Test
+    void tryAcquire_PartitionFull_RejectsOnlyThatPartition() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Partition.WRITE));
+        }
+
+        assertFalse(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Partition.WRITE));
+        assertTrue(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Partition.READ));
+
+        limiter.release(AdaptiveConcurrencyLimiter.Partition.WRITE);
+        assertTrue(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Partition.WRITE));
+    }
+
+    @Test
+    void onQueryLatency_SlowQueries_BacksOffOncePerInterval() {
+        limiter.onQueryLatency(SLOW_QUERY);
+        limiter.onQueryLatency(SLOW_QUERY);
+
+        assertEquals(4, limiter.limitOf(AdaptiveConcurrencyLimiter.Partition.READ));
+        assertEquals(2, limiter.limitOf(AdaptiveConcurrencyLimiter.Partition.WRITE));
+    }
+
+    @Test
+    void onQueryLatency_ConcurrentSlowQueries_BacksOffOnce() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int j = 0; j < 1000; j++) {
+                        limiter.onQueryLatency(SLOW_QUERY);
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(5.0, limiter.limit());
+    }
+
+    @Test
+    void onQueryLatency_FastQueriesUnderLoad_RaisesLimitUpToMax() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(AdaptiveConcurrencyLimiter.Partition.READ);
+            limiter.tryAcquire(AdaptiveConcurrencyLimiter.Partition.WRITE);
+        }
+        for (int i = 0; i < 1000; i++) {
+            limiter.onQueryLatency(FAST_QUERY);
+        }
+
+        assertEquals(14, limiter.limitOf(AdaptiveConcurrencyLimiter.Partition.READ));
+        assertEquals(6, limiter.limitOf(AdaptiveConcurrencyLimiter.Partition.WRITE));
+    }
+
+    @Test
+    void onQueryLatency_FastQueriesWhileIdle_KeepsLimit() {
+        for (int i = 0; i < 100; i++) {
+            limiter.onQueryLatency(FAST_QUERY);
+        }
+
+        assertEquals(7, limiter.limitOf(AdaptiveConcurrencyLimiter.Partition.READ));
+    }
+}
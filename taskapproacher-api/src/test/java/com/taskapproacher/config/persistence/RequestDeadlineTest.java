@@ -0,0 +1,58 @@
+package com.taskapproacher.config.persistence;
+
+import org.h2.jdbcx.JdbcDataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//Tests naming convention: method_scenario_result
+public class RequestDeadlineTest {
+    private final RequestDeadline requestDeadline = new RequestDeadline();
+    private DeadlineDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2DataSource = new JdbcDataSource();
+        h2DataSource.setURL("jdbc:h2:mem:request-deadline");
+        dataSource = new DeadlineDataSource(h2DataSource, requestDeadline);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestDeadline.end();
+    }
+
+    @Test
+    void prepareStatement_NoDeadline_KeepsDriverTimeout() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    void prepareStatement_DeadlineAhead_SetsRemainingSecondsRoundedUp() throws Exception {
+        requestDeadline.begin(1500);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            assertEquals(2, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    void prepareStatement_DeadlinePassed_ThrowsSQLTimeoutException() throws Exception {
+        requestDeadline.begin(0);
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertThrows(SQLTimeoutException.class, () -> connection.prepareStatement("SELECT 1"));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.taskapproacher.config.persistence;
+
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.constant.TaskConstants;
+import com.taskapproacher.task.model.Task;
+import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.repository.TaskBoardRepository;
+import com.taskapproacher.task.repository.TaskChangeRepository;
+import com.taskapproacher.task.repository.TaskRepository;
+import com.taskapproacher.user.model.User;
+import com.taskapproacher.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+//Tests naming convention: method_scenario_result
+@SpringBootTest
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+@TestPropertySource(properties = "persistence.second-level-cache.enabled=true")
+@Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+                "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+public class SecondLevelCacheTest {
+    @Autowired
+    private SessionFactory sessionFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskBoardRepository taskBoardRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    // The fixtures are rewritten with plain SQL before every test, which the cache can't see.
+    @BeforeEach
+    void setUp() {
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+    }
+
+    private CacheRegionStatistics taskRegionStatistics() {
+        return sessionFactory.getStatistics().getCacheRegionStatistics(CacheConstants.TASK_REGION);
+    }
+
+    @Test
+    void findByID_SameTaskTwice_SecondReadIsCacheHit() {
+        UUID taskID = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST).getID();
+
+        taskRepository.findByID(taskID);
+        Task task = taskRepository.findByID(taskID).orElseThrow();
+
+        assertEquals(taskID, task.getID());
+        assertEquals(1, taskRegionStatistics().getMissCount());
+        assertEquals(1, taskRegionStatistics().getHitCount());
+        assertEquals(1.0, meterRegistry.get("hibernate.second.level.cache.requests")
+                                       .tag("region", CacheConstants.TASK_REGION)
+                                       .tag("result", "hit")
+                                       .functionCounter()
+                                       .count());
+    }
+
+    @Test
+    void updateFields_CachedTask_NextReadReturnsUpdatedTask() {
+        UUID taskID = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST).getID();
+        taskRepository.findByID(taskID);
+
+        taskRepository.updateFields(taskID, Map.of("title", "Updated title"));
+
+        assertEquals("Updated title", taskRepository.findByID(taskID).orElseThrow().getTitle());
+    }
+
+    @Test
+    void save_NewTaskOnCachedBoard_EvictsTaskListOfBoard() {
+        UUID boardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+        TaskBoard taskBoard = taskBoardRepository.findByID(boardID, TaskConstants.BOARD_WITH_TASKS_GRAPH)
+                                                 .orElseThrow();
+        int tasksBefore = taskBoard.getTasks().size();
+
+        Task task = new Task(null, "New task", "New task description", Priority.STANDARD,
+                             LocalDate.now(), false, taskBoard);
+        taskRepository.save(task);
+
+        TaskBoard reloaded = taskBoardRepository.findByID(boardID, TaskConstants.BOARD_WITH_TASKS_GRAPH)
+                                                .orElseThrow();
+
+        assertEquals(tasksBefore + 1, reloaded.getTasks().size());
+    }
+
+    @Test
+    void save_NewTaskOnCachedBoard_BumpsVersionsAndKeepsBoardAndOwnerCached() {
+        TaskBoard preInsertedBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        UUID boardID = preInsertedBoard.getID();
+        UUID userID = preInsertedBoard.getUserID();
+        TaskBoard taskBoard = taskBoardRepository.findByID(boardID).orElseThrow();
+        long versionBefore = taskBoardRepository.findVersion(boardID).orElseThrow();
+        long boardsVersionBefore = userRepository.findBoardsVersion(userID).orElseThrow();
+
+        taskRepository.save(new Task(null, "New task", "New task description", Priority.STANDARD,
+                                     LocalDate.now(), false, taskBoard));
+
+        assertEquals(versionBefore + 1, taskBoardRepository.findVersion(boardID).orElseThrow());
+        assertEquals(boardsVersionBefore + 1, userRepository.findBoardsVersion(userID).orElseThrow());
+        assertTrue(sessionFactory.getCache().containsEntity(TaskBoard.class, boardID));
+        assertTrue(sessionFactory.getCache().containsEntity(User.class, userID));
+    }
+
+    @Test
+    void compact_ChangesOfCachedBoard_RaisesFloorAndKeepsBoardCached() {
+        TaskBoard preInsertedBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        UUID boardID = preInsertedBoard.getID();
+        TaskBoard taskBoard = taskBoardRepository.findByID(boardID).orElseThrow();
+        taskRepository.save(new Task(null, "New task", "New task description", Priority.STANDARD,
+                                     LocalDate.now(), false, taskBoard));
+        long version = taskBoardRepository.findVersion(boardID).orElseThrow();
+
+        assertEquals(1, taskChangeRepository.compact(Instant.now().plusSeconds(1)));
+
+        assertTrue(taskChangeRepository.findChangesSince(boardID, version - 1, 10).orElseThrow().isResyncRequired());
+        assertTrue(sessionFactory.getCache().containsEntity(TaskBoard.class, boardID));
+    }
+
+    @Test
+    void delete_CachedTask_NextReadReturnsEmpty() {
+        Task task = taskRepository.findByID(TestApproacherDataUtils.createPreInsertedTask(EntityNumber.SECOND).getID())
+                                  .orElseThrow();
+
+        taskRepository.delete(task);
+
+        assertTrue(taskRepository.findByID(task.getID()).isEmpty());
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskapproacher.config.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.taskapproacher.auth.model.AuthRequest;
+import com.taskapproacher.auth.model.AuthResponse;
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.model.Task;
+import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.repository.TaskRepository;
+import com.taskapproacher.user.model.User;
+
+import org.hibernate.Session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+//Tests naming convention: method_scenario_result
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+@TestPropertySource(properties = "persistence.unit-of-work.enabled=true")
+@Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+                "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+public class UnitOfWorkTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UnitOfWork unitOfWork;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        unitOfWork.end();
+    }
+
+    @Test
+    void openSession_InsideUnitOfWork_RepositoryCallsShareFirstLevelCache() {
+        UUID taskID = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST).getID();
+
+        unitOfWork.begin();
+        Task firstRead = taskRepository.findByID(taskID).orElseThrow();
+        Task secondRead = taskRepository.findByID(taskID).orElseThrow();
+
+        assertSame(firstRead, secondRead);
+    }
+
+    @Test
+    void save_FailedWriteInsideUnitOfWork_LaterCallsGetNewSession() {
+        Task existingTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        TaskBoard missingTaskBoard = new TaskBoard(UUID.randomUUID(), "Missing board", false, null);
+        Task failedTask = new Task(null, "Failed task", "Description", Priority.STANDARD,
+                                   LocalDate.now(), false, missingTaskBoard);
+
+        unitOfWork.begin();
+        Session failedSession = unitOfWork.openSession();
+        assertThrows(DataAccessException.class, () -> taskRepository.save(failedTask));
+
+        assertFalse(failedSession.isOpen());
+        assertNotSame(failedSession, unitOfWork.openSession());
+        assertTrue(taskRepository.findByID(failedTask.getID()).isEmpty());
+
+        existingTask.setTitle("Updated after failure");
+        taskRepository.update(existingTask);
+
+        assertEquals("Updated after failure", taskRepository.findByID(existingTask.getID()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void getTasksByBoard_UnitOfWorkEnabled_ReturnsStatusCodeOk() throws Exception {
+        User user = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+
+        String response = mockMvc.perform(post("/api/auth/login")
+                                                  .contentType(MediaType.APPLICATION_JSON)
+                                                  .content(objectMapper.writeValueAsString(
+                                                          new AuthRequest(user.getUsername(), user.getPassword()))))
+                                 .andExpect(status().isOk())
+                                 .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readValue(response, AuthResponse.class).getToken();
+
+        mockMvc.perform(get("/api/board/" + taskBoardID + "/tasks")
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(2));
+    }
+}
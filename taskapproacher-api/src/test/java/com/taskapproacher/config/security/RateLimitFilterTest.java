@@ -0,0 +1,98 @@
+package com.taskapproacher.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.taskapproacher.auth.model.AuthRequest;
+import com.taskapproacher.auth.model.AuthResponse;
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.user.model.User;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+//Tests naming convention: method_scenario_result
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+@TestPropertySource(properties = {"rate-limit.enabled=true",
+                                  "rate-limit.auth.capacity=2", "rate-limit.auth.refill-per-second=0.01",
+                                  "rate-limit.api.capacity=3", "rate-limit.api.refill-per-second=0.01"})
+@Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql"})
+public class RateLimitFilterTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // The buckets outlive a test, each test sends from its own addresses.
+    private MockHttpServletRequestBuilder from(MockHttpServletRequestBuilder builder, String remoteAddress) {
+        return builder.with(request -> {
+            request.setRemoteAddr(remoteAddress);
+            return request;
+        });
+    }
+
+    private MockHttpServletRequestBuilder loginRequest(User user, String remoteAddress) throws Exception {
+        return from(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                                           .content(objectMapper.writeValueAsString(
+                                                   new AuthRequest(user.getUsername(), user.getPassword()))),
+                    remoteAddress);
+    }
+
+    @Test
+    void login_AuthLimitExceeded_ReturnsStatusCodeTooManyRequestsAndRetryAfter() throws Exception {
+        User user = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+
+        mockMvc.perform(loginRequest(user, "10.0.0.1")).andExpect(status().isOk());
+        mockMvc.perform(loginRequest(user, "10.0.0.1")).andExpect(status().isOk());
+
+        mockMvc.perform(loginRequest(user, "10.0.0.1"))
+               .andExpect(status().isTooManyRequests())
+               .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+               .andExpect(jsonPath("$.detail").value(ExceptionMessage.TOO_MANY_REQUESTS.toString()));
+        mockMvc.perform(loginRequest(user, "10.0.0.2")).andExpect(status().isOk());
+    }
+
+    @Test
+    void getProfile_ApiLimitExceeded_LimitsPerUserAcrossAddresses() throws Exception {
+        User user = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        String responseJson = mockMvc.perform(loginRequest(user, "10.0.1.1"))
+                                     .andReturn()
+                                     .getResponse()
+                                     .getContentAsString();
+        String authorizationHeader = "Bearer " + objectMapper.readValue(responseJson, AuthResponse.class)
+                                                             .getToken();
+
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(from(get("/api/user/profile"), "10.0.1." + i)
+                                    .header(HttpHeaders.AUTHORIZATION, authorizationHeader))
+                   .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(from(get("/api/user/profile"), "10.0.1.4")
+                                .header(HttpHeaders.AUTHORIZATION, authorizationHeader))
+               .andExpect(status().isTooManyRequests())
+               .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        mockMvc.perform(from(get("/api/user/profile"), "10.0.1.4")).andExpect(status().isUnauthorized());
+    }
+}
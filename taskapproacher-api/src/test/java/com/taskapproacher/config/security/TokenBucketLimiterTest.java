@@ -0,0 +1,44 @@
+package com.taskapproacher.config.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//Tests naming convention: method_scenario_result
+public class TokenBucketLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_BurstOverCapacity_RejectsWithWaitOfOneRefill() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 1);
+
+        assertEquals(0, limiter.tryAcquire("key", 0));
+        assertEquals(0, limiter.tryAcquire("key", 0));
+        assertEquals(0, limiter.tryAcquire("key", 0));
+        assertEquals(SECOND, limiter.tryAcquire("key", 0));
+        assertEquals(0, limiter.tryAcquire("other-key", 0));
+    }
+
+    @Test
+    void tryAcquire_AfterRefillInterval_GrantsOneToken() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 2);
+
+        assertEquals(0, limiter.tryAcquire("key", 0));
+        assertEquals(SECOND / 2, limiter.tryAcquire("key", 0));
+        assertEquals(0, limiter.tryAcquire("key", SECOND / 2));
+        assertTrue(limiter.tryAcquire("key", SECOND / 2) > 0);
+    }
+
+    @Test
+    void removeIdle_FullAndPartlyUsedBuckets_RemovesOnlyFullOnes() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 1);
+
+        limiter.tryAcquire("idle", 0);
+        limiter.tryAcquire("busy", 5 * SECOND);
+        limiter.removeIdle(5 * SECOND);
+
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskapproacher.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.taskapproacher.auth.model.AuthRequest;
+import com.taskapproacher.auth.model.AuthResponse;
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.user.model.User;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+Client side of the load tests against the server on the random port. A run starts groups of clients together, each
+client on its own virtual thread sending its requests one after another. Latencies of 200 responses are recorded,
+429s are counted as rejected and anything else as an error.
+ */
+final class LoadTestClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+                                                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                                                    .connectTimeout(Duration.ofSeconds(30))
+                                                    .build();
+
+    LoadTestClient(int port, ObjectMapper objectMapper) {
+        this.baseUrl = "http://localhost:" + port;
+        this.objectMapper = objectMapper;
+    }
+
+    HttpRequest loginRequest(User user) throws JsonProcessingException {
+        String requestJson = objectMapper.writeValueAsString(new AuthRequest(user.getUsername(), user.getPassword()));
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                          .header("Content-Type", "application/json")
+                          .POST(HttpRequest.BodyPublishers.ofString(requestJson))
+                          .timeout(REQUEST_TIMEOUT)
+                          .build();
+    }
+
+    String login(User user) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(loginRequest(user), HttpResponse.BodyHandlers.ofString());
+
+        return objectMapper.readValue(response.body(), AuthResponse.class).getToken();
+    }
+
+    // Tasks of the first pre-inserted board.
+    HttpRequest boardTasksRequest(String token) {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/board/" + taskBoardID + "/tasks"))
+                          .header("Authorization", "Bearer " + token)
+                          .timeout(REQUEST_TIMEOUT)
+                          .build();
+    }
+
+    // Runs the groups until every client is done, returns the elapsed nanoseconds.
+    long run(ClientGroup... groups) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ClientGroup group : groups) {
+                for (int i = 0; i < group.clients; i++) {
+                    executor.execute(() -> send(group, start));
+                }
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.MINUTES);
+
+            return System.nanoTime() - startedAt;
+        }
+    }
+
+    private void send(ClientGroup group, CountDownLatch start) {
+        try {
+            start.await();
+            for (int i = 0; i < group.requestsPerClient; i++) {
+                long sentAt = System.nanoTime();
+                int status = httpClient.send(group.request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    group.latencies.add(System.nanoTime() - sentAt);
+                } else if (status == 429) {
+                    group.rejected.incrementAndGet();
+                } else {
+                    group.errors.incrementAndGet();
+                }
+            }
+        } catch (Exception exception) {
+            group.errors.incrementAndGet();
+        }
+    }
+
+    static final class ClientGroup {
+        private final HttpRequest request;
+        private final int clients;
+        private final int requestsPerClient;
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        ClientGroup(HttpRequest request, int clients, int requestsPerClient) {
+            this.request = request;
+            this.clients = clients;
+            this.requestsPerClient = requestsPerClient;
+        }
+
+        // Successful requests, those answered with 200.
+        int requests() {
+            return latencies.size();
+        }
+
+        int rejected() {
+            return rejected.get();
+        }
+
+        int errors() {
+            return errors.get();
+        }
+
+        double throughput(long elapsedNanos) {
+            return requests() / (elapsedNanos / 1e9);
+        }
+
+        double p99Millis() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+
+            return (sorted.length == 0) ? 0 : sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1e6;
+        }
+    }
+}
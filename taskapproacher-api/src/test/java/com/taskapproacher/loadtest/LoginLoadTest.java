@@ -0,0 +1,81 @@
+package com.taskapproacher.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.loadtest.LoadTestClient.ClientGroup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.http.HttpRequest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+/*
+Login throughput under a login burst, and the latency of board reads sent at the same time, skipped unless
+load-test=true. Rejected logins are the 429s of a full hashing queue. Compare pool sizes and work factors, e.g.:
+  mvn test -Dtest=LoginLoadTest -Dload-test=true -Dpassword.hashing.threads=2 -Dpassword.bcrypt.strength=10
+  mvn test -Dtest=LoginLoadTest -Dload-test=true -Dpassword.hashing.threads=8 -Dpassword.bcrypt.strength=12
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+@Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+        "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+public class LoginLoadTest {
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ObjectMapper objectMapper;
+    private LoadTestClient client;
+
+    @Value("${load-test.login-clients:200}")
+    private int loginClients;
+
+    @Value("${load-test.logins-per-client:5}")
+    private int loginsPerClient;
+
+    @Value("${load-test.read-clients:50}")
+    private int readClients;
+
+    @Value("${load-test.reads-per-client:20}")
+    private int readsPerClient;
+
+    @BeforeEach
+    void setUp() {
+        client = new LoadTestClient(port, objectMapper);
+    }
+
+    @Test
+    void login_ConcurrentLoginsAndReads_ReportsThroughputAndReadP99() throws Exception {
+        HttpRequest login = client.loginRequest(TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST));
+        HttpRequest read = client.boardTasksRequest(
+                client.login(TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST)));
+
+        ClientGroup logins = new ClientGroup(login, loginClients, loginsPerClient);
+        ClientGroup reads = new ClientGroup(read, readClients, readsPerClient);
+        long elapsed = client.run(logins, reads);
+
+        System.out.printf("%nlogins: %d ok, %d rejected (429), %.1f logins/s, p99 %.1f ms%n",
+                          logins.requests(), logins.rejected(), logins.throughput(elapsed), logins.p99Millis());
+        System.out.printf("reads during the burst: %d ok, p99 %.1f ms, errors %d%n",
+                          reads.requests(), reads.p99Millis(), logins.errors() + reads.errors() + reads.rejected());
+
+        assertTrue(logins.requests() > 0);
+        assertTrue(reads.requests() > 0);
+    }
+}
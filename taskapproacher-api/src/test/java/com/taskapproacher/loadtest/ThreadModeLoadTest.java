@@ -0,0 +1,79 @@
+package com.taskapproacher.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.loadtest.LoadTestClient.ClientGroup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.http.HttpRequest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+/*
+Comparative load test of the platform- and virtual-thread modes, skipped unless load-test=true. Run it once per
+mode and compare the printed throughput and p99, e.g.:
+  mvn test -Dtest=ThreadModeLoadTest -Dload-test=true -Dspring.threads.virtual.enabled=false
+  mvn test -Dtest=ThreadModeLoadTest -Dload-test=true -Dspring.threads.virtual.enabled=true
+Every client opens its own connection, so large levels need a raised open files limit, and measuring on the same
+host as the server understates both modes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+@Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+        "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+public class ThreadModeLoadTest {
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ObjectMapper objectMapper;
+    private LoadTestClient client;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${load-test.clients:1000,5000,10000}")
+    private int[] clientLevels;
+
+    @Value("${load-test.requests-per-client:5}")
+    private int requestsPerClient;
+
+    @BeforeEach
+    void setUp() {
+        client = new LoadTestClient(port, objectMapper);
+    }
+
+    @Test
+    void getTasksByBoard_ConcurrentClients_ReportsThroughputAndP99() throws Exception {
+        HttpRequest request = client.boardTasksRequest(
+                client.login(TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST)));
+
+        System.out.printf("%n%-9s %8s %10s %12s %10s %8s%n",
+                          "mode", "clients", "requests", "req/s", "p99 ms", "errors");
+        for (int clients : clientLevels) {
+            ClientGroup group = new ClientGroup(request, clients, requestsPerClient);
+            long elapsed = client.run(group);
+            System.out.printf("%-9s %8d %10d %12.1f %10.1f %8d%n", virtualThreads ? "virtual" : "platform",
+                              clients, group.requests(), group.throughput(elapsed), group.p99Millis(),
+                              group.errors() + group.rejected());
+
+            assertTrue(group.requests() > 0);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskapproacher.task.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.taskapproacher.auth.model.AuthRequest;
+import com.taskapproacher.auth.model.AuthResponse;
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.task.model.Task;
+import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.user.model.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+//Tests naming convention: method_scenario_result
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+public class ReactiveTaskBoardControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    private final String PATH_TO_API = "/api/reactive/board/";
+    private String token;
+
+    private MockHttpServletRequestBuilder buildRequest(HttpMethod method, String path, Object body) throws Exception {
+        MockHttpServletRequestBuilder builder = request(method, path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token);
+
+        if (body != null) {
+            builder.content(objectMapper.writeValueAsString(body));
+        }
+
+        return builder;
+    }
+
+    // The handler returns a Mono or Flux, the response is written by the async dispatch once it completes.
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                                  .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                                  .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private String getAccessToken(String username, String password) throws Exception {
+        String requestJson = objectMapper.writeValueAsString(new AuthRequest(username, password));
+
+        String tokenJson = mockMvc.perform(request(HttpMethod.POST, "/api/auth/login")
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(requestJson))
+                                  .andReturn()
+                                  .getResponse()
+                                  .getContentAsString();
+
+        return objectMapper.readValue(tokenJson, AuthResponse.class).getToken();
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        User preInsertedUser = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        token = getAccessToken(preInsertedUser.getUsername(), preInsertedUser.getPassword());
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTasksByBoard_ExistingBoard_ReturnsStatusCodeOkAndTasksInPriorityOrder() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        Task firstTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        Task secondTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.SECOND);
+
+        performAsync(buildRequest(HttpMethod.GET, PATH_TO_API + preInsertedTaskBoard.getID() + "/tasks", null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(secondTask.getID().toString()))
+                .andExpect(jsonPath("$[0].priority").value(secondTask.getPriority().toString()))
+                .andExpect(jsonPath("$[1].id").value(firstTask.getID().toString()))
+                .andExpect(jsonPath("$[1].deadline").value(firstTask.getDeadline().toString()));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void createTaskBoard_ValidBoardData_ReturnsStatusCodeCreatedAndCreatedBoard() throws Exception {
+        User preInsertedUser = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        TaskBoardDTO requestData = new TaskBoardDTO(null, "New board", true, null, null);
+
+        performAsync(buildRequest(HttpMethod.POST, PATH_TO_API + preInsertedUser.getID(), requestData))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNotEmpty())
+                .andExpect(jsonPath("$.title").value("New board"))
+                .andExpect(jsonPath("$.userID").value(preInsertedUser.getID().toString()));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void updateTaskBoard_EmptyTitle_ReturnsStatusCodeOkAndKeepsTitle() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        TaskBoardDTO requestData = new TaskBoardDTO(null, "", false, null, null);
+
+        performAsync(buildRequest(HttpMethod.PATCH, PATH_TO_API + preInsertedTaskBoard.getID(), requestData))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(preInsertedTaskBoard.getTitle()))
+                .andExpect(jsonPath("$.sorted").value(false));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void deleteTaskBoard_BoardWithTasks_ReturnsStatusCodeNoContentAndRemovesBoard() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        String path = PATH_TO_API + preInsertedTaskBoard.getID();
+
+        performAsync(buildRequest(HttpMethod.DELETE, path, null)).andExpect(status().isNoContent());
+
+        mockMvc.perform(buildRequest(HttpMethod.GET, path, null))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.detail").value("Task board " + ExceptionMessage.NOT_FOUND));
+    }
+}
@@ -0,0 +1,182 @@
+package com.taskapproacher.task.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.taskapproacher.auth.model.AuthRequest;
+import com.taskapproacher.auth.model.AuthResponse;
+import com.taskapproacher.common.constant.EntityNumber;
+import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
+import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.model.Task;
+import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.user.model.User;
+
+import org.hamcrest.core.StringContains;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
+
+//Tests naming convention: method_scenario_result
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
+public class ReactiveTaskControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    private final String PATH_TO_API = "/api/reactive/task/";
+    private final String TIME_ZONE = "Europe/London";
+    private String token;
+
+    private TaskDTO createDefaultTask() {
+        return new TaskDTO(null, "Task 1", "Task description", Priority.STANDARD, LocalDate.now(), false, null);
+    }
+
+    private MockHttpServletRequestBuilder buildRequest(HttpMethod method, String path, Object body) throws Exception {
+        MockHttpServletRequestBuilder builder = request(method, path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("TimeZone", TIME_ZONE);
+
+        if (body != null) {
+            builder.content(objectMapper.writeValueAsString(body));
+        }
+
+        return builder;
+    }
+
+    // The handler returns a Mono, the response is written by the async dispatch once it completes.
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                                  .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                                  .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private String getAccessToken(String username, String password) throws Exception {
+        String requestJson = objectMapper.writeValueAsString(new AuthRequest(username, password));
+
+        String tokenJson = mockMvc.perform(request(HttpMethod.POST, "/api/auth/login")
+                                                   .contentType(MediaType.APPLICATION_JSON)
+                                                   .content(requestJson))
+                                  .andReturn()
+                                  .getResponse()
+                                  .getContentAsString();
+
+        return objectMapper.readValue(tokenJson, AuthResponse.class).getToken();
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        User preInsertedUser = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST);
+        token = getAccessToken(preInsertedUser.getUsername(), preInsertedUser.getPassword());
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTask_ExistingTask_ReturnsStatusCodeOkAndTask() throws Exception {
+        Task preInsertedTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+
+        performAsync(buildRequest(HttpMethod.GET, PATH_TO_API + preInsertedTask.getID(), null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(preInsertedTask.getID().toString()))
+                .andExpect(jsonPath("$.title").value(preInsertedTask.getTitle()))
+                .andExpect(jsonPath("$.priority").value(preInsertedTask.getPriority().toString()))
+                .andExpect(jsonPath("$.taskBoardID").value(preInsertedTask.getTaskBoardID().toString()));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void createTask_ValidTaskData_ReturnsStatusCodeCreatedAndLogsChange() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+        TaskDTO requestData = createDefaultTask();
+
+        String responseJson = performAsync(buildRequest(HttpMethod.POST, PATH_TO_API + "board/" + taskBoardID,
+                                                        requestData))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title").value(requestData.getTitle()))
+                .andExpect(jsonPath("$.taskBoardID").value(taskBoardID.toString()))
+                .andReturn().getResponse().getContentAsString();
+        UUID taskID = objectMapper.readValue(responseJson, TaskDTO.class).getID();
+
+        // Written over R2DBC, read back through the Hibernate endpoints.
+        mockMvc.perform(buildRequest(HttpMethod.GET, "/api/board/" + taskBoardID + "/changes?since=0", null))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.version").value(1))
+               .andExpect(jsonPath("$.changes[0].taskID").value(taskID.toString()))
+               .andExpect(jsonPath("$.changes[0].type").value("CREATED"));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void createTask_DeadlineBeforeCurrentDate_ReturnsStatusCodeBadRequestAndErrorResponse() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+        TaskDTO requestData = new TaskDTO(null, "Task 1", "Task description", Priority.STANDARD,
+                                          LocalDate.now().minusDays(2), false, null);
+
+        performAsync(buildRequest(HttpMethod.POST, PATH_TO_API + "board/" + taskBoardID, requestData))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.detail").value(StringContains.containsString(
+                        ExceptionMessage.BEFORE_CURRENT_DATE.toString())));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void updateTask_PartialTaskData_ReturnsStatusCodeOkAndMergedTask() throws Exception {
+        Task preInsertedTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        TaskDTO requestData = new TaskDTO(null, "Updated task", null, Priority.CRITICAL, null, false, null);
+
+        performAsync(buildRequest(HttpMethod.PATCH, PATH_TO_API + preInsertedTask.getID(), requestData))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Updated task"))
+                .andExpect(jsonPath("$.description").value(preInsertedTask.getDescription()))
+                .andExpect(jsonPath("$.priority").value("CRITICAL"))
+                .andExpect(jsonPath("$.deadline").value(preInsertedTask.getDeadline().toString()))
+                .andExpect(jsonPath("$.finished").value(false));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void deleteTask_ExistingTask_ReturnsStatusCodeNoContentAndRemovesTask() throws Exception {
+        Task preInsertedTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        String path = PATH_TO_API + preInsertedTask.getID();
+
+        performAsync(buildRequest(HttpMethod.DELETE, path, null)).andExpect(status().isNoContent());
+
+        mockMvc.perform(buildRequest(HttpMethod.GET, path, null))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.detail").value("Task " + ExceptionMessage.NOT_FOUND));
+    }
+}
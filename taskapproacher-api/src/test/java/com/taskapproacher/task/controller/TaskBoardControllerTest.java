@@ -7,10 +7,15 @@ import com.taskapproacher.auth.model.AuthResponse;
 import com.taskapproacher.common.constant.EntityNumber;
 import com.taskapproacher.common.constant.ExceptionMessage;
 import com.taskapproacher.common.interfaces.attributes.TaskBoardAttributes;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
 import com.taskapproacher.common.utils.TestApproacherDataUtils;
+import com.taskapproacher.config.persistence.StatementTimeoutInterceptor;
+import com.taskapproacher.task.constant.Priority;
 import com.taskapproacher.task.mapper.TaskMapper;
+import com.taskapproacher.task.model.Task;
 import com.taskapproacher.task.model.TaskBoard;
 import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.repository.TaskChangeRepository;
 import com.taskapproacher.user.model.User;
 
 import org.hamcrest.core.StringContains;
@@ -21,31 +26,42 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
 
 //Tests naming convention: method_scenario_result
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
 public class TaskBoardControllerTest {
     @Autowired
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
     private final String PATH_TO_API = "/api/board/";
     private final TaskMapper taskMapper = new TaskMapper();
     private String token;
@@ -54,11 +70,24 @@ public class TaskBoardControllerTest {
         return new TaskBoard(null, "Test Board Creation", false, null, new User());
     }
 
+    private void createTask(UUID taskBoardID, String title) throws Exception {
+        Task task = new Task(null, title, "New task description", Priority.STANDARD,
+                             LocalDate.now(), false, new TaskBoard());
+
+        mockMvc.perform(request(HttpMethod.POST, "/api/task/board/" + taskBoardID)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(task))
+                                .header("TimeZone", "UTC")
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.CREATED.value()));
+    }
+
+    // Pre-inserted tasks of the first board in the (priority, deadline, id) order the API returns them in.
     private List<TaskDTO> createDTOListOfPreInsertedTasks() {
         TaskDTO firstTask = taskMapper.mapToTaskDTO(TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST));
         TaskDTO secondTask = taskMapper.mapToTaskDTO(TestApproacherDataUtils.createPreInsertedTask(EntityNumber.SECOND));
 
-        return List.of(firstTask, secondTask);
+        return List.of(secondTask, firstTask);
     }
 
     private ResultMatcher[] buildFailedMatchers(HttpStatus status, String path, ExceptionMessage exceptionMessage) {
@@ -209,6 +238,235 @@ public class TaskBoardControllerTest {
                 .andExpect(jsonPath("$.[1].title").value(preInsertedTasks.get(1).getTitle()));
     }
 
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTasksByBoard_RequestDeadlineHeader_ReturnsStatusCodeOkAndListOfTasks() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+
+        mockMvc.perform(request(HttpMethod.GET, PATH_TO_API + taskBoardID + "/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .header(StatementTimeoutInterceptor.DEADLINE_HEADER, "3000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(createDTOListOfPreInsertedTasks().get(0).getID().toString()));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTasksByBoard_InvalidRequestDeadline_ReturnsStatusCodeBadRequestAndErrorResponse() throws Exception {
+        String path = PATH_TO_API + TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID()
+                      + "/tasks";
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                        .header("Authorization", "Bearer " + token)
+                        .header(StatementTimeoutInterceptor.DEADLINE_HEADER, "0"))
+                .andExpectAll(buildFailedMatchers(HttpStatus.BAD_REQUEST, path,
+                                                  ExceptionMessage.INVALID_REQUEST_DEADLINE));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTasksByBoard_PageSizeLessThanTasks_ReturnsStatusCodeOkAndPagesFollowingCursor() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        UUID taskBoardID = preInsertedTaskBoard.getID();
+
+        List<TaskDTO> preInsertedTasks = createDTOListOfPreInsertedTasks();
+
+        String path = PATH_TO_API + taskBoardID + "/tasks";
+
+        String nextCursor = mockMvc.perform(request(HttpMethod.GET, path)
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$.[0].id").value(preInsertedTasks.get(0).getID().toString()))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                        .param("limit", "1")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().is(HttpStatus.OK.value()))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$.[0].id").value(preInsertedTasks.get(1).getID().toString()))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTasksByBoard_MatchingIfNoneMatch_ReturnsStatusCodeNotModifiedWithoutBody() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+
+        String path = PATH_TO_API + taskBoardID + "/tasks";
+
+        String eTag = mockMvc.perform(request(HttpMethod.GET, path)
+                                              .header("Authorization", "Bearer " + token))
+                             .andExpect(status().is(HttpStatus.OK.value()))
+                             .andExpect(header().exists(HttpHeaders.ETAG))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.NOT_MODIFIED.value()))
+               .andExpect(header().string(HttpHeaders.ETAG, eTag))
+               .andExpect(content().string(""));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTasksByBoard_TaskCreatedAfterETag_ReturnsStatusCodeOkAndNewETag() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        UUID taskBoardID = preInsertedTaskBoard.getID();
+
+        String path = PATH_TO_API + taskBoardID + "/tasks";
+
+        String eTag = mockMvc.perform(request(HttpMethod.GET, path)
+                                              .header("Authorization", "Bearer " + token))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+
+        createTask(taskBoardID, "New task");
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.OK.value()))
+               .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+               .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getTasksByBoard_InvalidPageSize_ReturnsStatusCodeBadRequestAndErrorResponse() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        UUID taskBoardID = preInsertedTaskBoard.getID();
+
+        String path = PATH_TO_API + taskBoardID + "/tasks";
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                        .param("limit", "0")
+                        .header("Authorization", "Bearer " + token))
+                .andExpectAll(buildFailedMatchers(HttpStatus.BAD_REQUEST, path,
+                                                  ExceptionMessage.INVALID_TASKS_PAGE_SIZE));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getChangesByBoard_TasksWrittenSinceVersion_ReturnsStatusCodeOkAndLatestChangePerTask() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+        UUID deletedTaskID = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.SECOND).getID();
+
+        createTask(taskBoardID, "New task");
+        mockMvc.perform(request(HttpMethod.DELETE, "/api/task/" + deletedTaskID)
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.NO_CONTENT.value()));
+
+        String path = PATH_TO_API + taskBoardID + "/changes";
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .param("since", "0")
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.OK.value()))
+               .andExpect(jsonPath("$.version").value(2))
+               .andExpect(jsonPath("$.resyncRequired").value(false))
+               .andExpect(jsonPath("$.changes.length()").value(2))
+               .andExpect(jsonPath("$.changes[0].type").value("CREATED"))
+               .andExpect(jsonPath("$.changes[0].task.title").value("New task"))
+               .andExpect(jsonPath("$.changes[1].sequence").value(2))
+               .andExpect(jsonPath("$.changes[1].taskID").value(deletedTaskID.toString()))
+               .andExpect(jsonPath("$.changes[1].type").value("DELETED"))
+               .andExpect(jsonPath("$.changes[1].task").doesNotExist());
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .param("since", "2")
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.OK.value()))
+               .andExpect(jsonPath("$.version").value(2))
+               .andExpect(jsonPath("$.changes.length()").value(0));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void getChangesByBoard_VersionCompactedAway_ReturnsStatusCodeOkAndResyncRequired() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+
+        createTask(taskBoardID, "Compacted task");
+        taskChangeRepository.compact(Instant.now().plusSeconds(1));
+        createTask(taskBoardID, "Retained task");
+
+        String path = PATH_TO_API + taskBoardID + "/changes";
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .param("since", "0")
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.OK.value()))
+               .andExpect(jsonPath("$.version").value(2))
+               .andExpect(jsonPath("$.resyncRequired").value(true))
+               .andExpect(jsonPath("$.changes.length()").value(0));
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .param("since", "1")
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.OK.value()))
+               .andExpect(jsonPath("$.resyncRequired").value(false))
+               .andExpect(jsonPath("$.changes.length()").value(1))
+               .andExpect(jsonPath("$.changes[0].task.title").value("Retained task"));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void getBoardEvents_TaskCreatedAfterSubscribing_StreamsTaskEvent() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+
+        MvcResult subscription = mockMvc.perform(request(HttpMethod.GET, PATH_TO_API + taskBoardID + "/events")
+                                                         .header("Authorization", "Bearer " + token))
+                                        .andExpect(status().is(HttpStatus.OK.value()))
+                                        .andReturn();
+        assertTrue(subscription.getRequest().isAsyncStarted());
+
+        createTask(taskBoardID, "Streamed task");
+
+        // Events are written by the dispatcher threads of the hub.
+        long deadline = System.currentTimeMillis() + 5000;
+        String stream = subscription.getResponse().getContentAsString();
+        while (!stream.contains("Streamed task") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            stream = subscription.getResponse().getContentAsString();
+        }
+
+        assertTrue(stream.contains("event:task"));
+        assertTrue(stream.contains("\"type\":\"CREATED\""));
+        assertTrue(stream.contains("Streamed task"));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void getChangesByBoard_NegativeVersion_ReturnsStatusCodeBadRequestAndErrorResponse() throws Exception {
+        UUID taskBoardID = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST).getID();
+
+        String path = PATH_TO_API + taskBoardID + "/changes";
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .param("since", "-1")
+                                .header("Authorization", "Bearer " + token))
+               .andExpectAll(buildFailedMatchers(HttpStatus.BAD_REQUEST, path,
+                                                 ExceptionMessage.INVALID_CHANGES_VERSION));
+    }
+
     @Test
     @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
             "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
@@ -291,6 +549,8 @@ public class TaskBoardControllerTest {
         TaskBoard requestData = preInsertedTaskBoard;
         requestData.setTitle("Updated title");
         requestData.setSorted(true);
+        // The PATCH response carries the board header only, tasks are not loaded.
+        requestData.setTasks(null);
 
         String path = PATH_TO_API + taskBoardID;
 
@@ -7,11 +7,13 @@ import com.taskapproacher.auth.model.AuthResponse;
 import com.taskapproacher.common.constant.EntityNumber;
 import com.taskapproacher.common.constant.ExceptionMessage;
 import com.taskapproacher.common.interfaces.attributes.TaskAttributes;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
 import com.taskapproacher.common.utils.TestApproacherDataUtils;
 import com.taskapproacher.task.constant.Priority;
 import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.task.model.Task;
 import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskDTO;
 import com.taskapproacher.user.model.User;
 
 import org.hamcrest.core.StringContains;
@@ -27,6 +29,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
@@ -37,11 +40,13 @@ import java.util.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
 
 //Tests naming convention: method_scenario_result
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
 public class TaskControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -370,6 +375,24 @@ public class TaskControllerTest {
                              path, requestJson, ExceptionMessage.BEFORE_CURRENT_DATE);
     }
 
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void updateTask_IllegalTaskTitleLength_ReturnsStatusCodeBadRequestAndErrorResponse() throws Exception {
+        Task preInsertedTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        UUID taskID = preInsertedTask.getID();
+
+        Task requestData = preInsertedTask;
+        requestData.setTitle("A".repeat(TaskConstants.MAX_TASK_TITLE_LENGTH + 20));
+
+        String path = PATH_TO_API + taskID;
+
+        String requestJson = objectMapper.writeValueAsString(requestData);
+
+        performFailedRequest(HttpMethod.PATCH, HttpStatus.BAD_REQUEST, token,
+                             path, requestJson, ExceptionMessage.INVALID_TASK_FIELDS_LENGTH);
+    }
+
     @Test
     @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
             "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
@@ -407,4 +430,122 @@ public class TaskControllerTest {
         performFailedRequest(HttpMethod.DELETE, HttpStatus.FORBIDDEN, token,
                              path, null, ExceptionMessage.ACCESS_DENIED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void createTasks_ValidAndInvalidTasks_ReturnsStatusCodeOkAndPerItemResults() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        UUID taskBoardID = preInsertedTaskBoard.getID();
+
+        List<TaskDTO> requestData = List.of(
+                new TaskDTO(null, "Task 1", "Task description", Priority.STANDARD, LocalDate.now(), false, null),
+                new TaskDTO(null, null, "Task description", Priority.STANDARD, LocalDate.now(), false, null),
+                new TaskDTO(null, "Task 3", "Task description", Priority.CRITICAL, LocalDate.now(), false, null));
+
+        String path = PATH_TO_API + "board/" + taskBoardID + "/bulk";
+
+        String requestJson = objectMapper.writeValueAsString(requestData);
+
+        mockMvc.perform(buildRequest(HttpMethod.POST, token, path, requestJson))
+               .andExpectAll(status().isOk(),
+                             jsonPath("$.length()").value(3),
+                             jsonPath("$[0].task.id").isNotEmpty(),
+                             jsonPath("$[0].task.taskBoardID").value(taskBoardID.toString()),
+                             jsonPath("$[1].index").value(1),
+                             jsonPath("$[1].error").value(StringContains.containsString(
+                                     ExceptionMessage.NULL.toString())),
+                             jsonPath("$[2].task.title").value("Task 3"));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void createTasks_TooManyTasks_ReturnsStatusCodeBadRequestAndErrorResponse() throws Exception {
+        TaskBoard preInsertedTaskBoard = TestApproacherDataUtils.createPreInsertedTaskBoard(EntityNumber.FIRST);
+        UUID taskBoardID = preInsertedTaskBoard.getID();
+
+        TaskDTO task = new TaskDTO(null, "Task 1", "Task description", Priority.STANDARD, LocalDate.now(), false, null);
+        List<TaskDTO> requestData = Collections.nCopies(TaskConstants.MAX_BULK_TASKS + 1, task);
+
+        String path = PATH_TO_API + "board/" + taskBoardID + "/bulk";
+
+        String requestJson = objectMapper.writeValueAsString(requestData);
+
+        performFailedRequest(HttpMethod.POST, HttpStatus.BAD_REQUEST, token,
+                             path, requestJson, ExceptionMessage.INVALID_BULK_SIZE);
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void updateTasks_OwnedAndForeignTasks_ReturnsStatusCodeOkAndPerItemResults() throws Exception {
+        Task ownedTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        Task foreignTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.THIRD);
+
+        List<TaskDTO> requestData = List.of(
+                new TaskDTO(ownedTask.getID(), "Updated task", null, Priority.CRITICAL, null, true, null),
+                new TaskDTO(foreignTask.getID(), "Updated task", null, null, null, true, null));
+
+        String path = PATH_TO_API + "bulk";
+
+        String requestJson = objectMapper.writeValueAsString(requestData);
+
+        mockMvc.perform(buildRequest(HttpMethod.PATCH, token, path, requestJson))
+               .andExpectAll(status().isOk(),
+                             jsonPath("$[0].task.id").value(ownedTask.getID().toString()),
+                             jsonPath("$[0].task.title").value("Updated task"),
+                             jsonPath("$[0].task.description").value(ownedTask.getDescription()),
+                             jsonPath("$[0].task.priority").value(Priority.CRITICAL.toString()),
+                             jsonPath("$[1].id").value(foreignTask.getID().toString()),
+                             jsonPath("$[1].error").value(StringContains.containsString(
+                                     ExceptionMessage.NOT_FOUND.toString())));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void finishTasks_OwnedTasks_ReturnsStatusCodeOkAndTasksFinished() throws Exception {
+        Task firstTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        Task secondTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.SECOND);
+        UUID taskBoardID = firstTask.getTaskBoardID();
+
+        String path = PATH_TO_API + "bulk/finish";
+
+        String requestJson = objectMapper.writeValueAsString(List.of(firstTask.getID(), secondTask.getID()));
+
+        mockMvc.perform(buildRequest(HttpMethod.PATCH, token, path, requestJson))
+               .andExpectAll(status().isOk(),
+                             jsonPath("$[0].error").doesNotExist(),
+                             jsonPath("$[1].error").doesNotExist());
+
+        mockMvc.perform(request(HttpMethod.GET, "/api/board/" + taskBoardID + "/tasks")
+                                .header("Authorization", "Bearer " + token))
+               .andExpectAll(status().isOk(),
+                             jsonPath("$[0].finished").value(true),
+                             jsonPath("$[1].finished").value(true));
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql",
+            "/data/sql/insertBoards.sql", "/data/sql/insertTasks.sql"})
+    void deleteTasks_OwnedAndForeignTasks_ReturnsStatusCodeOkAndPerItemResults() throws Exception {
+        Task ownedTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.FIRST);
+        Task foreignTask = TestApproacherDataUtils.createPreInsertedTask(EntityNumber.THIRD);
+
+        String path = PATH_TO_API + "bulk";
+
+        String requestJson = objectMapper.writeValueAsString(List.of(ownedTask.getID(), foreignTask.getID()));
+
+        mockMvc.perform(request(HttpMethod.DELETE, path)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header("Authorization", "Bearer " + token)
+                                .content(requestJson))
+               .andExpectAll(status().isOk(),
+                             jsonPath("$[0].id").value(ownedTask.getID().toString()),
+                             jsonPath("$[0].error").doesNotExist(),
+                             jsonPath("$[1].error").value(StringContains.containsString(
+                                     ExceptionMessage.NOT_FOUND.toString())));
+
+        performFailedRequest(HttpMethod.DELETE, HttpStatus.BAD_REQUEST, token,
+                             PATH_TO_API + ownedTask.getID(), null, ExceptionMessage.NOT_FOUND);
+    }
+}
@@ -1,14 +1,20 @@
 package com.taskapproacher.task.service;
 
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.common.cache.SerializedResponseCache;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
 import com.taskapproacher.common.interfaces.attributes.TaskBoardAttributes;
 import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.task.mapper.TaskBoardMapper;
-import com.taskapproacher.task.model.Task;
 import com.taskapproacher.task.model.TaskBoard;
 import com.taskapproacher.task.model.TaskBoardDTO;
 import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.model.TaskPage;
+import com.taskapproacher.task.model.TaskPageCursor;
 import com.taskapproacher.task.repository.TaskBoardRepository;
+import com.taskapproacher.task.repository.TaskChangeRepository;
 import com.taskapproacher.user.constant.Role;
 import com.taskapproacher.user.model.User;
 import com.taskapproacher.user.service.UserService;
@@ -24,10 +30,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.beans.BeanUtils;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,34 +46,25 @@ public class TaskBoardServiceTest {
     @Mock
     private TaskBoardRepository taskBoardRepository;
     @Mock
+    private TaskChangeRepository taskChangeRepository;
+    @Mock
     private UserService userService;
+    @Mock
+    private OwnershipIndex ownershipIndex;
+    @Mock
+    private SerializedResponseCache responseCache;
+    @Mock
+    private ChangeEventHub eventHub;
     @InjectMocks
     private TaskBoardService taskBoardService;
 
     private final TaskBoardMapper taskBoardMapper = new TaskBoardMapper();
 
-    private Task createDefaultTask(UUID taskID) {
-        Task task = new Task();
-        task.setID(taskID);
-        task.setTitle("Default task");
-        task.setDescription("Default task description");
-        task.setPriority(Priority.STANDARD);
-        task.setDeadline(LocalDate.now());
-        task.setFinished(false);
-        task.setTaskBoard(null);
-
-        return task;
-    }
-
-    private List<Task> createDefaultListOfTasks(TaskBoard taskBoard) {
-        Task firstTask = createDefaultTask(UUID.randomUUID());
-        firstTask.setID(UUID.randomUUID());
-        firstTask.setTitle("First task");
-        firstTask.setTaskBoard(taskBoard);
-        Task secondTask = createDefaultTask(UUID.randomUUID());
-        secondTask.setID(UUID.randomUUID());
-        secondTask.setTitle("Second task");
-        secondTask.setTaskBoard(taskBoard);
+    private List<TaskDTO> createDefaultListOfTaskDTOs(UUID boardID) {
+        TaskDTO firstTask = new TaskDTO(UUID.randomUUID(), "First task", "Default task description",
+                                        Priority.STANDARD, LocalDate.now(), false, boardID);
+        TaskDTO secondTask = new TaskDTO(UUID.randomUUID(), "Second task", "Default task description",
+                                         Priority.STANDARD, LocalDate.now(), false, boardID);
 
         return List.of(firstTask, secondTask);
     }
@@ -167,6 +164,56 @@ public class TaskBoardServiceTest {
         verify(taskBoardRepository, times(1)).findByID(boardID);
     }
 
+    @Test
+    void findVersion_ValidTaskBoardID_ReturnsVersion() {
+        UUID boardID = UUID.randomUUID();
+
+        when(taskBoardRepository.findVersion(boardID)).thenReturn(Optional.of(5L));
+
+        assertEquals(5L, taskBoardService.findVersion(boardID));
+
+        verify(taskBoardRepository, times(1)).findVersion(boardID);
+    }
+
+    @Test
+    void findVersion_InvalidTaskBoardID_ThrowsEntityNotFoundException() {
+        UUID boardID = UUID.randomUUID();
+
+        when(taskBoardRepository.findVersion(boardID)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+            taskBoardService.findVersion(boardID);
+        });
+
+        assertTrue(exception.getMessage().contains(ExceptionMessage.NOT_FOUND.toString()));
+    }
+
+    @Test
+    void findChangesSince_NegativeVersion_ThrowsIllegalArgumentException() {
+        UUID boardID = UUID.randomUUID();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            taskBoardService.findChangesSince(boardID, -1L);
+        });
+
+        assertTrue(exception.getMessage().contains(ExceptionMessage.INVALID_CHANGES_VERSION.toString()));
+
+        verifyNoInteractions(taskChangeRepository);
+    }
+
+    @Test
+    void findChangesSince_InvalidTaskBoardID_ThrowsEntityNotFoundException() {
+        UUID boardID = UUID.randomUUID();
+
+        when(taskChangeRepository.findChangesSince(eq(boardID), eq(0L), anyInt())).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+            taskBoardService.findChangesSince(boardID, 0L);
+        });
+
+        assertTrue(exception.getMessage().contains(ExceptionMessage.NOT_FOUND.toString()));
+    }
+
     @Test
     void findByTaskBoard_ValidTaskBoardID_ReturnsTaskDTOList() {
         UUID boardID = UUID.randomUUID();
@@ -174,19 +221,92 @@ public class TaskBoardServiceTest {
         TaskBoard taskBoard = new TaskBoard();
         taskBoard.setID(boardID);
 
-        List<Task> mockListOfTasks = createDefaultListOfTasks(taskBoard);
+        List<TaskDTO> mockListOfTasks = createDefaultListOfTaskDTOs(boardID);
+
+        int defaultLimit = TaskConstants.DEFAULT_TASKS_PAGE_SIZE + 1;
 
         when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.of(taskBoard));
-        when(taskBoardRepository.findRelatedEntitiesByID(boardID)).thenReturn(mockListOfTasks);
+        when(taskBoardRepository.findTaskDTOsByID(boardID, null, defaultLimit)).thenReturn(mockListOfTasks);
 
-        List<TaskDTO> listOfTasks = taskBoardService.findByTaskBoard(boardID);
+        TaskPage page = taskBoardService.findByTaskBoard(boardID, null, null);
+        List<TaskDTO> listOfTasks = page.getTasks();
 
         assertEquals(2, listOfTasks.size());
         assertEquals(listOfTasks.get(0).getID(), mockListOfTasks.get(0).getID());
         assertEquals(listOfTasks.get(1).getID(), mockListOfTasks.get(1).getID());
+        assertNull(page.getNextCursor());
 
         verify(taskBoardRepository, times(1)).findByID(boardID);
-        verify(taskBoardRepository, times(1)).findRelatedEntitiesByID(boardID);
+        verify(taskBoardRepository, times(1)).findTaskDTOsByID(boardID, null, defaultLimit);
+    }
+
+    @Test
+    void findByTaskBoard_PageSizeLessThanTasks_ReturnsPageAndNextCursor() {
+        UUID boardID = UUID.randomUUID();
+
+        TaskBoard taskBoard = new TaskBoard();
+        taskBoard.setID(boardID);
+
+        List<TaskDTO> mockListOfTasks = createDefaultListOfTaskDTOs(boardID);
+        TaskPageCursor expectedCursor = TaskPageCursor.of(mockListOfTasks.get(0));
+
+        when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.of(taskBoard));
+        when(taskBoardRepository.findTaskDTOsByID(boardID, null, 2)).thenReturn(mockListOfTasks);
+
+        TaskPage page = taskBoardService.findByTaskBoard(boardID, null, 1);
+
+        assertEquals(1, page.getTasks().size());
+        assertEquals(mockListOfTasks.get(0).getID(), page.getTasks().get(0).getID());
+        assertEquals(expectedCursor, TaskPageCursor.decode(page.getNextCursor()));
+
+        verify(taskBoardRepository, times(1)).findTaskDTOsByID(boardID, null, 2);
+    }
+
+    @Test
+    void findByTaskBoard_ValidCursor_PassesDecodedCursorToRepository() {
+        UUID boardID = UUID.randomUUID();
+
+        TaskBoard taskBoard = new TaskBoard();
+        taskBoard.setID(boardID);
+
+        List<TaskDTO> mockListOfTasks = createDefaultListOfTaskDTOs(boardID);
+        TaskPageCursor cursor = TaskPageCursor.of(mockListOfTasks.get(0));
+
+        when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.of(taskBoard));
+        when(taskBoardRepository.findTaskDTOsByID(boardID, cursor, 11))
+                .thenReturn(List.of(mockListOfTasks.get(1)));
+
+        TaskPage page = taskBoardService.findByTaskBoard(boardID, cursor.encode(), 10);
+
+        assertEquals(1, page.getTasks().size());
+        assertEquals(mockListOfTasks.get(1).getID(), page.getTasks().get(0).getID());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void findByTaskBoard_InvalidPageSize_ThrowsIllegalArgumentException() {
+        UUID boardID = UUID.randomUUID();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            taskBoardService.findByTaskBoard(boardID, null, TaskConstants.MAX_TASKS_PAGE_SIZE + 1);
+        });
+
+        assertEquals(ExceptionMessage.INVALID_TASKS_PAGE_SIZE.toString(), exception.getMessage());
+
+        verify(taskBoardRepository, times(0)).findByID(boardID);
+    }
+
+    @Test
+    void findByTaskBoard_MalformedCursor_ThrowsIllegalArgumentException() {
+        UUID boardID = UUID.randomUUID();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            taskBoardService.findByTaskBoard(boardID, "not-a-cursor", null);
+        });
+
+        assertTrue(exception.getMessage().contains(ExceptionMessage.WRONG_FORMAT.toString()));
+
+        verify(taskBoardRepository, times(0)).findByID(boardID);
     }
 
     @Test
@@ -194,7 +314,7 @@ public class TaskBoardServiceTest {
         UUID boardID = null;
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            taskBoardService.findByTaskBoard(boardID);
+            taskBoardService.findByTaskBoard(boardID, null, null);
         });
 
         String expectedMessage = ExceptionMessage.NULL.toString();
@@ -202,7 +322,8 @@ public class TaskBoardServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskBoardRepository, times(0)).findRelatedEntitiesByID(boardID);
+        verify(taskBoardRepository, times(0)).findTaskDTOsByID(ArgumentMatchers.any(UUID.class),
+                                                               ArgumentMatchers.any(), ArgumentMatchers.anyInt());
     }
 
     @Test
@@ -212,7 +333,7 @@ public class TaskBoardServiceTest {
         when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            taskBoardService.findByTaskBoard(boardID);
+            taskBoardService.findByTaskBoard(boardID, null, null);
         });
 
         String expectedMessage = ExceptionMessage.NOT_FOUND.toString();
@@ -307,42 +428,24 @@ public class TaskBoardServiceTest {
         UUID boardID = UUID.randomUUID();
         UUID userID = UUID.randomUUID();
 
-        User user = createDefaultUser(userID);
-
-        TaskBoard existingTaskBoard = createDefaultTaskBoard(boardID, user);
-        List<Task> listOfTasks = createDefaultListOfTasks(existingTaskBoard);
-        existingTaskBoard.setTasks(listOfTasks);
-
-        TaskBoard copyOfExistingTaskBoard = new TaskBoard();
-        BeanUtils.copyProperties(existingTaskBoard, copyOfExistingTaskBoard);
-
-        TaskBoard updateData = new TaskBoard();
-        updateData.setTitle("Board 1");
-        updateData.setSorted(true);
-        updateData.setUser(new User());
+        TaskBoardDTO request = new TaskBoardDTO(null, "Board 1", true, null, null);
+        TaskBoardDTO updatedTaskBoard = new TaskBoardDTO(boardID, request.getTitle(), request.isSorted(), null, userID);
 
-        TaskBoardDTO request = taskBoardMapper.mapToTaskBoardDTO(updateData);
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
 
-        ArgumentCaptor<TaskBoard> captor = ArgumentCaptor.forClass(TaskBoard.class);
-
-        when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.of(copyOfExistingTaskBoard));
-        when(taskBoardRepository.update(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskBoardRepository.updateFields(eq(boardID), captor.capture())).thenReturn(Optional.of(updatedTaskBoard));
 
         TaskBoardDTO response = taskBoardService.updateTaskBoard(boardID, request);
-        TaskBoard capturedBoard = captor.getValue();
 
-        assertEquals(existingTaskBoard.getID(), capturedBoard.getID());
-        assertNotEquals(existingTaskBoard.getTitle(), capturedBoard.getTitle());
-        assertNotEquals(existingTaskBoard.isSorted(), capturedBoard.isSorted());
-        assertEquals(existingTaskBoard.getTasks(), capturedBoard.getTasks());
-        assertEquals(existingTaskBoard.getUser(), capturedBoard.getUser());
+        assertEquals(Map.of("title", request.getTitle(), "sorted", request.isSorted()), captor.getValue());
 
         assertNotNull(response);
-        assertEquals(updateData.getTitle(), response.getTitle());
-        assertEquals(updateData.isSorted(), response.isSorted());
+        assertEquals(boardID, response.getID());
+        assertEquals(request.getTitle(), response.getTitle());
+        assertEquals(request.isSorted(), response.isSorted());
 
-        verify(taskBoardRepository, times(1)).findByID(boardID);
-        verify(taskBoardRepository, times(1)).update(captor.capture());
+        verify(taskBoardRepository, times(0)).findByID(ArgumentMatchers.any(UUID.class), ArgumentMatchers.anyString());
+        verify(taskBoardRepository, times(1)).updateFields(eq(boardID), ArgumentMatchers.anyMap());
     }
 
     @Test
@@ -358,14 +461,14 @@ public class TaskBoardServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskBoardRepository, times(0)).update(ArgumentMatchers.any(TaskBoard.class));
+        verify(taskBoardRepository, times(0)).updateFields(ArgumentMatchers.any(), ArgumentMatchers.anyMap());
     }
 
     @Test
     void updateTaskBoard_InvalidTaskBoardID_ThrowsEntityNotFoundException() {
         UUID boardID = UUID.randomUUID();
 
-        when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.empty());
+        when(taskBoardRepository.updateFields(eq(boardID), ArgumentMatchers.anyMap())).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
             taskBoardService.updateTaskBoard(boardID, new TaskBoardDTO(null, null, false, null, null));
@@ -376,82 +479,47 @@ public class TaskBoardServiceTest {
 
         assertTrue(actualMessage.contains(expectedMessage));
 
-        verify(taskBoardRepository, times(1)).findByID(boardID);
-        verify(taskBoardRepository, times(0)).update(ArgumentMatchers.any(TaskBoard.class));
+        verify(taskBoardRepository, times(1)).updateFields(eq(boardID), ArgumentMatchers.anyMap());
     }
 
     @Test
-    void updateTaskBoard_EmptyTaskBoardTitle_ReturnsTaskBoardDTOWithSameTitle() {
+    void updateTaskBoard_EmptyTaskBoardTitle_DoesNotWriteTitle() {
         UUID boardID = UUID.randomUUID();
-        UUID userID = UUID.randomUUID();
-
-        User user = createDefaultUser(userID);
 
-        TaskBoard existingTaskBoard = createDefaultTaskBoard(boardID, user);
-        List<Task> listOfTasks = createDefaultListOfTasks(existingTaskBoard);
-        existingTaskBoard.setTasks(listOfTasks);
+        TaskBoardDTO request = new TaskBoardDTO(null, "", false, null, null);
+        TaskBoardDTO existingTaskBoard = new TaskBoardDTO(boardID, "Task board", false, null, UUID.randomUUID());
 
-        TaskBoard copyOfExistingTaskBoard = new TaskBoard();
-        BeanUtils.copyProperties(existingTaskBoard, copyOfExistingTaskBoard);
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
 
-        TaskBoard updateData = new TaskBoard();
-        updateData.setTitle("");
-        updateData.setUser(new User());
-
-        TaskBoardDTO request = taskBoardMapper.mapToTaskBoardDTO(updateData);
-
-        ArgumentCaptor<TaskBoard> captor = ArgumentCaptor.forClass(TaskBoard.class);
-
-        when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.of(copyOfExistingTaskBoard));
-        when(taskBoardRepository.update(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskBoardRepository.updateFields(eq(boardID), captor.capture()))
+                .thenReturn(Optional.of(existingTaskBoard));
 
         TaskBoardDTO response = taskBoardService.updateTaskBoard(boardID, request);
-        TaskBoard capturedTaskBoard = captor.getValue();
 
-        assertTaskBoardEquals(existingTaskBoard, capturedTaskBoard);
+        assertEquals(Map.of("sorted", false), captor.getValue());
 
         assertNotNull(response);
-        assertNotEquals(updateData.getTitle(), response.getTitle());
-
-        verify(taskBoardRepository, times(1)).findByID(boardID);
-        verify(taskBoardRepository, times(1)).update(captor.capture());
+        assertNotEquals(request.getTitle(), response.getTitle());
     }
 
     @Test
-    void updateTaskBoard_NullTaskBoardTitle_ReturnsTaskBoardDTOWithSameTitle() {
+    void updateTaskBoard_NullTaskBoardTitle_DoesNotWriteTitle() {
         UUID boardID = UUID.randomUUID();
-        UUID userID = UUID.randomUUID();
 
-        User user = createDefaultUser(userID);
+        TaskBoardDTO request = new TaskBoardDTO(null, null, false, null, null);
+        TaskBoardDTO existingTaskBoard = new TaskBoardDTO(boardID, "Task board", false, null, UUID.randomUUID());
 
-        TaskBoard existingTaskBoard = createDefaultTaskBoard(boardID, user);
-        List<Task> listOfTasks = createDefaultListOfTasks(existingTaskBoard);
-        existingTaskBoard.setTasks(listOfTasks);
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
 
-        TaskBoard copyOfExistingTaskBoard = new TaskBoard();
-        BeanUtils.copyProperties(existingTaskBoard, copyOfExistingTaskBoard);
-
-        TaskBoard updateData = new TaskBoard();
-        updateData.setTitle(null);
-        updateData.setUser(new User());
-
-        TaskBoardDTO request = taskBoardMapper.mapToTaskBoardDTO(updateData);
-
-        ArgumentCaptor<TaskBoard> captor = ArgumentCaptor.forClass(TaskBoard.class);
-
-        when(taskBoardRepository.findByID(boardID)).thenReturn(Optional.of(copyOfExistingTaskBoard));
-        when(taskBoardRepository.update(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskBoardRepository.updateFields(eq(boardID), captor.capture()))
+                .thenReturn(Optional.of(existingTaskBoard));
 
         TaskBoardDTO response = taskBoardService.updateTaskBoard(boardID, request);
-        TaskBoard capturedTaskBoard = captor.getValue();
 
-        assertTaskBoardEquals(existingTaskBoard, capturedTaskBoard);
+        assertEquals(Map.of("sorted", false), captor.getValue());
 
         assertNotNull(response);
-        assertNotEquals(updateData.getTitle(), response.getTitle());
-
-        verify(taskBoardRepository, times(1)).findByID(boardID);
-        verify(taskBoardRepository, times(1)).update(captor.capture());
+        assertNotEquals(request.getTitle(), response.getTitle());
     }
 
     @Test
@@ -467,6 +535,7 @@ public class TaskBoardServiceTest {
 
         verify(taskBoardRepository, times(1)).findByID(boardID);
         verify(taskBoardRepository, times(1)).delete(ArgumentMatchers.any(TaskBoard.class));
+        verify(ownershipIndex, times(1)).invalidateTaskBoard(boardID);
     }
 
     @Test
@@ -1,15 +1,24 @@
 package com.taskapproacher.task.service;
 
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.common.cache.SerializedResponseCache;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
 import com.taskapproacher.common.interfaces.attributes.TaskAttributes;
 import com.taskapproacher.task.constant.Priority;
+import com.taskapproacher.task.constant.TaskChangeType;
+import com.taskapproacher.task.constant.TaskConstants;
 import com.taskapproacher.task.mapper.TaskMapper;
 import com.taskapproacher.task.model.Task;
 import com.taskapproacher.task.model.TaskBoard;
+import com.taskapproacher.task.model.TaskBulkResult;
 import com.taskapproacher.task.model.TaskDTO;
+import com.taskapproacher.task.model.TaskEvent;
 import com.taskapproacher.task.repository.TaskRepository;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,14 +27,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.beans.BeanUtils;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
 
@@ -39,6 +51,14 @@ public class TaskServiceTest {
     private TaskRepository taskRepository;
     @Mock
     private TaskBoardService taskBoardService;
+    @Mock
+    private OwnershipIndex ownershipIndex;
+    @Mock
+    private SerializedResponseCache responseCache;
+    @Mock
+    private ChangeEventHub eventHub;
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
     @InjectMocks
     private TaskService taskService;
 
@@ -168,6 +188,8 @@ public class TaskServiceTest {
 
         verify(taskRepository, times(1)).save(ArgumentMatchers.any(Task.class));
         verify(taskBoardService, times(1)).findByID(boardID);
+        verify(eventHub, times(1)).publish(ChangeEventHub.BOARD_EVENTS, boardID, TaskConstants.TASK_EVENT,
+                                           new TaskEvent(TaskChangeType.CREATED, response.getID(), response));
     }
 
 
@@ -353,152 +375,228 @@ public class TaskServiceTest {
     @Test
     void updateTask_ValidTask_ReturnsTaskDTODataChanged() {
         UUID taskID = UUID.randomUUID();
-        UUID firstBoardID = UUID.randomUUID();
         UUID secondBoardID = UUID.randomUUID();
 
-        TaskBoard firstTaskBoard = createDefaultTaskBoard(firstBoardID, "First task board");
-        TaskBoard secondTaskBoard = createDefaultTaskBoard(secondBoardID, "Second task board");
+        TaskDTO request = new TaskDTO(null, "Updated Task Title", "Updated Task Description", Priority.CRITICAL,
+                                      LocalDate.now().plusDays(10), true, secondBoardID);
+        TaskDTO updatedTask = new TaskDTO(taskID, request.getTitle(), request.getDescription(), request.getPriority(),
+                                          request.getDeadline(), request.isFinished(), secondBoardID);
 
-        Task existingTask = createDefaultTask(taskID, firstTaskBoard);
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
 
-        Task copyOfExistingTask = new Task();
-        BeanUtils.copyProperties(existingTask, copyOfExistingTask);
-
-        Task updateData = new Task();
-        updateData.setTitle("Updated Task Title");
-        updateData.setDescription("Updated Task Description");
-        updateData.setPriority(Priority.CRITICAL);
-        updateData.setDeadline(LocalDate.now().plusDays(10));
-        updateData.setFinished(true);
-        updateData.setTaskBoard(secondTaskBoard);
-
-        TaskDTO request = taskMapper.mapToTaskDTO(updateData);
-
-        ArgumentCaptor<Task> captor = ArgumentCaptor.forClass(Task.class);
-
-        when(taskRepository.findByID(taskID)).thenReturn(Optional.of(copyOfExistingTask));
-        when(taskRepository.update(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(taskBoardService.findByID(ArgumentMatchers.any(UUID.class))).thenReturn(secondTaskBoard);
+        when(ownershipIndex.findUserID(secondBoardID)).thenReturn(Optional.of(UUID.randomUUID()));
+        when(taskRepository.updateFields(eq(taskID), captor.capture())).thenReturn(Optional.of(updatedTask));
 
         TaskDTO response = taskService.updateTask(taskID, request, DEFAULT_TIME_ZONE);
-        Task capturedTask = captor.getValue();
+        Map<String, Object> capturedFields = captor.getValue();
 
         assertAll(() -> {
-            assertEquals(existingTask.getID(), capturedTask.getID());
-            assertNotEquals(existingTask.getTitle(), capturedTask.getTitle());
-            assertNotEquals(existingTask.getDescription(), capturedTask.getDescription());
-            assertNotEquals(existingTask.getPriority(), capturedTask.getPriority());
-            assertNotEquals(existingTask.getDeadline(), capturedTask.getDeadline());
-            assertNotEquals(existingTask.isFinished(), capturedTask.isFinished());
-            assertNotEquals(existingTask.getTaskBoard(), capturedTask.getTaskBoard());
+            assertEquals(request.getTitle(), capturedFields.get("title"));
+            assertEquals(request.getDescription(), capturedFields.get("description"));
+            assertEquals(request.getPriority(), capturedFields.get("priority"));
+            assertEquals(request.getDeadline(), capturedFields.get("deadline"));
+            assertEquals(request.isFinished(), capturedFields.get("finished"));
+            assertEquals(secondBoardID, capturedFields.get("taskBoard"));
         });
 
-        assertTaskEquals(updateData, response);
+        assertTaskEquals(request, response);
         assertEquals(taskID, response.getID());
 
-        verify(taskRepository, times(1)).findByID(taskID);
-        verify(taskRepository, times(1)).update(captor.capture());
+        verify(taskRepository, times(0)).findByID(taskID);
+        verify(taskRepository, times(1)).updateFields(eq(taskID), ArgumentMatchers.anyMap());
+        verify(ownershipIndex, times(1)).invalidateTask(taskID);
     }
 
     @Test
-    void updateTask_OptionalTaskFieldsAreEmpty_ReturnsTaskDTODataDidNotChanged() {
+    void updateTask_OptionalTaskFieldsAreEmpty_WritesOnlySuppliedFields() {
         UUID taskID = UUID.randomUUID();
-        UUID boardID = UUID.randomUUID();
 
-        TaskBoard taskBoard = createDefaultTaskBoard(boardID, "First task board");
+        TaskDTO request = new TaskDTO(null, "", "", Priority.STANDARD, null, false, null);
+        TaskDTO existingTask = new TaskDTO(taskID, "Default Task", "Default task description", Priority.STANDARD,
+                                           LocalDate.now(), false, UUID.randomUUID());
 
-        Task existingTask = createDefaultTask(taskID, taskBoard);
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
 
-        Task copyOfExistingTask = new Task();
-        BeanUtils.copyProperties(existingTask, copyOfExistingTask);
+        when(taskRepository.updateFields(eq(taskID), captor.capture())).thenReturn(Optional.of(existingTask));
 
-        Task updateData = new Task();
-        updateData.setTitle("");
-        updateData.setDescription("");
-        updateData.setPriority(Priority.valueOf("STANDARD"));
-        updateData.setTaskBoard(taskBoard);
+        TaskDTO response = taskService.updateTask(taskID, request, DEFAULT_TIME_ZONE);
 
-        TaskDTO request = taskMapper.mapToTaskDTO(updateData);
+        assertEquals(Map.of("priority", Priority.STANDARD, "finished", false), captor.getValue());
 
-        ArgumentCaptor<Task> captor = ArgumentCaptor.forClass(Task.class);
+        assertEquals(taskID, response.getID());
+        assertNotEquals(request.getTitle(), response.getTitle());
 
-        when(taskRepository.findByID(taskID)).thenReturn(Optional.of(copyOfExistingTask));
-        when(taskRepository.update(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(taskBoardService.findByID(boardID)).thenReturn(taskBoard);
+        verify(taskRepository, times(1)).updateFields(eq(taskID), ArgumentMatchers.anyMap());
+        verify(ownershipIndex, times(0)).invalidateTask(taskID);
+    }
+
+    @Test
+    void updateTask_OptionalTaskFieldsAreNull_WritesOnlyFinished() {
+        UUID taskID = UUID.randomUUID();
+
+        TaskDTO request = new TaskDTO(null, null, null, null,
+                                      null, false, null);
+        TaskDTO existingTask = new TaskDTO(taskID, "Default Task", "Default task description", Priority.STANDARD,
+                                           LocalDate.now(), false, UUID.randomUUID());
+
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+
+        when(taskRepository.updateFields(eq(taskID), captor.capture())).thenReturn(Optional.of(existingTask));
 
         TaskDTO response = taskService.updateTask(taskID, request, DEFAULT_TIME_ZONE);
-        Task capturedTask = captor.getValue();
 
-        assertTaskEquals(existingTask, capturedTask);
+        assertEquals(Map.of("finished", false), captor.getValue());
 
-        assertEquals(taskID, response.getID());
-        assertNotEquals(updateData.getTitle(), response.getTitle());
-        assertEquals(updateData.getTaskBoardID(), response.getTaskBoardID());
+        assertNotEquals(request.getTitle(), response.getTitle());
+        assertNotEquals(request.getDescription(), response.getDescription());
 
-        verify(taskRepository, times(1)).findByID(taskID);
-        verify(taskRepository, times(1)).update(captor.capture());
+        verify(taskRepository, times(1)).updateFields(eq(taskID), ArgumentMatchers.anyMap());
     }
 
     @Test
-    void updateTask_OptionalTaskFieldsAreNull_ReturnsTaskDTO() {
-        UUID boardID = UUID.randomUUID();
+    void updateTask_InvalidTaskID_ThrowsEntityNotFoundException() {
         UUID taskID = UUID.randomUUID();
 
-        TaskBoard taskBoard = createDefaultTaskBoard(boardID, null);
+        TaskDTO request = createDefaultTaskDTO();
 
-        Task existingTask = createDefaultTask(taskID, taskBoard);
+        when(taskRepository.updateFields(eq(taskID), ArgumentMatchers.anyMap())).thenReturn(Optional.empty());
 
-        Task copyOfExistingTask = new Task();
-        BeanUtils.copyProperties(existingTask, copyOfExistingTask);
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+            taskService.updateTask(taskID, request, DEFAULT_TIME_ZONE);
+        });
 
-        TaskDTO updateData = new TaskDTO(null, null, null, null,
-                                         null, false, null);
+        String expectedMessage = "Task " + ExceptionMessage.NOT_FOUND;
+        String actualMessage = exception.getMessage();
 
-        ArgumentCaptor<Task> captor = ArgumentCaptor.forClass(Task.class);
+        assertEquals(expectedMessage, actualMessage);
+    }
 
-        when(taskRepository.findByID(taskID)).thenReturn(Optional.of(copyOfExistingTask));
-        when(taskRepository.update(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+    @Test
+    void updateTask_InvalidTaskBoardID_ThrowsEntityNotFoundException() {
+        UUID taskID = UUID.randomUUID();
+        UUID boardID = UUID.randomUUID();
 
-        TaskDTO response = taskService.updateTask(taskID, updateData, DEFAULT_TIME_ZONE);
-        Task capturedTask = captor.getValue();
+        TaskDTO request = new TaskDTO(null, "Task 1", null, null, null, false, boardID);
 
-        assertTaskEquals(existingTask, capturedTask);
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.empty());
 
-        assertNotEquals(updateData.getTitle(), response.getTitle());
-        assertNotEquals(updateData.getDescription(), response.getDescription());
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+            taskService.updateTask(taskID, request, DEFAULT_TIME_ZONE);
+        });
 
-        verify(taskRepository, times(1)).findByID(taskID);
-        verify(taskRepository, times(1)).update(captor.capture());
+        String expectedMessage = "Task board " + ExceptionMessage.NOT_FOUND;
+        String actualMessage = exception.getMessage();
+
+        assertEquals(expectedMessage, actualMessage);
+
+        verify(taskRepository, times(0)).updateFields(eq(taskID), ArgumentMatchers.anyMap());
     }
 
     @Test
     void updateTask_InvalidTaskDeadline_ThrowsIllegalArgumentException() {
         UUID taskID = UUID.randomUUID();
+
+        TaskDTO request = new TaskDTO(null, null, null, null,
+                                      LocalDate.now().minusDays(1), false, null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            taskService.updateTask(taskID, request, DEFAULT_TIME_ZONE);
+        });
+
+        String expectedMessage = ExceptionMessage.BEFORE_CURRENT_DATE.toString();
+        String actualMessage = exception.getMessage();
+
+        assertTrue(actualMessage.contains(expectedMessage));
+
+        verify(taskRepository, times(0)).updateFields(eq(taskID), ArgumentMatchers.anyMap());
+    }
+
+    @Test
+    void createTasks_OneInvalidTask_SavesValidTasksAndReportsInvalidOne() {
         UUID boardID = UUID.randomUUID();
 
         TaskBoard taskBoard = createDefaultTaskBoard(boardID, null);
+        TaskDTO invalidTask = new TaskDTO(null, "Task 2", null, null, LocalDate.now(), false, null);
+        List<TaskDTO> requests = List.of(createDefaultTaskDTO(), invalidTask, createDefaultTaskDTO());
 
-        Task existingTask = createDefaultTask(taskID, taskBoard);
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
 
-        Task updateData = new Task();
-        updateData.setDeadline(LocalDate.now().minusDays(1));
-        updateData.setTaskBoard(taskBoard);
+        when(taskBoardService.findByID(boardID)).thenReturn(taskBoard);
+        when(taskRepository.saveAll(captor.capture())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setID(UUID.randomUUID()));
+            return tasks;
+        });
+
+        List<TaskBulkResult> results = taskService.createTasks(boardID, requests, DEFAULT_TIME_ZONE);
 
-        TaskDTO request = taskMapper.mapToTaskDTO(updateData);
+        assertEquals(2, captor.getValue().size());
+        assertEquals(3, results.size());
+        assertNotNull(results.get(0).getTask());
+        assertEquals("Priority " + ExceptionMessage.NULL, results.get(1).getError());
+        assertNotNull(results.get(2).getTask());
+        assertEquals(boardID, results.get(2).getTask().getTaskBoardID());
+
+        verify(taskRepository, times(1)).saveAll(ArgumentMatchers.anyList());
+    }
 
-        when(taskRepository.findByID(taskID)).thenReturn(Optional.of(existingTask));
+    @Test
+    void createTasks_EmptyList_ThrowsIllegalArgumentException() {
+        UUID boardID = UUID.randomUUID();
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            taskService.updateTask(taskID, request, DEFAULT_TIME_ZONE);
+            taskService.createTasks(boardID, List.of(), DEFAULT_TIME_ZONE);
         });
 
-        String expectedMessage = ExceptionMessage.BEFORE_CURRENT_DATE.toString();
-        String actualMessage = exception.getMessage();
+        assertEquals(ExceptionMessage.INVALID_BULK_SIZE.toString(), exception.getMessage());
 
-        assertTrue(actualMessage.contains(expectedMessage));
+        verify(taskRepository, times(0)).saveAll(ArgumentMatchers.anyList());
+    }
 
-        verify(taskRepository, times(1)).findByID(taskID);
-        verify(taskRepository, times(0)).update(ArgumentMatchers.any(Task.class));
+    @Test
+    void updateTasks_TaskDeletedBeforeUpdate_UpdatesRemainingTasksAndReportsDeletedOne() {
+        UUID userID = UUID.randomUUID();
+        UUID boardID = UUID.randomUUID();
+        UUID updatedTaskID = UUID.randomUUID();
+        UUID deletedTaskID = UUID.randomUUID();
+
+        TaskDTO updatedRequest = new TaskDTO(updatedTaskID, "Updated task", null, null, null, false, null);
+        TaskDTO deletedRequest = new TaskDTO(deletedTaskID, "Deleted task", null, null, null, false, null);
+        Task updatedTask = createDefaultTask(updatedTaskID, createDefaultTaskBoard(boardID, null));
+
+        when(taskRepository.findTaskBoardIDsOwnedBy(Set.of(updatedTaskID, deletedTaskID), userID))
+                .thenReturn(Map.of(updatedTaskID, boardID, deletedTaskID, boardID));
+        when(taskRepository.updateAll(ArgumentMatchers.anyMap())).thenReturn(List.of(updatedTask));
+
+        List<TaskBulkResult> results = taskService.updateTasks(userID, List.of(updatedRequest, deletedRequest),
+                                                               DEFAULT_TIME_ZONE);
+
+        assertEquals(updatedTaskID, results.get(0).getTask().getID());
+        assertEquals(deletedTaskID, results.get(1).getID());
+        assertEquals("Task " + ExceptionMessage.NOT_FOUND, results.get(1).getError());
+    }
+
+    @Test
+    void deleteTasks_ForeignTask_DeletesOwnedTasksOnly() {
+        UUID userID = UUID.randomUUID();
+        UUID ownedTaskID = UUID.randomUUID();
+        UUID foreignTaskID = UUID.randomUUID();
+        UUID boardID = UUID.randomUUID();
+
+        when(taskRepository.findTaskBoardIDsOwnedBy(Set.of(ownedTaskID, foreignTaskID), userID))
+                .thenReturn(Map.of(ownedTaskID, boardID));
+        when(ownershipIndex.findUserID(boardID)).thenReturn(Optional.of(userID));
+
+        List<TaskBulkResult> results = taskService.deleteTasks(userID, List.of(ownedTaskID, foreignTaskID));
+
+        assertNull(results.get(0).getError());
+        assertEquals("Task " + ExceptionMessage.NOT_FOUND, results.get(1).getError());
+
+        verify(taskRepository, times(1)).deleteAll(Set.of(ownedTaskID));
+        verify(ownershipIndex, times(1)).invalidateTask(ownedTaskID);
+        verify(ownershipIndex, times(0)).invalidateTask(foreignTaskID);
+        verify(responseCache, times(1)).invalidate(SerializedResponseCache.BOARD_TASKS, boardID);
+        verify(responseCache, times(1)).invalidate(SerializedResponseCache.USER_BOARDS, userID);
     }
 
     @Test
@@ -514,6 +612,7 @@ public class TaskServiceTest {
 
         verify(taskRepository, times(1)).findByID(taskID);
         verify(taskRepository, times(1)).delete(ArgumentMatchers.any(Task.class));
+        verify(ownershipIndex, times(1)).invalidateTask(taskID);
     }
 
     @Test
@@ -6,6 +6,7 @@ import com.taskapproacher.auth.model.AuthRequest;
 import com.taskapproacher.auth.model.AuthResponse;
 import com.taskapproacher.common.constant.EntityNumber;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.utils.FixtureUsersTestExecutionListener;
 import com.taskapproacher.common.utils.TestApproacherDataUtils;
 import com.taskapproacher.task.mapper.TaskBoardMapper;
 import com.taskapproacher.task.model.TaskBoardDTO;
@@ -19,10 +20,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
@@ -35,11 +38,13 @@ import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
 
 //Tests naming convention: method_scenario_result
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@TestExecutionListeners(listeners = FixtureUsersTestExecutionListener.class, mergeMode = MERGE_WITH_DEFAULTS)
 public class UserControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -205,7 +210,31 @@ public class UserControllerTest {
                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                .andExpect(status().is(HttpStatus.OK.value()))
                .andExpect(jsonPath("$.[0].id").value(preInsertedTaskBoards.get(0).getID().toString()))
-               .andExpect(jsonPath("$.[1].id").value(preInsertedTaskBoards.get(1).getID().toString()));
+               .andExpect(jsonPath("$.[1].id").value(preInsertedTaskBoards.get(1).getID().toString()))
+               .andExpect(jsonPath("$.[0].taskCount").value(0))
+               .andExpect(jsonPath("$.[0].tasks").doesNotExist());
+    }
+
+    @Test
+    @Sql(scripts = {"/data/sql/clearData.sql", "/data/sql/insertUsers.sql", "/data/sql/insertBoards.sql"})
+    void getBoardsByUser_MatchingIfNoneMatch_ReturnsStatusCodeNotModifiedWithoutBody() throws Exception {
+        UUID userID = TestApproacherDataUtils.createPreInsertedUser(EntityNumber.FIRST).getID();
+
+        String path = PATH_TO_API + userID + "/boards";
+
+        String eTag = mockMvc.perform(request(HttpMethod.GET, path)
+                                              .header("Authorization", "Bearer " + token))
+                             .andExpect(status().is(HttpStatus.OK.value()))
+                             .andExpect(header().exists(HttpHeaders.ETAG))
+                             .andReturn()
+                             .getResponse()
+                             .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(request(HttpMethod.GET, path)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .header("Authorization", "Bearer " + token))
+               .andExpect(status().is(HttpStatus.NOT_MODIFIED.value()))
+               .andExpect(content().string(""));
     }
 
     @Test
@@ -0,0 +1,113 @@
+package com.taskapproacher.user.service;
+
+import com.taskapproacher.user.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+//Tests naming convention: method_scenario_result
+@ExtendWith(MockitoExtension.class)
+public class UserIdentityFilterTest {
+    @Mock
+    private UserRepository userRepository;
+
+    private UserIdentityFilter identityFilter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            BiConsumer<String, String> action = invocation.getArgument(0);
+            action.accept("TestUser1", "mail@mail.mail");
+
+            return null;
+        }).when(userRepository).forEachIdentity(ArgumentMatchers.any(BiConsumer.class));
+
+        identityFilter = new UserIdentityFilter(userRepository);
+        ReflectionTestUtils.setField(identityFilter, "expectedUsers", 1000);
+        ReflectionTestUtils.setField(identityFilter, "falsePositiveRate", 0.01);
+        identityFilter.init();
+    }
+
+    @Test
+    void mightContainUsername_LoadedUsername_ReturnsTrueIgnoringCaseAndSpaces() {
+        assertTrue(identityFilter.mightContainUsername("TestUser1"));
+        assertTrue(identityFilter.mightContainUsername(" testuser1 "));
+        assertTrue(identityFilter.mightContainEmail("MAIL@mail.mail"));
+    }
+
+    @Test
+    void mightContainUsername_EmailOfUser_ReturnsFalse() {
+        assertFalse(identityFilter.mightContainUsername("mail@mail.mail"));
+        assertFalse(identityFilter.mightContainEmail("TestUser1"));
+    }
+
+    @Test
+    void mightContainUsername_UnknownNames_ReturnsFalseForAlmostAll() {
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (identityFilter.mightContainUsername("New user " + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 200, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void addUsername_NewUsername_IsContained() {
+        assertFalse(identityFilter.mightContainUsername("New user"));
+
+        identityFilter.addUsername("New user");
+        identityFilter.addEmail("new@mail.mail");
+
+        assertTrue(identityFilter.mightContainUsername("New user"));
+        assertTrue(identityFilter.mightContainEmail("new@mail.mail"));
+    }
+
+    @Test
+    void markStale_ManyStaleEntries_RebuildsFromDatabase() {
+        ReflectionTestUtils.setField(identityFilter, "rebuildExecutor", (Executor) Runnable::run);
+        identityFilter.addUsername("Deleted user");
+
+        identityFilter.markStale(3);
+
+        assertFalse(identityFilter.mightContainUsername("Deleted user"));
+        assertTrue(identityFilter.mightContainUsername("TestUser1"));
+        verify(userRepository, times(2)).forEachIdentity(ArgumentMatchers.any());
+    }
+
+    @Test
+    void markStale_RepeatedWhileRebuildPending_SchedulesOneRebuildOffCallerThread() {
+        List<Runnable> rebuilds = new ArrayList<>();
+        ReflectionTestUtils.setField(identityFilter, "rebuildExecutor", (Executor) rebuilds::add);
+        identityFilter.addUsername("Deleted user");
+
+        identityFilter.markStale(3);
+        identityFilter.markStale(3);
+
+        assertEquals(1, rebuilds.size());
+        assertTrue(identityFilter.mightContainUsername("Deleted user"));
+        verify(userRepository, times(1)).forEachIdentity(ArgumentMatchers.any());
+
+        rebuilds.get(0).run();
+
+        assertFalse(identityFilter.mightContainUsername("Deleted user"));
+        verify(userRepository, times(2)).forEachIdentity(ArgumentMatchers.any());
+    }
+}
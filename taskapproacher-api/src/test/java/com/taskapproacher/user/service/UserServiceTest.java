@@ -1,9 +1,14 @@
 package com.taskapproacher.user.service;
 
+import com.taskapproacher.auth.service.OwnershipIndex;
+import com.taskapproacher.auth.service.TokenDenylist;
+import com.taskapproacher.auth.service.TokenVersionCache;
+import com.taskapproacher.common.cache.SerializedResponseCache;
 import com.taskapproacher.common.constant.ExceptionMessage;
+import com.taskapproacher.common.event.ChangeEventHub;
 import com.taskapproacher.common.exception.custom.EntityAlreadyExistsException;
 import com.taskapproacher.task.model.TaskBoard;
-import com.taskapproacher.task.model.TaskBoardDTO;
+import com.taskapproacher.task.model.TaskBoardSummaryDTO;
 import com.taskapproacher.user.constant.Role;
 import com.taskapproacher.user.model.User;
 import com.taskapproacher.user.model.UserDTO;
@@ -40,6 +45,18 @@ public class UserServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+    @Mock
+    private TokenDenylist tokenDenylist;
+    @Mock
+    private OwnershipIndex ownershipIndex;
+    @Mock
+    private SerializedResponseCache responseCache;
+    @Mock
+    private ChangeEventHub eventHub;
+    @Mock
+    private UserIdentityFilter identityFilter;
 
     private User createDefaultUser(UUID userID) {
         User user = new User();
@@ -108,6 +125,30 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findByID(userID);
     }
 
+    @Test
+    void findBoardsVersion_ValidID_ReturnsVersion() {
+        UUID userID = UUID.randomUUID();
+
+        when(userRepository.findBoardsVersion(userID)).thenReturn(Optional.of(3L));
+
+        assertEquals(3L, userService.findBoardsVersion(userID));
+
+        verify(userRepository, times(1)).findBoardsVersion(userID);
+    }
+
+    @Test
+    void findBoardsVersion_InvalidID_ThrowsEntityNotFoundException() {
+        UUID userID = UUID.randomUUID();
+
+        when(userRepository.findBoardsVersion(userID)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+            userService.findBoardsVersion(userID);
+        });
+
+        assertTrue(exception.getMessage().contains(ExceptionMessage.NOT_FOUND.toString()));
+    }
+
     @Test
     void findByID_NullID_ThrowsIllegalArgumentException() {
         UUID userID = null;
@@ -190,39 +231,44 @@ public class UserServiceTest {
     }
 
     @Test
-    void findBoardsByUser_ValidUserID_ReturnsTaskBoardDTOList() {
+    void findBoardsByUser_ValidUserID_ReturnsTaskBoardSummaryDTOList() {
         UUID userID = UUID.randomUUID();
         User user = createDefaultUser(userID);
 
-        List<TaskBoard> mockBoards = createDefaultListOfTaskBoards(user);
+        List<TaskBoardSummaryDTO> mockBoards = List.of(
+                new TaskBoardSummaryDTO(UUID.randomUUID(), "First board", false, userID, 2),
+                new TaskBoardSummaryDTO(UUID.randomUUID(), "Second board", true, userID, 0)
+        );
 
         when(userRepository.findByID(userID)).thenReturn(Optional.of(user));
-        when(userRepository.findRelatedEntitiesByID(userID)).thenReturn(mockBoards);
+        when(userRepository.findTaskBoardSummaries(userID)).thenReturn(mockBoards);
 
-        List<TaskBoardDTO> responseBoards = userService.findBoardsByUser(userID);
+        List<TaskBoardSummaryDTO> responseBoards = userService.findBoardsByUser(userID);
 
         assertEquals(responseBoards.size(), 2);
         assertEquals(responseBoards.get(0).getID(), mockBoards.get(0).getID());
+        assertEquals(responseBoards.get(0).getTaskCount(), 2);
         assertEquals(responseBoards.get(1).getID(), mockBoards.get(1).getID());
 
         verify(userRepository, times(1)).findByID(userID);
-        verify(userRepository, times(1)).findRelatedEntitiesByID(userID);
+        verify(userRepository, times(1)).findTaskBoardSummaries(userID);
+        verify(userRepository, times(0)).findRelatedEntitiesByID(userID);
     }
 
     @Test
-    void findBoardsByUser_ValidUserIDZeroTaskBoards_ReturnsEmptyTaskBoardDTOList() {
+    void findBoardsByUser_ValidUserIDZeroTaskBoards_ReturnsEmptyTaskBoardSummaryDTOList() {
         UUID userID = UUID.randomUUID();
         User user = createDefaultUser(userID);
 
         when(userRepository.findByID(userID)).thenReturn(Optional.of(user));
-        when(userRepository.findRelatedEntitiesByID(userID)).thenReturn(List.of());
+        when(userRepository.findTaskBoardSummaries(userID)).thenReturn(List.of());
 
-        List<TaskBoardDTO> responseBoards = userService.findBoardsByUser(userID);
+        List<TaskBoardSummaryDTO> responseBoards = userService.findBoardsByUser(userID);
 
         assertEquals(responseBoards.size(), 0);
 
         verify(userRepository, times(1)).findByID(userID);
-        verify(userRepository, times(1)).findRelatedEntitiesByID(userID);
+        verify(userRepository, times(1)).findTaskBoardSummaries(userID);
     }
 
     @Test
@@ -239,7 +285,7 @@ public class UserServiceTest {
         assertTrue(actualMessage.contains(expectedMessage));
 
         verify(userRepository, times(0)).findByID(userID);
-        verify(userRepository, times(0)).findRelatedEntitiesByID(userID);
+        verify(userRepository, times(0)).findTaskBoardSummaries(userID);
     }
 
     @Test
@@ -258,7 +304,7 @@ public class UserServiceTest {
         assertTrue(actualMessage.contains(expectedMessage));
 
         verify(userRepository, times(1)).findByID(userID);
-        verify(userRepository, times(0)).findRelatedEntitiesByID(userID);
+        verify(userRepository, times(0)).findTaskBoardSummaries(userID);
     }
 
     @Test
@@ -270,6 +316,7 @@ public class UserServiceTest {
         ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
 
         when(userRepository.save(captor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(identityFilter.mightContainUsername(user.getUsername())).thenReturn(true);
         when(userRepository.isUserExists(ArgumentMatchers.any(User.class))).thenReturn(false);
         when(passwordEncoder.encode(user.getPassword())).thenReturn(encodedPassword);
 
@@ -289,6 +336,23 @@ public class UserServiceTest {
 
         verify(userRepository, times(1)).save(captor.capture());
         verify(userRepository, times(1)).isUserExists(ArgumentMatchers.any(User.class));
+        verify(identityFilter, times(1)).addUsername(user.getUsername());
+        verify(identityFilter, times(1)).addEmail(user.getEmail());
+    }
+
+    @Test
+    void createUser_UnknownUsernameAndEmail_SkipsExistenceQuery() {
+        User user = createDefaultUser(UUID.randomUUID());
+
+        when(userRepository.save(ArgumentMatchers.any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(passwordEncoder.encode(user.getPassword())).thenReturn("encodedUserPass");
+
+        User response = userService.createUser(user);
+
+        assertEquals(user.getUsername(), response.getUsername());
+
+        verify(userRepository, times(0)).isUserExists(ArgumentMatchers.any(User.class));
+        verify(userRepository, times(1)).save(ArgumentMatchers.any(User.class));
     }
 
     @Test
@@ -403,6 +467,7 @@ public class UserServiceTest {
     void createUser_UserAlreadyExists_ThrowsEntityAlreadyExistsException() {
         User user = createDefaultUser(UUID.randomUUID());
 
+        when(identityFilter.mightContainUsername(user.getUsername())).thenReturn(true);
         when(userRepository.isUserExists(ArgumentMatchers.any(User.class))).thenReturn(true);
 
         EntityAlreadyExistsException exception = assertThrows(EntityAlreadyExistsException.class, () -> {
@@ -415,6 +480,7 @@ public class UserServiceTest {
         assertTrue(actualMessage.contains(expectedMessage));
 
         verify(userRepository, times(1)).isUserExists(ArgumentMatchers.any(User.class));
+        verify(passwordEncoder, times(0)).encode(ArgumentMatchers.any(String.class));
         verify(userRepository, times(0)).save(ArgumentMatchers.any(User.class));
     }
 
@@ -436,6 +502,8 @@ public class UserServiceTest {
         ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
 
         when(userRepository.findByID(userID)).thenReturn(Optional.of(copyOfExistingUser));
+        when(identityFilter.mightContainUsername(updateData.getUsername())).thenReturn(true);
+        when(identityFilter.mightContainEmail(updateData.getEmail())).thenReturn(true);
         when(userRepository.isUsernameAlreadyTaken(ArgumentMatchers.any(String.class))).thenReturn(false);
         when(userRepository.isEmailAlreadyTaken(ArgumentMatchers.any(String.class))).thenReturn(false);
         when(passwordEncoder.encode(updateData.getPassword())).thenReturn(newEncodedPassword);
@@ -450,6 +518,7 @@ public class UserServiceTest {
         assertEquals(newEncodedPassword, capturedUser.getPassword());
         assertEquals(existingUser.getRole(), capturedUser.getRole());
         assertEquals(existingUser.getTaskBoards(), capturedUser.getTaskBoards());
+        assertEquals(existingUser.getTokenVersion() + 1, capturedUser.getTokenVersion());
 
         assertNotNull(response);
         assertEquals(updateData.getUsername(), response.getUsername());
@@ -460,6 +529,8 @@ public class UserServiceTest {
         verify(userRepository, times(1)).isEmailAlreadyTaken(ArgumentMatchers.any(String.class));
         verify(passwordEncoder, times(1)).encode(ArgumentMatchers.any(String.class));
         verify(userRepository, times(1)).update(captor.capture());
+        verify(tokenVersionCache, times(1)).invalidate(userID);
+        verify(tokenDenylist, times(1)).revokeUser(userID);
     }
 
     @Test
@@ -609,6 +680,7 @@ public class UserServiceTest {
         updateData.setUsername("ABUsernameBA");
 
         when(userRepository.findByID(userID)).thenReturn(Optional.of(user));
+        when(identityFilter.mightContainUsername(updateData.getUsername())).thenReturn(true);
         when(userRepository.isUsernameAlreadyTaken(ArgumentMatchers.any(String.class))).thenReturn(true);
 
         EntityAlreadyExistsException exception = assertThrows(EntityAlreadyExistsException.class, () -> {
@@ -636,6 +708,7 @@ public class UserServiceTest {
         updateData.setEmail("AB@mail.mail");
 
         when(userRepository.findByID(userID)).thenReturn(Optional.of(user));
+        when(identityFilter.mightContainEmail(updateData.getEmail())).thenReturn(true);
         when(userRepository.isEmailAlreadyTaken(ArgumentMatchers.any(String.class))).thenReturn(true);
 
         EntityAlreadyExistsException exception = assertThrows(EntityAlreadyExistsException.class, () -> {
@@ -667,6 +740,8 @@ public class UserServiceTest {
 
         verify(userRepository, times(1)).findByID(userID);
         verify(userRepository, times(1)).delete(ArgumentMatchers.any(User.class));
+        verify(ownershipIndex, times(1)).invalidateUser(userID);
+        verify(tokenDenylist, times(1)).revokeUser(userID);
     }
 
     @Test